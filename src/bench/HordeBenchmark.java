@@ -0,0 +1,211 @@
+package src.bench;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import com.sun.management.ThreadMXBean;
+
+import src.core.CommandBuffer;
+import src.core.Constants;
+import src.core.EnemyUpdater;
+import src.core.ProjectileManager;
+import src.core.SoundManager;
+import src.core.TimeFreezeManager;
+import src.core.WaveManager;
+import src.core.WaveScript;
+import src.entities.EnemyArchetype;
+import src.entities.EnemyArchetypes;
+import src.entities.Player;
+import src.input.KeyboardInput;
+import src.world.Level;
+
+/**
+ * Banc d'essai de charge : une horde de N ennemis et M projectiles mis à
+ * jour par le vrai chemin du jeu ({@link WaveManager}, {@link CommandBuffer},
+ * physique, {@link ProjectileManager}), sans fenêtre ni son.
+ *
+ * <p>Lancement :</p>
+ * <pre>
+ * java -Djava.awt.headless=true -cp out \
+ *     src.bench.HordeBenchmark [ennemis] [projectiles] [ticks] [archétypes]
+ * </pre>
+ * <p>Les archétypes sont séparés par des virgules ({@code ENEMY01,ENEMY02}) et
+ * répartis à tour de rôle. Le banc joue une seule vague vide, sans mode sans
+ * fin (les vagues du jeu ne sont pas modifiées) : seuls les ennemis du
+ * scénario sont présents. Les projectiles
+ * sortis de l'écran sont remplacés entre deux ticks pour que leur nombre
+ * reste constant.</p>
+ *
+ * <p>Après un échauffement, le banc affiche les ticks par seconde, le temps
+ * moyen de chaque étape du tick (décision et action des ennemis détaillées),
+ * les octets alloués par tick (tous threads confondus, si la JVM le permet)
+ * et les statistiques de l'IA : décisions prises, jetons d'attaque et
+ * lancers de rayon.</p>
+ */
+public final class HordeBenchmark {
+
+    private static final double DT = 1.0 / 60;
+    private static final int WARMUP_TICKS = 120;
+
+    /** Étapes mesurées, dans l'ordre du tick de {@code Game}. */
+    private static final String[] STAGES = { "joueur", "vagues", "commandes", "physique", "projectiles" };
+
+    private final int projectiles;
+    private final Random random = new Random(42);
+
+    private final Level level;
+    private final Player player;
+    private final ProjectileManager projectileManager;
+    private final WaveManager waveManager;
+    private final CommandBuffer commands = new CommandBuffer();
+
+    private final long[] stageNanos = new long[STAGES.length];
+    private long thinkNanos, actNanos;
+    private long thinks;
+
+    private HordeBenchmark(int enemies, int projectiles, EnemyArchetype[] archetypes) {
+        this.projectiles = projectiles;
+
+        level = new Level();
+        player = new Player(Constants.WINDOW_WIDTH / 2.0 - 25, 200, new KeyboardInput(), level);
+        TimeFreezeManager freeze = new TimeFreezeManager();
+        projectileManager = new ProjectileManager(level, player, freeze);
+        waveManager = new WaveManager(level, player, projectileManager, freeze,
+                List.of(WaveScript.empty(1e9)), null);
+        projectileManager.setCommandBuffer(commands);
+        waveManager.setCommandBuffer(commands);
+
+        for (int i = 0; i < enemies; i++) {
+            double x = 40 + random.nextDouble() * (Constants.WINDOW_WIDTH - 140);
+            double y = 40 + random.nextDouble() * (Constants.WINDOW_HEIGHT - 200);
+            waveManager.spawnEnemy(archetypes[i % archetypes.length], x, y);
+        }
+        topUpProjectiles();
+        commands.apply(level, waveManager, projectileManager, null);
+    }
+
+    /** Remplace les projectiles sortis de l'écran (hors mesure). */
+    private void topUpProjectiles() {
+        for (int i = projectileManager.getBulletCount(); i < projectiles; i++) {
+            double angle = random.nextDouble() * Math.PI * 2;
+            projectileManager.spawnBullet(
+                    random.nextDouble() * Constants.WINDOW_WIDTH,
+                    random.nextDouble() * Constants.WINDOW_HEIGHT,
+                    Math.cos(angle) * 400, Math.sin(angle) * 400, 1);
+        }
+    }
+
+    /** Un tick complet, chaque étape chronométrée. */
+    private void tick() {
+        EnemyUpdater updater = waveManager.getEnemyUpdater();
+
+        long t0 = System.nanoTime();
+        player.update(DT);
+        long t1 = System.nanoTime();
+        waveManager.update(DT);
+        long t2 = System.nanoTime();
+        commands.apply(level, waveManager, projectileManager, null);
+        long t3 = System.nanoTime();
+        level.getPhysicsWorld().step(DT);
+        long t4 = System.nanoTime();
+        projectileManager.update(DT);
+        long t5 = System.nanoTime();
+
+        stageNanos[0] += t1 - t0;
+        stageNanos[1] += t2 - t1;
+        stageNanos[2] += t3 - t2;
+        stageNanos[3] += t4 - t3;
+        stageNanos[4] += t5 - t4;
+        thinkNanos += updater.getLastThinkNanos();
+        actNanos += updater.getLastActNanos();
+        thinks += updater.getScheduler().getThinkCount();
+
+        topUpProjectiles();
+    }
+
+    private void resetStatistics() {
+        Arrays.fill(stageNanos, 0);
+        thinkNanos = 0;
+        actNanos = 0;
+        thinks = 0;
+    }
+
+    /** @return octets alloués par tous les threads vivants, ou -1 si non mesurable */
+    private static long allocatedBytes() {
+        Object bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof ThreadMXBean)) return -1;
+        ThreadMXBean threads = (ThreadMXBean) bean;
+        if (!threads.isThreadAllocatedMemorySupported() || !threads.isThreadAllocatedMemoryEnabled()) return -1;
+
+        long total = 0;
+        for (long bytes : threads.getThreadAllocatedBytes(threads.getAllThreadIds())) {
+            if (bytes > 0) total += bytes;
+        }
+        return total;
+    }
+
+    private static EnemyArchetype[] archetypes(String names) {
+        String[] split = names.split(",");
+        EnemyArchetype[] result = new EnemyArchetype[split.length];
+        for (int i = 0; i < split.length; i++) {
+            result[i] = EnemyArchetypes.get(split[i].trim());
+            if (result[i] == null) {
+                throw new IllegalArgumentException("archétype inconnu : " + split[i].trim());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Point d'entrée.
+     *
+     * @param args nombre d'ennemis (défaut 1 000), nombre de projectiles
+     *             (défaut 500), nombre de ticks mesurés (défaut 600),
+     *             archétypes (défaut {@code ENEMY01,ENEMY02,ENEMY03})
+     */
+    public static void main(String[] args) {
+        int enemies = args.length > 0 ? Integer.parseInt(args[0]) : 1_000;
+        int projectiles = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+        int ticks = args.length > 2 ? Integer.parseInt(args[2]) : 600;
+        EnemyArchetype[] archetypes = archetypes(args.length > 3 ? args[3] : "ENEMY01,ENEMY02,ENEMY03");
+
+        SoundManager.setMuted(true);
+
+        System.out.println("Ennemis : " + enemies + ", projectiles : " + projectiles + ", ticks : " + ticks);
+
+        HordeBenchmark bench = new HordeBenchmark(enemies, projectiles, archetypes);
+        for (int i = 0; i < WARMUP_TICKS; i++) bench.tick();
+        bench.resetStatistics();
+        long raycastsBefore = bench.level.getLineOfSight().getRaycastCount();
+
+        long allocBefore = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ticks; i++) bench.tick();
+        long elapsed = System.nanoTime() - start;
+        long allocAfter = allocatedBytes();
+
+        System.out.printf("%-12s %10.1f ticks/s%n", "débit", ticks / (elapsed / 1e9));
+        for (int s = 0; s < STAGES.length; s++) {
+            System.out.printf("%-12s %10.3f ms/tick%n", STAGES[s], bench.stageNanos[s] / 1e6 / ticks);
+        }
+        System.out.printf("  %-10s %10.3f ms/tick%n", "décision", bench.thinkNanos / 1e6 / ticks);
+        System.out.printf("  %-10s %10.3f ms/tick%n", "action", bench.actNanos / 1e6 / ticks);
+
+        if (allocBefore >= 0 && allocAfter >= 0) {
+            System.out.printf("%-12s %10.1f Ko/tick%n", "allocation", (allocAfter - allocBefore) / 1024.0 / ticks);
+        } else {
+            System.out.println("allocation   non mesurable sur cette JVM");
+        }
+
+        EnemyUpdater updater = bench.waveManager.getEnemyUpdater();
+        System.out.printf("Ennemis vivants : %d, projectiles : %d%n",
+                bench.waveManager.getEnemies().size(), bench.projectileManager.getBulletCount());
+        System.out.printf("Décisions : %.1f/tick, jetons d'attaque : %d, en attente : %d, rayons : %.1f/tick%n",
+                (double) bench.thinks / ticks,
+                updater.getAttackCoordinator().getGrantedCount(),
+                updater.getAttackCoordinator().getWaitingCount(),
+                (double) (bench.level.getLineOfSight().getRaycastCount() - raycastsBefore) / ticks);
+    }
+}
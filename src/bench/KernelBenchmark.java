@@ -0,0 +1,84 @@
+package src.bench;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+import src.util.BatchKernels;
+
+/**
+ * Banc d'essai des {@link BatchKernels} sur des colonnes de projectiles.
+ *
+ * <p>Lancement :</p>
+ * <pre>
+ * java -cp out src.bench.KernelBenchmark [projectiles] [itérations]
+ * </pre>
+ *
+ * <p>Le banc affiche le temps moyen d'une passe (intégration, élimination
+ * hors écran et phase large, comme une frame de {@code ProjectileManager})
+ * et le débit en projectiles par milliseconde.</p>
+ */
+public final class KernelBenchmark {
+
+    private static final int WARMUP_PASSES = 2_000;
+
+    private final int n;
+    private final ByteBuffer x, y, vx, vy, w, h, flags;
+
+    private KernelBenchmark(int n, long seed) {
+        this.n = n;
+        x = column(n, 8);
+        y = column(n, 8);
+        vx = column(n, 8);
+        vy = column(n, 8);
+        w = column(n, 8);
+        h = column(n, 8);
+        flags = column(n, 4);
+
+        Random random = new Random(seed);
+        for (int i = 0; i < n; i++) {
+            x.putDouble(i << 3, random.nextDouble() * 1400 - 60);
+            y.putDouble(i << 3, random.nextDouble() * 900 - 60);
+            vx.putDouble(i << 3, random.nextDouble() * 800 - 400);
+            vy.putDouble(i << 3, random.nextDouble() * 800 - 400);
+            w.putDouble(i << 3, 10);
+            h.putDouble(i << 3, 10);
+        }
+    }
+
+    private static ByteBuffer column(int n, int bytes) {
+        return ByteBuffer.allocateDirect(n * bytes).order(ByteOrder.nativeOrder());
+    }
+
+    /** Une passe de chaque noyau, comme une frame de {@code ProjectileManager}. */
+    private void pass(double dt) {
+        BatchKernels.integrate(x, vx, n, dt);
+        BatchKernels.integrate(y, vy, n, dt);
+        BatchKernels.cullOutside(x, y, w, h, flags, n, 1280, 760, 1);
+        BatchKernels.overlapFlags(x, y, w, h, flags, n, 600, 300, 50, 80, 2);
+    }
+
+    private long time(int passes) {
+        for (int i = 0; i < WARMUP_PASSES; i++) pass(1e-9);
+        long start = System.nanoTime();
+        for (int i = 0; i < passes; i++) pass(1e-6);
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Point d'entrée.
+     *
+     * @param args nombre de projectiles (défaut 100 000), nombre de passes (défaut 2 000)
+     */
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int passes = args.length > 1 ? Integer.parseInt(args[1]) : 2_000;
+
+        System.out.println("Projectiles : " + n + ", passes : " + passes);
+
+        long ns = new KernelBenchmark(n, 42).time(passes);
+        double nsPerPass = (double) ns / passes;
+        System.out.printf("%-14s %10.1f us/passe %14.0f projectiles/ms%n",
+                "batch", nsPerPass / 1000.0, n / (nsPerPass / 1_000_000.0));
+    }
+}
@@ -0,0 +1,273 @@
+package src.core;
+
+import src.entities.Enemy;
+import src.entities.EnemyArchetype;
+import src.entities.LivingEntity;
+
+import java.util.List;
+
+/**
+ * Niveau de détail de l'IA : choisit, à chaque tick, les ennemis qui
+ * prennent une décision ({@link Enemy#think(double)}) et ceux qui se
+ * contentent de garder leur cap ({@link Enemy#coast(double)}).
+ *
+ * <p>Les distances sont rapportées à la portée d'engagement de chaque
+ * archétype (la plus grande de ses portées de tir et de charge, plus
+ * {@link #ENGAGE_MARGIN}). Chaque ennemi est rangé dans un palier :</p>
+ * <ul>
+ *     <li>{@link #TIER_ACTIVE} : décision à chaque tick. D'office pour un
+ *         détenteur de jeton d'attaque (charge, coup) et pour un ennemi en
+ *         l'air ou sur le point de sauter (décollage et réception ne
+ *         souffrent aucun retard) ; sinon pour les {@link #getActiveSlots()}
+ *         candidats les plus proches du joueur, un candidat étant en pleine
+ *         attaque sans jeton (tir, fuite...) ou à portée d'engagement ;</li>
+ *     <li>{@link #TIER_NEAR} : candidat sans place au palier actif, ou à
+ *         moins de {@link #NEAR_FACTOR} portées d'engagement — un tick sur
+ *         deux ;</li>
+ *     <li>{@link #TIER_FAR} : plus loin — un tick sur quatre.</li>
+ * </ul>
+ *
+ * <p>Le temps des ticks sautés est rattrapé par la décision suivante. Les
+ * compteurs de départ sont décalés d'un ennemi à l'autre pour répartir les
+ * décisions d'une vague sur les ticks plutôt que de les concentrer.</p>
+ *
+ * <p>Les ennemis du palier actif décident toujours. Pour les autres, au-delà
+ * de {@link #getBudget()} décisions par tick, les ennemis arrivés à échéance
+ * sont reportés au tick suivant (le parcours reprend là où il s'était
+ * arrêté). Le nombre de décisions par tick est donc borné par les places
+ * actives, les jetons d'attaque, le budget et les ennemis en plein saut
+ * (un état bref), quelle que soit la taille de la horde.</p>
+ *
+ * <p>La planification se fait sur le thread du jeu, après la distribution
+ * des jetons et avant la phase think ; le résultat ({@link #isDue(int)})
+ * n'est ensuite que lu. Le niveau de détail peut être désactivé au
+ * lancement avec {@code -Dgame.aiLod=false}.</p>
+ */
+public class AiScheduler {
+
+    /** Décision à chaque tick. */
+    public static final int TIER_ACTIVE = 0;
+    /** Décision un tick sur deux. */
+    public static final int TIER_NEAR = 1;
+    /** Décision un tick sur quatre. */
+    public static final int TIER_FAR = 2;
+    /** Nombre de paliers. */
+    public static final int TIER_COUNT = 3;
+
+    /** Période (en ticks) de chaque palier. */
+    private static final int[] PERIOD = {1, 2, 4};
+
+    /** Marge ajoutée aux portées de l'archétype pour anticiper l'engagement. */
+    public static final double ENGAGE_MARGIN = 50.0;
+    /** Au-delà de ce multiple de la portée d'engagement, un ennemi est lointain. */
+    public static final double NEAR_FACTOR = 2.0;
+
+    /** Nombre par défaut de places au palier actif (hors jetons d'attaque). */
+    public static final int DEFAULT_ACTIVE_SLOTS = 32;
+    /** Nombre par défaut de décisions par tick hors palier actif. */
+    public static final int DEFAULT_BUDGET = 96;
+
+    private boolean enabled;
+    private int budget;
+    private int activeSlots;
+
+    /** Décision de chaque entité pour le tick courant (indice dans la liste). */
+    private boolean[] due = new boolean[64];
+
+    /** Tas max des candidats au palier actif (indice, distance au carré). */
+    private int[] heapIndex = new int[DEFAULT_ACTIVE_SLOTS];
+    private double[] heapKey = new double[DEFAULT_ACTIVE_SLOTS];
+    private int heapSize;
+
+    /** Décalage attribué au prochain ennemi planifié. */
+    private int stagger;
+    /** Position de reprise du parcours lorsque le budget est atteint. */
+    private int cursor;
+
+    // Statistiques du dernier tick
+    private final int[] tierCounts = new int[TIER_COUNT];
+    private int thinkCount;
+    private int deferredCount;
+
+    /** Crée un ordonnanceur avec le budget par défaut. */
+    public AiScheduler() {
+        this(DEFAULT_BUDGET);
+    }
+
+    /**
+     * @param budget nombre de décisions par tick hors palier actif au-delà
+     *               duquel les ennemis sont reportés (au moins 1)
+     */
+    public AiScheduler(int budget) {
+        this.budget = Math.max(1, budget);
+        this.activeSlots = DEFAULT_ACTIVE_SLOTS;
+        this.enabled = !"false".equals(System.getProperty("game.aiLod"));
+    }
+
+    /**
+     * Planifie le tick courant : palier de chaque ennemi, puis ennemis
+     * qui décident. La liste ne doit pas être modifiée avant la fin de la
+     * phase think.
+     *
+     * @param entities entités actives
+     */
+    public void schedule(List<LivingEntity> entities) {
+        int n = entities.size();
+        if (due.length < n) due = new boolean[Math.max(n, due.length * 2)];
+        for (int t = 0; t < TIER_COUNT; t++) tierCounts[t] = 0;
+        thinkCount = 0;
+        deferredCount = 0;
+
+        // Paliers ; les candidats au palier actif passent par le tas
+        heapSize = 0;
+        for (int i = 0; i < n; i++) {
+            LivingEntity e = entities.get(i);
+            due[i] = false;
+            if (!(e instanceof Enemy)) continue;
+            Enemy enemy = (Enemy) e;
+            enemy.setAiTier(enabled ? tierOf(enemy, i) : TIER_ACTIVE);
+        }
+        for (int h = 0; h < heapSize; h++) {
+            ((Enemy) entities.get(heapIndex[h])).setAiTier(TIER_ACTIVE);
+        }
+
+        // Compteurs, et ennemis qui ne peuvent pas attendre
+        for (int i = 0; i < n; i++) {
+            LivingEntity e = entities.get(i);
+            if (!(e instanceof Enemy)) continue;
+            Enemy enemy = (Enemy) e;
+            int tier = enemy.getAiTier();
+            int period = PERIOD[tier];
+            tierCounts[tier]++;
+
+            int countdown = enemy.getAiCountdown();
+            if (countdown < 0) {
+                countdown = stagger++ % period;   // premier passage : décalage
+            } else {
+                countdown = Math.max(0, Math.min(countdown - 1, period - 1));
+            }
+            enemy.setAiCountdown(countdown);
+
+            due[i] = tier == TIER_ACTIVE;
+            if (due[i]) {
+                enemy.setAiCountdown(0);
+                thinkCount++;
+            }
+        }
+
+        // Ennemis arrivés à échéance, dans la limite du budget
+        int scheduled = 0;
+        int start = cursor;
+        for (int k = 0; k < n; k++) {
+            int i = (start + k) % n;
+            LivingEntity e = entities.get(i);
+            if (!(e instanceof Enemy) || due[i]) continue;
+            Enemy enemy = (Enemy) e;
+            if (enemy.getAiCountdown() > 0) continue;
+
+            if (scheduled >= budget) {
+                deferredCount++;
+                continue;
+            }
+            due[i] = true;
+            enemy.setAiCountdown(PERIOD[enemy.getAiTier()]);
+            thinkCount++;
+            scheduled++;
+            cursor = i + 1;
+        }
+        if (cursor >= n) cursor = 0;
+    }
+
+    /**
+     * Range un ennemi ; un candidat au palier actif est proposé au tas et
+     * reste au palier proche s'il n'y garde pas sa place.
+     */
+    private int tierOf(Enemy enemy, int index) {
+        if (enemy.hasAttackToken() || enemy.needsExactTiming()) return TIER_ACTIVE;
+
+        EnemyArchetype archetype = enemy.getArchetype();
+        double engage = Math.max(archetype.getShootRange(), archetype.getChargeRange()) + ENGAGE_MARGIN;
+        double distSq = enemy.playerDistanceSq();
+
+        if (enemy.isEngaged() || distSq <= engage * engage) {
+            offer(index, distSq);
+            return TIER_NEAR;
+        }
+        if (distSq <= NEAR_FACTOR * NEAR_FACTOR * engage * engage) return TIER_NEAR;
+        return TIER_FAR;
+    }
+
+    /** Garde dans le tas les {@code activeSlots} candidats les plus proches. */
+    private void offer(int index, double key) {
+        if (heapSize < activeSlots) {
+            int c = heapSize++;
+            while (c > 0 && heapKey[(c - 1) / 2] < key) {
+                heapIndex[c] = heapIndex[(c - 1) / 2];
+                heapKey[c] = heapKey[(c - 1) / 2];
+                c = (c - 1) / 2;
+            }
+            heapIndex[c] = index;
+            heapKey[c] = key;
+            return;
+        }
+        if (heapSize == 0 || key >= heapKey[0]) return;
+
+        // Remplace le plus éloigné (la racine) et le fait descendre
+        int c = 0;
+        while (true) {
+            int child = 2 * c + 1;
+            if (child >= heapSize) break;
+            if (child + 1 < heapSize && heapKey[child + 1] > heapKey[child]) child++;
+            if (heapKey[child] <= key) break;
+            heapIndex[c] = heapIndex[child];
+            heapKey[c] = heapKey[child];
+            c = child;
+        }
+        heapIndex[c] = index;
+        heapKey[c] = key;
+    }
+
+    /**
+     * @param index indice de l'entité dans la liste planifiée
+     * @return {@code true} si l'ennemi décide ce tick
+     */
+    public boolean isDue(int index) {
+        return due[index];
+    }
+
+    /**
+     * @param tier palier ({@link #TIER_ACTIVE}, {@link #TIER_NEAR} ou {@link #TIER_FAR})
+     * @return nombre d'ennemis dans ce palier au dernier tick
+     */
+    public int getTierCount(int tier) { return tierCounts[tier]; }
+
+    /** @return nombre de décisions prises au dernier tick */
+    public int getThinkCount() { return thinkCount; }
+
+    /** @return nombre d'ennemis reportés faute de budget au dernier tick */
+    public int getDeferredCount() { return deferredCount; }
+
+    /** @return nombre de décisions par tick hors palier actif au-delà duquel les ennemis sont reportés */
+    public int getBudget() { return budget; }
+
+    /** @param budget nouveau budget de décisions par tick hors palier actif (au moins 1) */
+    public void setBudget(int budget) { this.budget = Math.max(1, budget); }
+
+    /** @return nombre de places au palier actif, hors détenteurs d'un jeton d'attaque */
+    public int getActiveSlots() { return activeSlots; }
+
+    /** @param slots nouveau nombre de places au palier actif (au moins 0) */
+    public void setActiveSlots(int slots) {
+        this.activeSlots = Math.max(0, slots);
+        if (heapIndex.length < activeSlots) {
+            heapIndex = new int[activeSlots];
+            heapKey = new double[activeSlots];
+        }
+    }
+
+    /** @return {@code true} si le niveau de détail est actif */
+    public boolean isEnabled() { return enabled; }
+
+    /** @param enabled {@code false} pour faire décider tous les ennemis à chaque tick */
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+}
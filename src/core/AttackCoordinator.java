@@ -0,0 +1,154 @@
+package src.core;
+
+import src.entities.Enemy;
+import src.entities.LivingEntity;
+import src.entities.Player;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Jetons d'attaque : limite le nombre d'ennemis qui attaquent le même
+ * joueur en même temps.
+ *
+ * <p>Un ennemi qui veut charger ou frapper le demande
+ * ({@link Enemy#wantsAttackToken()}) et n'attaque que s'il en détient un
+ * ({@link Enemy#hasAttackToken()}) ; les autres attendent à portée ou
+ * tirent. Le jeton est gardé tant qu'il est demandé, puis rendu.</p>
+ *
+ * <p>À chaque tick, avant la phase think et sur le thread du jeu :</p>
+ * <ol>
+ *     <li>les jetons qui ne sont plus demandés sont rendus ;</li>
+ *     <li>les places libres de chaque cible sont accordées aux demandeurs
+ *         qui attendent depuis le plus longtemps (le plus proche en cas
+ *         d'égalité, puis le premier de la liste).</li>
+ * </ol>
+ *
+ * <p>L'attribution ne dépend que de l'état du tick précédent : le résultat
+ * est le même que la phase think soit parallèle ou non. Un ennemi retiré
+ * du niveau libère sa place au tick suivant (les places sont recomptées).</p>
+ */
+public class AttackCoordinator {
+
+    /** Nombre d'attaquants simultanés par défaut pour une cible. */
+    public static final int DEFAULT_TOKENS_PER_TARGET = 3;
+
+    private int tokensPerTarget;
+
+    /** Cibles vues ce tick et places occupées pour chacune. */
+    private Player[] targets = new Player[2];
+    private int[] used = new int[2];
+    private int targetCount;
+
+    // Statistiques du dernier tick
+    private int grantedCount;
+    private int waitingCount;
+
+    /** Crée un coordinateur avec le nombre de jetons par défaut. */
+    public AttackCoordinator() {
+        this(DEFAULT_TOKENS_PER_TARGET);
+    }
+
+    /**
+     * @param tokensPerTarget nombre d'attaquants simultanés par cible (au moins 1)
+     */
+    public AttackCoordinator(int tokensPerTarget) {
+        this.tokensPerTarget = Math.max(1, tokensPerTarget);
+    }
+
+    /**
+     * Rend les jetons qui ne sont plus demandés et distribue les places
+     * libres.
+     *
+     * @param entities entités actives
+     */
+    public void update(List<LivingEntity> entities) {
+        int n = entities.size();
+        targetCount = 0;
+        grantedCount = 0;
+        waitingCount = 0;
+
+        // Jetons rendus, places occupées
+        for (int i = 0; i < n; i++) {
+            LivingEntity e = entities.get(i);
+            if (!(e instanceof Enemy)) continue;
+            Enemy enemy = (Enemy) e;
+            if (!enemy.hasAttackToken()) continue;
+
+            if (enemy.wantsAttackToken()) {
+                used[slotOf(enemy.getTarget())]++;
+            } else {
+                enemy.setAttackToken(false);
+            }
+        }
+
+        // Places libres : au demandeur qui attend depuis le plus longtemps
+        while (true) {
+            int best = -1;
+            Enemy bestEnemy = null;
+            double bestDistSq = 0;
+            for (int i = 0; i < n; i++) {
+                LivingEntity e = entities.get(i);
+                if (!(e instanceof Enemy)) continue;
+                Enemy enemy = (Enemy) e;
+                if (enemy.hasAttackToken() || !enemy.wantsAttackToken()) continue;
+                if (used[slotOf(enemy.getTarget())] >= tokensPerTarget) continue;
+
+                double distSq = enemy.playerDistanceSq();
+                if (bestEnemy == null
+                        || enemy.getAttackWait() > bestEnemy.getAttackWait()
+                        || (enemy.getAttackWait() == bestEnemy.getAttackWait() && distSq < bestDistSq)) {
+                    best = i;
+                    bestEnemy = enemy;
+                    bestDistSq = distSq;
+                }
+            }
+            if (best < 0) break;
+
+            bestEnemy.setAttackToken(true);
+            bestEnemy.setAttackWait(0);
+            used[slotOf(bestEnemy.getTarget())]++;
+        }
+
+        // Attente des demandeurs sans jeton
+        for (int i = 0; i < n; i++) {
+            LivingEntity e = entities.get(i);
+            if (!(e instanceof Enemy)) continue;
+            Enemy enemy = (Enemy) e;
+            if (enemy.hasAttackToken()) {
+                grantedCount++;
+            } else if (enemy.wantsAttackToken()) {
+                enemy.setAttackWait(enemy.getAttackWait() + 1);
+                waitingCount++;
+            } else {
+                enemy.setAttackWait(0);
+            }
+        }
+    }
+
+    /** @return indice de la cible dans {@link #targets} (ajoutée au besoin) */
+    private int slotOf(Player target) {
+        for (int t = 0; t < targetCount; t++) {
+            if (targets[t] == target) return t;
+        }
+        if (targetCount == targets.length) {
+            targets = Arrays.copyOf(targets, targetCount * 2);
+            used = Arrays.copyOf(used, targetCount * 2);
+        }
+        targets[targetCount] = target;
+        used[targetCount] = 0;
+        return targetCount++;
+    }
+
+    /** @return nombre de jetons détenus au dernier tick */
+    public int getGrantedCount() { return grantedCount; }
+
+    /** @return nombre d'ennemis en attente d'un jeton au dernier tick */
+    public int getWaitingCount() { return waitingCount; }
+
+    /** @return nombre d'attaquants simultanés par cible */
+    public int getTokensPerTarget() { return tokensPerTarget; }
+
+    /** @param tokensPerTarget nombre d'attaquants simultanés par cible (au moins 1) */
+    public void setTokensPerTarget(int tokensPerTarget) { this.tokensPerTarget = Math.max(1, tokensPerTarget); }
+}
@@ -0,0 +1,209 @@
+package src.core;
+
+import java.util.Arrays;
+
+import src.entities.EnemyArchetype;
+import src.entities.LivingEntity;
+import src.world.Level;
+
+/**
+ * Tampon des modifications structurelles d'une frame.
+ *
+ * <p>Pendant les boucles de mise à jour (IA des ennemis, collisions),
+ * aucune liste n'est modifiée directement : apparitions d'ennemis,
+ * destructions d'entités, tirs ennemis et bonus lâchés sont enregistrés
+ * ici, puis appliqués en bloc par {@link #apply} aux points de
+ * synchronisation fixes de {@link Game}. Les parcours restent ainsi sûrs
+ * (pas de {@code ConcurrentModificationException}) et la phase de mise à
+ * jour pourra être parallélisée.</p>
+ *
+ * <p>Les commandes sont stockées dans des tableaux primitifs réutilisés
+ * d'une frame à l'autre : en régime établi, l'enregistrement n'alloue rien.</p>
+ *
+ * <p>Non thread-safe.</p>
+ */
+public class CommandBuffer {
+
+    private static final int INITIAL_CAPACITY = 32;
+
+    // ----- Apparitions d'ennemis -----
+    private EnemyArchetype[] spawnArchetype = new EnemyArchetype[INITIAL_CAPACITY];
+    private double[] spawnX = new double[INITIAL_CAPACITY];
+    private double[] spawnY = new double[INITIAL_CAPACITY];
+    private int spawnCount = 0;
+
+    // ----- Destructions d'entités -----
+    private LivingEntity[] destroyed = new LivingEntity[INITIAL_CAPACITY];
+    private int destroyCount = 0;
+
+    // ----- Projectiles ennemis -----
+    private double[] bulletX = new double[INITIAL_CAPACITY];
+    private double[] bulletY = new double[INITIAL_CAPACITY];
+    private double[] bulletVx = new double[INITIAL_CAPACITY];
+    private double[] bulletVy = new double[INITIAL_CAPACITY];
+    private int[] bulletDamage = new int[INITIAL_CAPACITY];
+    private int bulletCount = 0;
+
+    // ----- Bonus -----
+    private Pickup.PickupType[] pickupType = new Pickup.PickupType[INITIAL_CAPACITY];
+    private double[] pickupX = new double[INITIAL_CAPACITY];
+    private double[] pickupY = new double[INITIAL_CAPACITY];
+    private double[] pickupDuration = new double[INITIAL_CAPACITY];
+    private int pickupCount = 0;
+
+    /** Nombre total de commandes appliquées depuis la création. */
+    private long appliedCount = 0;
+
+    /**
+     * Demande l'apparition d'un ennemi.
+     *
+     * @param archetype archétype de l'ennemi
+     * @param x         position X
+     * @param y         position Y
+     */
+    public void spawnEnemy(EnemyArchetype archetype, double x, double y) {
+        if (spawnCount == spawnX.length) {
+            int n = spawnCount * 2;
+            spawnArchetype = Arrays.copyOf(spawnArchetype, n);
+            spawnX = Arrays.copyOf(spawnX, n);
+            spawnY = Arrays.copyOf(spawnY, n);
+        }
+        spawnArchetype[spawnCount] = archetype;
+        spawnX[spawnCount] = x;
+        spawnY[spawnCount] = y;
+        spawnCount++;
+    }
+
+    /**
+     * Demande le retrait d'une entité du niveau.
+     *
+     * @param e entité à retirer
+     */
+    public void destroyEntity(LivingEntity e) {
+        if (destroyCount == destroyed.length) {
+            destroyed = Arrays.copyOf(destroyed, destroyCount * 2);
+        }
+        destroyed[destroyCount++] = e;
+    }
+
+    /**
+     * Demande l'ajout d'un projectile ennemi.
+     *
+     * @param x      position X
+     * @param y      position Y
+     * @param vx     vitesse horizontale
+     * @param vy     vitesse verticale
+     * @param damage dégâts infligés
+     */
+    public void spawnBullet(double x, double y, double vx, double vy, int damage) {
+        if (bulletCount == bulletX.length) {
+            int n = bulletCount * 2;
+            bulletX = Arrays.copyOf(bulletX, n);
+            bulletY = Arrays.copyOf(bulletY, n);
+            bulletVx = Arrays.copyOf(bulletVx, n);
+            bulletVy = Arrays.copyOf(bulletVy, n);
+            bulletDamage = Arrays.copyOf(bulletDamage, n);
+        }
+        bulletX[bulletCount] = x;
+        bulletY[bulletCount] = y;
+        bulletVx[bulletCount] = vx;
+        bulletVy[bulletCount] = vy;
+        bulletDamage[bulletCount] = damage;
+        bulletCount++;
+    }
+
+    /**
+     * Demande l'apparition d'un bonus.
+     *
+     * @param type     type de bonus ({@code HEART}, {@code SHIELD} ou {@code SPEED})
+     * @param x        position X
+     * @param y        position Y
+     * @param duration durée d'effet après ramassage (en secondes, ignorée pour {@code HEART})
+     */
+    public void spawnPickup(Pickup.PickupType type, double x, double y, double duration) {
+        if (pickupCount == pickupX.length) {
+            int n = pickupCount * 2;
+            pickupType = Arrays.copyOf(pickupType, n);
+            pickupX = Arrays.copyOf(pickupX, n);
+            pickupY = Arrays.copyOf(pickupY, n);
+            pickupDuration = Arrays.copyOf(pickupDuration, n);
+        }
+        pickupType[pickupCount] = type;
+        pickupX[pickupCount] = x;
+        pickupY[pickupCount] = y;
+        pickupDuration[pickupCount] = duration;
+        pickupCount++;
+    }
+
+    /**
+     * Applique toutes les commandes en attente puis vide le tampon.
+     *
+     * <p>Ordre : destructions (y compris des entités mortes), apparitions
+     * d'ennemis, projectiles, bonus.</p>
+     *
+     * @param level       niveau dont les entités sont modifiées
+     * @param waves       gestionnaire des vagues (création des ennemis)
+     * @param projectiles gestionnaire des projectiles ennemis
+     * @param pickups     gestionnaire des bonus ({@code null} si aucun bonus n'est attendu)
+     * @return nombre de commandes appliquées
+     * @throws IllegalStateException si des bonus sont en attente sans gestionnaire
+     *         (rien n'est alors appliqué)
+     */
+    public int apply(Level level, WaveManager waves,
+                     ProjectileManager projectiles, PickupManager pickups) {
+        if (pickups == null && pickupCount > 0) {
+            throw new IllegalStateException(pickupCount + " bonus en attente sans gestionnaire de bonus");
+        }
+        int applied = 0;
+
+        for (int i = 0; i < destroyCount; i++) {
+            level.removeEntity(destroyed[i]);
+            destroyed[i] = null;
+        }
+        applied += destroyCount;
+        destroyCount = 0;
+        applied += level.removeDeadEntities();
+
+        for (int i = 0; i < spawnCount; i++) {
+            waves.createEnemy(spawnArchetype[i], spawnX[i], spawnY[i]);
+            spawnArchetype[i] = null;
+        }
+        applied += spawnCount;
+        spawnCount = 0;
+
+        for (int i = 0; i < bulletCount; i++) {
+            projectiles.insertBullet(bulletX[i], bulletY[i], bulletVx[i], bulletVy[i], bulletDamage[i]);
+        }
+        applied += bulletCount;
+        bulletCount = 0;
+
+        for (int i = 0; i < pickupCount; i++) {
+            switch (pickupType[i]) {
+                case HEART:
+                    pickups.spawnHealth(pickupX[i], pickupY[i]);
+                    break;
+                case SHIELD:
+                    pickups.spawnShield(pickupX[i], pickupY[i], pickupDuration[i]);
+                    break;
+                case SPEED:
+                    pickups.spawnSpeed(pickupX[i], pickupY[i], pickupDuration[i]);
+                    break;
+            }
+        }
+        applied += pickupCount;
+        pickupCount = 0;
+
+        appliedCount += applied;
+        return applied;
+    }
+
+    /** @return nombre de commandes en attente */
+    public int getPendingCount() {
+        return spawnCount + destroyCount + bulletCount + pickupCount;
+    }
+
+    /** @return nombre total de commandes appliquées */
+    public long getAppliedCount() {
+        return appliedCount;
+    }
+}
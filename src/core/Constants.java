@@ -23,6 +23,43 @@ public class Constants {
     /** Durée d’une frame en nanosecondes (utilisée pour le timing précis) */
     public static final long FRAME_DURATION_NS = 1_000_000_000L / TARGET_FPS;
 
+    /**
+     * Gravité appliquée aux corps dynamiques, exprimée par frame à 60 FPS
+     * (l'accélération réelle est {@code GRAVITY * 60} pixels/s²).
+     */
+    public static final double GRAVITY = 60.0;
+
+    /**
+     * Pas de simulation physique maximal (en secondes). Un {@code dt} plus
+     * grand (fenêtre déplacée, GC, reprise après pause) est découpé en
+     * sous-pas afin d'éviter de traverser les plateformes fines.
+     */
+    public static final double PHYSICS_MAX_STEP = 0.02;
+
+    /**
+     * Déplacement maximal d'un corps pendant un sous-pas (en pixels).
+     * Doit rester inférieur à l'épaisseur des plateformes (25 px).
+     */
+    public static final double PHYSICS_MAX_TRAVEL = 12.0;
+
+    /**
+     * Nombre maximal de sous-pas par frame. Au-delà, le temps restant
+     * est abandonné plutôt que de faire exploser le coût de la frame.
+     */
+    public static final int PHYSICS_MAX_SUBSTEPS = 8;
+
+    /**
+     * Vitesse (pixels/s) en dessous de laquelle un corps posé au sol
+     * est considéré comme immobile.
+     */
+    public static final double PHYSICS_SLEEP_SPEED = 1.0;
+
+    /**
+     * Durée d'immobilité au sol (en secondes) avant qu'un corps passe
+     * au repos et ne soit plus intégré.
+     */
+    public static final double PHYSICS_SLEEP_DELAY = 0.1;
+
     /** Nom affiché dans la barre de titre de la fenêtre Java */
     public static final String WINDOW_TITLE = "SYNTAX ERROR 2D - Vague 1 Prototype";
 }
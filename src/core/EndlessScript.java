@@ -0,0 +1,95 @@
+package src.core;
+
+import src.entities.EnemyArchetype;
+
+/**
+ * Réglages du mode sans fin, lus dans la section {@code [endless]} de
+ * {@code assets/data/waves.cfg} par {@link WaveScripts}.
+ *
+ * <p>Après la dernière vague scriptée, chaque vague sans fin dure
+ * {@code duration} secondes et dispose d'un budget de menace : {@code budget}
+ * pour la première, multiplié par {@code growth} à chaque vague suivante.
+ * Chaque archétype coûte {@code cost} points de menace. Le nombre
+ * d'ennemis vivants ne dépasse jamais {@code cap}. L'exécution est portée
+ * par {@link SpawnDirector}.</p>
+ *
+ * <p>Le script est immuable : archétypes et coûts sont rangés dans des
+ * tableaux parallèles, les points de spawn dans un tableau plat
+ * {@code x0, y0, x1, y1...}.</p>
+ */
+public final class EndlessScript {
+
+    private final double duration;
+    private final double budget;
+    private final double growth;
+    private final int cap;
+
+    private final EnemyArchetype[] archetypes;
+    private final double[] costs;
+    private final double[] points;
+
+    /**
+     * @param duration   durée d'une vague sans fin en secondes
+     * @param budget     budget de menace de la première vague
+     * @param growth     facteur appliqué au budget à chaque vague (au moins 1)
+     * @param cap        nombre maximal d'ennemis vivants
+     * @param archetypes archétypes achetables
+     * @param costs      coût en menace de chaque archétype
+     * @param points     points de spawn ({@code x0, y0, x1, y1...})
+     * @throws IllegalArgumentException si une valeur est invalide
+     */
+    EndlessScript(double duration, double budget, double growth, int cap,
+                  EnemyArchetype[] archetypes, double[] costs, double[] points) {
+        if (!(duration > 0)) throw new IllegalArgumentException("durée invalide : " + duration);
+        if (!(budget > 0)) throw new IllegalArgumentException("budget invalide : " + budget);
+        if (!(growth >= 1)) throw new IllegalArgumentException("croissance invalide : " + growth);
+        if (cap < 1) throw new IllegalArgumentException("plafond invalide : " + cap);
+        if (archetypes.length == 0) throw new IllegalArgumentException("aucun archétype achetable");
+        for (int i = 0; i < costs.length; i++) {
+            if (!(costs[i] > 0)) throw new IllegalArgumentException("coût invalide : " + costs[i]);
+        }
+        if (points.length < 2 || points.length % 2 != 0) {
+            throw new IllegalArgumentException("points de spawn invalides");
+        }
+        this.duration = duration;
+        this.budget = budget;
+        this.growth = growth;
+        this.cap = cap;
+        this.archetypes = archetypes.clone();
+        this.costs = costs.clone();
+        this.points = points.clone();
+    }
+
+    /** @return durée d'une vague sans fin (secondes) */
+    public double getDuration() { return duration; }
+
+    /**
+     * @param wave numéro de la vague sans fin (0 : la première)
+     * @return budget de menace de cette vague
+     */
+    public double getBudget(int wave) { return budget * Math.pow(growth, wave); }
+
+    /** @return facteur appliqué au budget à chaque vague */
+    public double getGrowth() { return growth; }
+
+    /** @return nombre maximal d'ennemis vivants */
+    public int getCap() { return cap; }
+
+    /** @return nombre d'archétypes achetables */
+    public int getArchetypeCount() { return archetypes.length; }
+
+    /** @return archétype achetable {@code i} */
+    public EnemyArchetype getArchetype(int i) { return archetypes[i]; }
+
+    /** @return coût en menace de l'archétype {@code i} */
+    public double getCost(int i) { return costs[i]; }
+
+    /** @return nombre de points de spawn */
+    public int getPointCount() { return points.length / 2; }
+
+    /** @return position X du point de spawn {@code i} */
+    public double getPointX(int i) { return points[2 * i]; }
+
+    /** @return position Y du point de spawn {@code i} */
+    public double getPointY(int i) { return points[2 * i + 1]; }
+}
@@ -0,0 +1,162 @@
+package src.core;
+
+import src.entities.Enemy;
+import src.entities.LivingEntity;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Mise à jour des ennemis en deux phases.
+ *
+ * <ol>
+ *     <li><b>think</b> : chaque {@link Enemy} décide de son comportement
+ *         ({@link Enemy#think(double)}). Pendant cette phase le joueur, le
+ *         niveau et la position des ennemis ne sont que lus : la liste est
+ *         découpée en tranches traitées en parallèle sur un
+ *         {@link ForkJoinPool} ;</li>
+ *     <li><b>act</b> : les effets en attente (dégâts, tirs, sons) sont
+ *         appliqués sur le thread du jeu, dans l'ordre de la liste
+ *         ({@link Enemy#act()}).</li>
+ * </ol>
+ *
+ * <p>Chaque ennemi n'écrit que son propre état pendant la phase think et
+ * les effets sont appliqués dans le même ordre que la boucle séquentielle :
+ * le résultat est identique quel que soit le nombre de threads.</p>
+ *
+ * <p>Avant la phase think, l'{@link AttackCoordinator} distribue les jetons
+ * d'attaque, puis un {@link AiScheduler} choisit les ennemis qui décident
+ * à ce tick selon leur distance au joueur ; les autres gardent leur cap
+ * ({@link Enemy#coast(double)}).</p>
+ *
+ * <p>En dessous d'une tranche, la phase think reste sur le thread appelant
+ * (le coût de la répartition dépasserait le gain). Le parallélisme peut être
+ * désactivé au lancement avec {@code -Dgame.parallelAI=false}.</p>
+ */
+public class EnemyUpdater {
+
+    /** Nombre d'ennemis par tranche de la phase think. */
+    public static final int DEFAULT_SHARD_SIZE = 32;
+
+    private final ForkJoinPool pool;
+    private final int shardSize;
+    private boolean parallel;
+    private final AiScheduler scheduler = new AiScheduler();
+    private final AttackCoordinator attackCoordinator = new AttackCoordinator();
+
+    /** Durées de la dernière mise à jour (ns), pour le HUD et les benchmarks. */
+    private long lastThinkNanos;
+    private long lastActNanos;
+
+    /**
+     * Crée un ordonnanceur sur le pool commun, avec la taille de tranche
+     * par défaut.
+     */
+    public EnemyUpdater() {
+        this(ForkJoinPool.commonPool(), DEFAULT_SHARD_SIZE);
+    }
+
+    /**
+     * @param pool      pool exécutant la phase think
+     * @param shardSize nombre minimal d'ennemis par tâche (au moins 1)
+     */
+    public EnemyUpdater(ForkJoinPool pool, int shardSize) {
+        this.pool = pool;
+        this.shardSize = Math.max(1, shardSize);
+        this.parallel = !"false".equals(System.getProperty("game.parallelAI"));
+    }
+
+    /**
+     * Met à jour toutes les entités de la liste. Les entités qui ne sont pas
+     * des {@link Enemy} sont simplement mises à jour pendant la phase act.
+     *
+     * <p>La liste ne doit pas être modifiée pendant l'appel.</p>
+     *
+     * @param entities entités actives
+     * @param dt       delta time (0 pendant un gel du temps)
+     */
+    public void update(List<LivingEntity> entities, double dt) {
+        int n = entities.size();
+
+        long start = System.nanoTime();
+        attackCoordinator.update(entities);
+        scheduler.schedule(entities);
+        if (parallel && n > shardSize && pool.getParallelism() > 1) {
+            pool.invoke(new ThinkShard(entities, scheduler, 0, n, dt, shardSize));
+        } else {
+            think(entities, scheduler, 0, n, dt);
+        }
+        long mid = System.nanoTime();
+
+        for (int i = 0; i < n; i++) {
+            LivingEntity e = entities.get(i);
+            if (e instanceof Enemy) {
+                ((Enemy) e).act();
+            } else {
+                e.update(dt);
+            }
+        }
+
+        lastThinkNanos = mid - start;
+        lastActNanos = System.nanoTime() - mid;
+    }
+
+    private static void think(List<LivingEntity> entities, AiScheduler scheduler, int from, int to, double dt) {
+        for (int i = from; i < to; i++) {
+            LivingEntity e = entities.get(i);
+            if (!(e instanceof Enemy)) continue;
+            if (scheduler.isDue(i)) ((Enemy) e).think(dt);
+            else ((Enemy) e).coast(dt);
+        }
+    }
+
+    /** Tâche de la phase think : coupe l'intervalle en deux jusqu'à la taille d'une tranche. */
+    private static final class ThinkShard extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<LivingEntity> entities;
+        private final AiScheduler scheduler;
+        private final int from, to;
+        private final double dt;
+        private final int shardSize;
+
+        ThinkShard(List<LivingEntity> entities, AiScheduler scheduler, int from, int to, double dt, int shardSize) {
+            this.entities = entities;
+            this.scheduler = scheduler;
+            this.from = from;
+            this.to = to;
+            this.dt = dt;
+            this.shardSize = shardSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= shardSize) {
+                think(entities, scheduler, from, to, dt);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new ThinkShard(entities, scheduler, from, mid, dt, shardSize),
+                      new ThinkShard(entities, scheduler, mid, to, dt, shardSize));
+        }
+    }
+
+    /** @return niveau de détail de l'IA (paliers, budget, statistiques) */
+    public AiScheduler getScheduler() { return scheduler; }
+
+    /** @return jetons d'attaque (nombre d'attaquants simultanés par cible) */
+    public AttackCoordinator getAttackCoordinator() { return attackCoordinator; }
+
+    /** @return {@code true} si la phase think est répartie sur le pool */
+    public boolean isParallel() { return parallel; }
+
+    /** @param parallel {@code false} pour tout exécuter sur le thread appelant */
+    public void setParallel(boolean parallel) { this.parallel = parallel; }
+
+    /** @return durée de la dernière phase think, en nanosecondes */
+    public long getLastThinkNanos() { return lastThinkNanos; }
+
+    /** @return durée de la dernière phase act, en nanosecondes */
+    public long getLastActNanos() { return lastActNanos; }
+}
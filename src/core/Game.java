@@ -10,10 +10,12 @@ import java.util.ArrayList;
 import java.util.Random;
 import javax.imageio.ImageIO;
 
-import src.entities.Enemy02;
-import src.entities.Enemy03;
 import src.entities.Ak47Bullet;
-import src.entities.Enemy01;
+import src.entities.Enemy;
+import src.entities.EnemyArchetype;
+import src.entities.LivingEntity;
+import src.util.ObjectPool;
+import src.world.CollisionLayer;
 import src.world.Level;
 import src.entities.Player;
 import src.ui.HUD;
@@ -72,6 +74,8 @@ public class Game {
     private Level level;
     private WaveManager waveManager;
     private ProjectileManager projectileManager;
+    // Modifications structurelles (spawns, destructions, tirs, bonus) de la frame
+    private CommandBuffer commands;
     private PickupManager pickupManager;
     private ItemPickupManager itemPickupManager;
     private HUD hud;
@@ -88,6 +92,9 @@ public class Game {
 
     private double akFireCooldown = 0.0;
     private final ArrayList<Ak47Bullet> akBullets = new ArrayList<>();
+    // Balles d'AK47 recyclées (aucune allocation par tir en régime établi)
+    private final ObjectPool<Ak47Bullet> akBulletPool =
+            new ObjectPool<>(() -> new Ak47Bullet(0, 0, 0, 0, 0), 64);
 
     // Images de fond
     private BufferedImage imageMenuPrincipale;
@@ -178,6 +185,9 @@ public class Game {
         elapsedTime = 0.0;
         killCount = 0;
         akFireCooldown = 0.0;
+        for (int i = 0; i < akBullets.size(); i++) {
+            akBulletPool.release(akBullets.get(i));
+        }
         akBullets.clear();
 
         level = new Level();
@@ -196,6 +206,10 @@ public class Game {
 
         itemPickupManager = new ItemPickupManager(player, inventory);
 
+        commands = new CommandBuffer();
+        projectileManager.setCommandBuffer(commands);
+        waveManager.setCommandBuffer(commands);
+
         hud = new HUD();
     }
 
@@ -327,6 +341,14 @@ public class Game {
 
         waveManager.update(dt);
 
+        // Point de synchronisation : spawns, tirs et morts issus de l'IA
+        applyCommands();
+
+        // Physique du joueur et des ennemis (ennemis gelés pendant un Time Freeze)
+        level.getPhysicsWorld().setFrozenLayers(
+                timeFreezeManager.isFrozen() ? CollisionLayer.ENEMY : CollisionLayer.NONE);
+        level.getPhysicsWorld().step(dt);
+
         projectileManager.update(dt);
 
         pickupManager.update(dt, waveManager.getCurrentWaveNumber());
@@ -338,6 +360,17 @@ public class Game {
         updateAk47Shooting(dt);
 
         handleMeleeDamage();
+
+        // Point de synchronisation : morts et bonus issus des collisions
+        applyCommands();
+    }
+
+    /**
+     * Applique les modifications structurelles enregistrées pendant les
+     * boucles de mise à jour (voir {@link CommandBuffer}).
+     */
+    private void applyCommands() {
+        commands.apply(level, waveManager, projectileManager, pickupManager);
     }
 
     /**
@@ -376,17 +409,19 @@ public class Game {
             }
         }
 
-        // Update + collisions des balles AK47
-        for (Ak47Bullet b : akBullets) {
+        // Update + collisions des balles AK47 (tous archétypes d'ennemis confondus)
+        ArrayList<LivingEntity> enemies = waveManager.getEnemies();
+        for (int k = 0; k < akBullets.size(); k++) {
+            Ak47Bullet b = akBullets.get(k);
             b.update(dt);
 
             if (!b.isAlive())
                 continue;
 
-            // Enemy01
-            for (Enemy01 e : waveManager.getEnemies01()) {
-                if (!e.isDead()
-                        && b.intersects((int) e.getX(), (int) e.getY(), (int) e.getWidth(), (int) e.getHeight())) {
+            for (int i = 0; i < enemies.size(); i++) {
+                LivingEntity e = enemies.get(i);
+                if (!e.isDead() && CollisionLayer.canCollide(b, e)
+                        && e.hitTestRect(b.getX(), b.getY(), b.getWidth(), b.getHeight())) {
                     e.takeDamage(b.getDamage());
                     // Son quand le joueur touche l'ennemi
                     SoundManager.playSound("punch.mp3");
@@ -394,37 +429,21 @@ public class Game {
                     break;
                 }
             }
-            if (!b.isAlive())
-                continue;
+        }
 
-            // Enemy02
-            for (Enemy02 e : waveManager.getEnemies02()) {
-                if (!e.isDead()
-                        && b.intersects((int) e.getX(), (int) e.getY(), (int) e.getWidth(), (int) e.getHeight())) {
-                    e.takeDamage(b.getDamage());
-                    // Son quand le joueur touche l'ennemi
-                    SoundManager.playSound("punch.mp3");
-                    b.kill();
-                    break;
-                }
-            }
-            if (!b.isAlive())
-                continue;
-
-            // Enemy03
-            for (Enemy03 e : waveManager.getEnemies03()) {
-                if (!e.isDead()
-                        && b.intersects((int) e.getX(), (int) e.getY(), (int) e.getWidth(), (int) e.getHeight())) {
-                    e.takeDamage(b.getDamage());
-                    // Son quand le joueur touche l'ennemi
-                    SoundManager.playSound("punch.mp3");
-                    b.kill();
-                    break;
-                }
+        // Compactage : les balles mortes retournent dans le pool
+        int alive = 0;
+        for (int k = 0; k < akBullets.size(); k++) {
+            Ak47Bullet b = akBullets.get(k);
+            if (b.isAlive()) {
+                akBullets.set(alive++, b);
+            } else {
+                akBulletPool.release(b);
             }
         }
-
-        akBullets.removeIf(b -> !b.isAlive());
+        for (int k = akBullets.size() - 1; k >= alive; k--) {
+            akBullets.remove(k);
+        }
     }
 
     /**
@@ -439,7 +458,7 @@ public class Game {
         double speed = 600.0;
 
         // Une seule balle, alignée sur le centre
-        akBullets.add(new Ak47Bullet(px, py, dir * speed, 0.0, 2)); // dégâts = 2
+        akBullets.add(akBulletPool.acquire().init(px, py, dir * speed, 0.0, 2)); // dégâts = 2
     }
 
     /**
@@ -455,9 +474,11 @@ public class Game {
             return;
         }
 
-        ArrayList<Enemy01> enemies01 = waveManager.getEnemies01();
-        for (Enemy01 e : enemies01) {
-            if (!e.isDead() && player.getRect().intersects(e.getRect())) {
+        ArrayList<LivingEntity> enemies = waveManager.getEnemies();
+        for (int i = 0; i < enemies.size(); i++) {
+            LivingEntity e = enemies.get(i);
+            if (!e.isDead() && CollisionLayer.canCollide(player, e)
+                    && player.hitTest(e)) {
 
                 e.takeDamage(player.getDamage());
                 player.markHitApplied();
@@ -466,51 +487,29 @@ public class Game {
 
                 if (e.isDead()) {
                     killCount++;
-                    if (random.nextDouble() < 0.15) {
-                        pickupManager.spawnShield(e.getX(), e.getY(), 15.0);
+                    if (e instanceof Enemy) {
+                        dropBonus(((Enemy) e).getArchetype(), e.getX(), e.getY());
                     }
                 }
                 return; // un seul ennemi touché
             }
         }
+    }
 
-        if (!player.hasHitThisAttack()) {
-            ArrayList<Enemy02> enemies02 = waveManager.getEnemies02();
-            for (Enemy02 e : enemies02) {
-                if (!e.isDead() && player.getRect().intersects(e.getRect())) {
-
-                    e.takeDamage(player.getDamage());
-                    player.markHitApplied();
-                    // Son quand le joueur frappe un ennemi
-                    SoundManager.playSound("punch.mp3");
-
-                    if (e.isDead()) {
-                        killCount++;
-                        if (random.nextDouble() < 0.40) {
-                            pickupManager.spawnSpeed(e.getX(), e.getY(), 15.0);
-                        }
-                    }
-                    return;
-                }
-            }
+    /**
+     * Tire au sort les bonus lâchés par un ennemi tué, selon les
+     * probabilités de son archétype.
+     *
+     * @param type archétype de l'ennemi tué
+     * @param x    position X du bonus
+     * @param y    position Y du bonus
+     */
+    private void dropBonus(EnemyArchetype type, double x, double y) {
+        if (type.getShieldDropChance() > 0 && random.nextDouble() < type.getShieldDropChance()) {
+            commands.spawnPickup(Pickup.PickupType.SHIELD, x, y, 15.0);
         }
-
-        if (!player.hasHitThisAttack()) {
-            ArrayList<Enemy03> enemies03 = waveManager.getEnemies03();
-            for (Enemy03 e : enemies03) {
-                if (!e.isDead() && player.getRect().intersects(e.getRect())) {
-
-                    e.takeDamage(player.getDamage());
-                    player.markHitApplied();
-                    // Son quand le joueur frappe un ennemi
-                    SoundManager.playSound("punch.mp3");
-
-                    if (e.isDead()) {
-                        killCount++;
-                    }
-                    return;
-                }
-            }
+        if (type.getSpeedDropChance() > 0 && random.nextDouble() < type.getSpeedDropChance()) {
+            commands.spawnPickup(Pickup.PickupType.SPEED, x, y, 15.0);
         }
     }
 
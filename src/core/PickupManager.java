@@ -5,6 +5,7 @@ import src.entities.BonusShield;
 import src.entities.BonusSpeed;
 import src.entities.Pickup;
 import src.entities.Player;
+import src.util.ObjectPool;
 
 import java.awt.Graphics2D;
 import java.util.ArrayList;
@@ -33,12 +34,31 @@ import java.util.Random;
  *     <li>de la suppression des bonus ramassés ou expirés ;</li>
  *     <li>du rendu graphique.</li>
  * </ul>
+ *
+ * <p>Les bonus ramassés ou expirés sont rendus à un {@link ObjectPool}
+ * par type, puis ressortis au spawn suivant : aucun bonus n'est alloué
+ * en régime établi.</p>
  */
 public class PickupManager {
 
     /** Liste de tous les pickups actuellement présents sur la carte. */
     private final ArrayList<Pickup> pickups = new ArrayList<>();
 
+    /** Nombre maximal de bonus libres conservés par type. */
+    private static final int POOL_SIZE = 16;
+
+    /** Pool des bonus de vie. */
+    private final ObjectPool<BonusHealth> healthPool =
+            new ObjectPool<>(() -> new BonusHealth(0, 0), POOL_SIZE);
+
+    /** Pool des bonus de bouclier. */
+    private final ObjectPool<BonusShield> shieldPool =
+            new ObjectPool<>(() -> new BonusShield(0, 0, 0), POOL_SIZE);
+
+    /** Pool des bonus de vitesse. */
+    private final ObjectPool<BonusSpeed> speedPool =
+            new ObjectPool<>(() -> new BonusSpeed(0, 0, 0), POOL_SIZE);
+
     /** Référence au joueur (pour collisions et application d'effets). */
     private final Player player;
 
@@ -82,13 +102,36 @@ public class PickupManager {
             resetHealthSpawnTimer();
         }
 
-        // Mise à jour individuelle de chaque pickup
-        for (Pickup p : pickups) {
+        // Mise à jour individuelle de chaque pickup, puis compactage :
+        // les pickups ramassés ou expirés retournent dans leur pool.
+        int alive = 0;
+        for (int i = 0; i < pickups.size(); i++) {
+            Pickup p = pickups.get(i);
             p.update(dt, player);
+            if (p.isActive()) {
+                pickups.set(alive++, p);
+            } else {
+                release(p);
+            }
         }
+        for (int i = pickups.size() - 1; i >= alive; i--) {
+            pickups.remove(i);
+        }
+    }
 
-        // Suppression des pickups ramassés ou expirés
-        pickups.removeIf(p -> !p.isActive());
+    /**
+     * Rend un pickup inactif au pool correspondant à son type.
+     *
+     * @param p pickup à recycler
+     */
+    private void release(Pickup p) {
+        if (p instanceof BonusHealth) {
+            healthPool.release((BonusHealth) p);
+        } else if (p instanceof BonusShield) {
+            shieldPool.release((BonusShield) p);
+        } else if (p instanceof BonusSpeed) {
+            speedPool.release((BonusSpeed) p);
+        }
     }
 
     /**
@@ -109,7 +152,19 @@ public class PickupManager {
     private void spawnRandomHealthBonus() {
         double x = 100 + random.nextDouble() * (Constants.WINDOW_WIDTH - 200);
         double y = 150 + random.nextDouble() * (Constants.WINDOW_HEIGHT - 300);
-        pickups.add(new BonusHealth(x, y));
+        spawnHealth(x, y);
+    }
+
+    /**
+     * Fait apparaître un bonus de vie.
+     *
+     * @param x position X du bonus
+     * @param y position Y du bonus
+     */
+    public void spawnHealth(double x, double y) {
+        BonusHealth bonus = healthPool.acquire();
+        bonus.setPosition(x, y);
+        pickups.add(bonus);
     }
 
     /**
@@ -120,7 +175,10 @@ public class PickupManager {
      * @param duration durée d'effet après ramassage (en secondes)
      */
     public void spawnShield(double x, double y, double duration) {
-        pickups.add(new BonusShield(x, y, duration));
+        BonusShield bonus = shieldPool.acquire();
+        bonus.setPosition(x, y);
+        bonus.setDuration(duration);
+        pickups.add(bonus);
     }
 
     /**
@@ -131,6 +189,18 @@ public class PickupManager {
      * @param duration durée d'effet après ramassage (en secondes)
      */
     public void spawnSpeed(double x, double y, double duration) {
-        pickups.add(new BonusSpeed(x, y, duration));
+        BonusSpeed bonus = speedPool.acquire();
+        bonus.setPosition(x, y);
+        bonus.setDuration(duration);
+        pickups.add(bonus);
     }
+
+    /** @return pool des bonus de vie (statistiques) */
+    public ObjectPool<BonusHealth> getHealthPool() { return healthPool; }
+
+    /** @return pool des bonus de bouclier (statistiques) */
+    public ObjectPool<BonusShield> getShieldPool() { return shieldPool; }
+
+    /** @return pool des bonus de vitesse (statistiques) */
+    public ObjectPool<BonusSpeed> getSpeedPool() { return speedPool; }
 }
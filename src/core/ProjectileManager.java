@@ -1,9 +1,13 @@
 package src.core;
 
 import src.entities.Bullet;
+import java.awt.Color;
 import java.awt.Graphics2D;
 import java.util.ArrayList;
+import src.world.CollisionLayer;
 import src.world.Level;
+import src.world.PlatformBroadphase;
+import src.entities.LivingEntity;
 import src.entities.Player;
 
 /**
@@ -20,21 +24,41 @@ import src.entities.Player;
  *     <li>Déplacement des projectiles en fonction du temps écoulé.</li>
  *     <li>Prise en compte du gel du temps via {@link TimeFreezeManager}
  *         (dt = 0 pendant un Time Freeze).</li>
- *     <li>Détection des collisions avec le joueur.</li>
+ *     <li>Détection des collisions avec le joueur (et toute entité du niveau
+ *         dont le calque est accepté par le masque du projectile,
+ *         voir {@link CollisionLayer}).</li>
  *     <li>Suppression automatique des projectiles détruits ou sortis de l'écran.</li>
  * </ul>
+ *
+ * <p>Les projectiles ne sont pas des objets : ils vivent dans un
+ * {@link ProjectileStore} (tableaux primitifs parallèles). Une frame
+ * enchaîne l'intégration et le test de sortie d'écran sur tous les
+ * projectiles, puis les collisions (plateformes via la broadphase,
+ * joueur, entités), et enfin le compactage par swap-remove.</p>
  */
 public class ProjectileManager {
 
-    /** Liste de tous les projectiles ennemis actifs dans la scène. */
-    private final ArrayList<Bullet> bullets = new ArrayList<>();
+    /** Taille des projectiles ennemis (carré, en pixels). */
+    private static final double BULLET_SIZE = 10;
+
+    /** Projectiles ennemis actifs (structure de tableaux). */
+    private final ProjectileStore store = new ProjectileStore();
 
     /** Joueur cible — utilisé pour détecter les impacts. */
     private final Player player;
 
+    /** Niveau courant — ses entités sont des cibles potentielles selon les calques. */
+    private final Level level;
+
     /** Gestionnaire du gel du temps (timer freeze). */
     private final TimeFreezeManager timeFreezeManager;
 
+    /** Tampon de commandes de la frame ({@code null} : ajouts immédiats). */
+    private CommandBuffer commands;
+
+    /** Tableau de travail pour les requêtes de broadphase. */
+    private int[] candidates = new int[0];
+
     /**
      * Construit un gestionnaire de projectiles ennemis.
      *
@@ -44,16 +68,56 @@ public class ProjectileManager {
      */
     public ProjectileManager(Level level, Player player, TimeFreezeManager timeFreezeManager) {
         this.player = player;
+        this.level = level;
         this.timeFreezeManager = timeFreezeManager;
     }
 
     /**
-     * Ajoute un projectile ennemi à la scène.
+     * Branche un tampon de commandes : les tirs sont alors différés
+     * jusqu'au prochain {@link CommandBuffer#apply}.
+     *
+     * @param commands tampon de la frame (ou {@code null})
+     */
+    public void setCommandBuffer(CommandBuffer commands) {
+        this.commands = commands;
+    }
+
+    /**
+     * Fait apparaître un projectile ennemi (différé si un tampon de
+     * commandes est branché, car l'appel vient de la boucle d'IA).
+     *
+     * @param x position horizontale initiale
+     * @param y position verticale initiale
+     * @param vx vitesse horizontale
+     * @param vy vitesse verticale
+     * @param damage dégâts infligés au joueur
+     */
+    public void spawnBullet(double x, double y, double vx, double vy, int damage) {
+        if (commands != null) {
+            commands.spawnBullet(x, y, vx, vy, damage);
+        } else {
+            insertBullet(x, y, vx, vy, damage);
+        }
+    }
+
+    /**
+     * Ajoute immédiatement un projectile au stockage (point de synchronisation).
+     */
+    void insertBullet(double x, double y, double vx, double vy, int damage) {
+        store.add(x, y, vx, vy, BULLET_SIZE, BULLET_SIZE, damage,
+                CollisionLayer.ENEMY_BULLET, CollisionLayer.ENEMY_BULLET_MASK);
+    }
+
+    /**
+     * Ajoute un projectile ennemi à la scène. Son état est recopié dans
+     * le stockage : l'objet {@code b} n'est plus utilisé ensuite.
      *
      * @param b le projectile à ajouter
      */
     public void addBullet(Bullet b) {
-        bullets.add(b);
+        if (!b.isAlive()) return;
+        store.add(b.getX(), b.getY(), b.getVx(), b.getVy(), b.getWidth(), b.getHeight(),
+                b.getDamage(), b.getCollisionCategory(), b.getCollisionMask());
     }
 
     /**
@@ -66,7 +130,7 @@ public class ProjectileManager {
      * Cette méthode gère également :
      * <ul>
      *     <li>le déplacement,</li>
-     *     <li>la détection de collision avec le joueur,</li>
+     *     <li>la détection de collision avec le décor, le joueur et les entités,</li>
      *     <li>la suppression des projectiles détruits.</li>
      * </ul>
      *
@@ -77,35 +141,95 @@ public class ProjectileManager {
         // dt utilisé pour le mouvement des projectiles ennemis
         double moveDt = (timeFreezeManager != null && timeFreezeManager.isFrozen()) ? 0.0 : dt;
 
-        for (Bullet b : bullets) {
-            b.update(moveDt);
+        // Passes vectorisables : déplacement puis sortie d'écran
+        store.integrate(moveDt);
+        store.cullOutside(Constants.WINDOW_WIDTH, Constants.WINDOW_HEIGHT);
+
+        // Union des calques présents dans le niveau : permet d'écarter
+        // toute la liste d'entités d'un seul test binaire par projectile.
+        int entityLayers = (level != null) ? level.getEntityLayers() : CollisionLayer.NONE;
+        PlatformBroadphase broadphase = (level != null) ? level.getBroadphase() : null;
+        if (broadphase != null && candidates.length < broadphase.size()) {
+            candidates = new int[broadphase.size()];
+        }
 
-            if (!b.isAlive()) continue;
+        int playerCategory = player.getCollisionCategory();
+        int playerMask = player.getCollisionMask();
+
+        // Phase large vectorisée contre le joueur (marge d'un pixel : le test
+        // fin travaille sur des coordonnées tronquées à l'entier)
+        store.flagOverlapping(player.getX() - 1, player.getY() - 1,
+                player.getWidth() + 2, player.getHeight() + 2);
+
+        for (int i = 0, n = store.size(); i < n; i++) {
+            if (!store.isAlive(i)) continue;
+
+            double bx = store.getX(i);
+            double by = store.getY(i);
+            double bw = store.getWidth(i);
+            double bh = store.getHeight(i);
+            int category = store.getCategory(i);
+            int mask = store.getMask(i);
+
+            // Collision plateformes (uniquement si le masque l'autorise)
+            if (broadphase != null && CollisionLayer.accepts(mask, CollisionLayer.PLATFORM)
+                    && broadphase.overlapsAny(bx, by, bw, bh, candidates)) {
+                store.kill(i);
+                continue;
+            }
 
             // Collision avec le joueur
-            if (player.getRect().intersects(
-                    (int)b.getX(), (int)b.getY(),
-                    (int)b.getWidth(), (int)b.getHeight())) {
+            if (store.isNear(i)
+                    && CollisionLayer.canCollide(category, mask, playerCategory, playerMask)
+                    && player.hitTestRect(bx, by, bw, bh)) {
 
-                player.takeDamage(b.getDamage());
+                player.takeDamage(store.getDamage(i));
                 // Son lorsque le joueur est touché par un projectile ennemi
                 SoundManager.playSound("punch-ennemi.mp3");
-                b.kill();
+                store.kill(i);
+                continue;
+            }
+
+            // Collision avec les entités du niveau (désactivée par défaut via le masque)
+            if (!CollisionLayer.accepts(mask, entityLayers)) continue;
+
+            ArrayList<LivingEntity> entities = level.getEntities();
+            for (int k = 0; k < entities.size(); k++) {
+                LivingEntity e = entities.get(k);
+                if (e.isDead() || !CollisionLayer.canCollide(category, mask,
+                        e.getCollisionCategory(), e.getCollisionMask())) continue;
+                if (e.hitTestRect(bx, by, bw, bh)) {
+                    e.takeDamage(store.getDamage(i));
+                    store.kill(i);
+                    break;
+                }
             }
         }
 
-        // Nettoyage des projectiles morts
-        bullets.removeIf(b -> !b.isAlive());
+        // Nettoyage des projectiles morts (swap-remove)
+        store.compact();
     }
 
     /**
-     * Dessine tous les projectiles ennemis.
+     * Dessine tous les projectiles ennemis (ovales cyan).
      *
      * @param g contexte graphique utilisé pour le rendu
      */
     public void render(Graphics2D g) {
-        for (Bullet b : bullets) {
-            b.render(g);
+        g.setColor(Color.CYAN);
+        for (int i = 0, n = store.size(); i < n; i++) {
+            g.fillOval((int) store.getX(i), (int) store.getY(i),
+                    (int) store.getWidth(i), (int) store.getHeight(i));
         }
     }
+
+    /** @return nombre de projectiles ennemis actifs */
+    public int getBulletCount() {
+        return store.size();
+    }
+
+    /** @return stockage des projectiles (lecture, statistiques, benchmarks) */
+    public ProjectileStore getStore() {
+        return store;
+    }
 }
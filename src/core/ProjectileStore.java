@@ -0,0 +1,310 @@
+package src.core;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import src.util.BatchKernels;
+
+/**
+ * Stockage des projectiles ennemis en structure de tableaux, hors du tas Java.
+ *
+ * <p>Chaque champ (position, vitesse, taille, dégâts, calques, drapeaux)
+ * est une colonne contiguë dans un {@link ByteBuffer} direct, lue et écrite
+ * par des {@link VarHandle} ({@code byteBufferViewVarHandle}, ordre natif).
+ * Le ramasse-miettes ne voit que quelques objets tampons, quel que soit le
+ * nombre de projectiles vivants : son temps de marquage reste constant.</p>
+ *
+ * <p>Les projectiles vivants sont toujours rangés dans {@code [0, size)} :
+ * une suppression déplace le dernier projectile dans le trou
+ * (<i>swap-remove</i>, O(1)), l'ordre n'est donc pas conservé.</p>
+ *
+ * <p>Les passes chaudes ({@link #integrate(double)},
+ * {@link #cullOutside(double, double)} et {@link #flagOverlapping}) sont
+ * confiées aux {@link BatchKernels}. L'état complet peut être copié,
+ * sérialisé ({@link #writeTo(ByteBuffer)} / {@link #readFrom(ByteBuffer)})
+ * ou haché ({@link #contentHash()}) par opérations mémoire en bloc.</p>
+ *
+ * <p>Non thread-safe.</p>
+ */
+public class ProjectileStore {
+
+    /** Le projectile doit être retiré lors du prochain {@link #compact()}. */
+    public static final int FLAG_DEAD = 1;
+
+    /** Le projectile chevauche le dernier rectangle passé à {@link #flagOverlapping}. */
+    public static final int FLAG_NEAR = 1 << 1;
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    /** Accès aux colonnes de {@code double}. */
+    private static final VarHandle DOUBLE =
+            MethodHandles.byteBufferViewVarHandle(double[].class, ByteOrder.nativeOrder());
+
+    /** Accès aux colonnes d'{@code int}. */
+    private static final VarHandle INT =
+            MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+
+    // ----- Colonnes (indices dans columns[]) -----
+    private static final int COL_X = 0;
+    private static final int COL_Y = 1;
+    private static final int COL_VX = 2;
+    private static final int COL_VY = 3;
+    private static final int COL_W = 4;
+    private static final int COL_H = 5;
+    private static final int COL_DAMAGE = 6;
+    private static final int COL_CATEGORY = 7;
+    private static final int COL_MASK = 8;
+    private static final int COL_FLAGS = 9;
+
+    /** Taille d'un élément de chaque colonne, en octets. */
+    private static final int[] COLUMN_BYTES = { 8, 8, 8, 8, 8, 8, 4, 4, 4, 4 };
+
+    /** Colonnes hors tas, une par champ. */
+    private ByteBuffer[] columns = new ByteBuffer[COLUMN_BYTES.length];
+
+    /** Nombre de projectiles stockés. */
+    private int size = 0;
+
+    /** Nombre de projectiles que les colonnes peuvent contenir. */
+    private int capacity = 0;
+
+    /**
+     * Crée un stockage vide.
+     */
+    public ProjectileStore() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Ajoute un projectile.
+     *
+     * @param px       position X
+     * @param py       position Y
+     * @param pvx      vitesse horizontale
+     * @param pvy      vitesse verticale
+     * @param pw       largeur
+     * @param ph       hauteur
+     * @param dmg      dégâts infligés
+     * @param cat      calque de collision du projectile
+     * @param hitMask  calques touchés par le projectile
+     * @return indice du projectile (valable jusqu'à la prochaine suppression)
+     */
+    public int add(double px, double py, double pvx, double pvy,
+                   double pw, double ph, int dmg, int cat, int hitMask) {
+        if (size == capacity) allocate(capacity * 2);
+        int i = size++;
+        int d = i << 3;
+        int n = i << 2;
+        DOUBLE.set(columns[COL_X], d, px);
+        DOUBLE.set(columns[COL_Y], d, py);
+        DOUBLE.set(columns[COL_VX], d, pvx);
+        DOUBLE.set(columns[COL_VY], d, pvy);
+        DOUBLE.set(columns[COL_W], d, pw);
+        DOUBLE.set(columns[COL_H], d, ph);
+        INT.set(columns[COL_DAMAGE], n, dmg);
+        INT.set(columns[COL_CATEGORY], n, cat);
+        INT.set(columns[COL_MASK], n, hitMask);
+        INT.set(columns[COL_FLAGS], n, 0);
+        return i;
+    }
+
+    /**
+     * Avance tous les projectiles de {@code dt}.
+     *
+     * @param dt pas de temps (en secondes)
+     */
+    public void integrate(double dt) {
+        BatchKernels.integrate(columns[COL_X], columns[COL_VX], size, dt);
+        BatchKernels.integrate(columns[COL_Y], columns[COL_VY], size, dt);
+    }
+
+    /**
+     * Marque comme morts les projectiles entièrement sortis de la zone
+     * {@code [0, maxX] x [0, maxY]}. Même convention que l'ancien
+     * {@code Bullet.update}.
+     *
+     * @param maxX largeur de la zone
+     * @param maxY hauteur de la zone
+     */
+    public void cullOutside(double maxX, double maxY) {
+        BatchKernels.cullOutside(columns[COL_X], columns[COL_Y], columns[COL_W], columns[COL_H],
+                columns[COL_FLAGS], size, maxX, maxY, FLAG_DEAD);
+    }
+
+    /**
+     * Phase large par lots : positionne {@link #FLAG_NEAR} pour les
+     * projectiles qui chevauchent le rectangle donné et l'efface pour les
+     * autres. Seuls les projectiles marqués méritent un test fin.
+     *
+     * @param rx position X du rectangle
+     * @param ry position Y du rectangle
+     * @param rw largeur du rectangle
+     * @param rh hauteur du rectangle
+     */
+    public void flagOverlapping(double rx, double ry, double rw, double rh) {
+        BatchKernels.overlapFlags(columns[COL_X], columns[COL_Y], columns[COL_W], columns[COL_H],
+                columns[COL_FLAGS], size, rx, ry, rw, rh, FLAG_NEAR);
+    }
+
+    /**
+     * @param i indice du projectile
+     * @return {@code true} si le projectile a été marqué par {@link #flagOverlapping}
+     */
+    public boolean isNear(int i) {
+        return ((int) INT.get(columns[COL_FLAGS], i << 2) & FLAG_NEAR) != 0;
+    }
+
+    /**
+     * Retire en une passe tous les projectiles marqués {@link #FLAG_DEAD}.
+     */
+    public void compact() {
+        int i = 0;
+        while (i < size) {
+            if (!isAlive(i)) {
+                remove(i);
+            } else {
+                i++;
+            }
+        }
+    }
+
+    /**
+     * Supprime un projectile en O(1) : le dernier prend sa place.
+     *
+     * @param i indice du projectile
+     */
+    public void remove(int i) {
+        int last = --size;
+        if (i != last) {
+            for (int c = 0; c < columns.length; c++) {
+                int bytes = COLUMN_BYTES[c];
+                columns[c].put(i * bytes, columns[c], last * bytes, bytes);
+            }
+        }
+    }
+
+    /** Supprime tous les projectiles. */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Marque un projectile pour suppression.
+     *
+     * @param i indice du projectile
+     */
+    public void kill(int i) {
+        int f = i << 2;
+        INT.set(columns[COL_FLAGS], f, (int) INT.get(columns[COL_FLAGS], f) | FLAG_DEAD);
+    }
+
+    /**
+     * @param i indice du projectile
+     * @return {@code true} si le projectile est toujours actif
+     */
+    public boolean isAlive(int i) {
+        return ((int) INT.get(columns[COL_FLAGS], i << 2) & FLAG_DEAD) == 0;
+    }
+
+    /**
+     * (Ré)alloue les colonnes hors tas en conservant les projectiles présents.
+     */
+    private void allocate(int newCapacity) {
+        for (int c = 0; c < columns.length; c++) {
+            ByteBuffer column = ByteBuffer.allocateDirect(newCapacity * COLUMN_BYTES[c])
+                    .order(ByteOrder.nativeOrder());
+            if (columns[c] != null) {
+                column.put(0, columns[c], 0, size * COLUMN_BYTES[c]);
+            }
+            columns[c] = column;
+        }
+        capacity = newCapacity;
+    }
+
+    // ----- Opérations en bloc -----
+
+    /**
+     * @return nombre d'octets nécessaires à {@link #writeTo(ByteBuffer)}
+     */
+    public int serializedSize() {
+        int bytes = 4;
+        for (int c = 0; c < columns.length; c++) bytes += size * COLUMN_BYTES[c];
+        return bytes;
+    }
+
+    /**
+     * Copie l'état de tous les projectiles dans {@code dst} (nombre de
+     * projectiles puis chaque colonne, copiées en bloc).
+     *
+     * @param dst tampon de destination ({@link #serializedSize()} octets libres)
+     */
+    public void writeTo(ByteBuffer dst) {
+        dst.putInt(size);
+        for (int c = 0; c < columns.length; c++) {
+            int len = size * COLUMN_BYTES[c];
+            dst.put(dst.position(), columns[c], 0, len);
+            dst.position(dst.position() + len);
+        }
+    }
+
+    /**
+     * Remplace l'état courant par celui écrit par {@link #writeTo(ByteBuffer)}.
+     *
+     * @param src tampon source (même ordre d'octets que l'écriture)
+     */
+    public void readFrom(ByteBuffer src) {
+        int n = src.getInt();
+        size = 0;
+        if (n > capacity) {
+            int c = capacity;
+            while (c < n) c *= 2;
+            allocate(c);
+        }
+        for (int c = 0; c < columns.length; c++) {
+            int len = n * COLUMN_BYTES[c];
+            columns[c].put(0, src, src.position(), len);
+            src.position(src.position() + len);
+        }
+        size = n;
+    }
+
+    /**
+     * Calcule une empreinte de l'état des projectiles vivants (utile pour
+     * comparer deux simulations ou détecter une désynchronisation).
+     *
+     * @return empreinte du contenu
+     */
+    public int contentHash() {
+        int hash = size;
+        for (int c = 0; c < columns.length; c++) {
+            ByteBuffer live = columns[c].slice(0, size * COLUMN_BYTES[c]);
+            hash = 31 * hash + live.hashCode();
+        }
+        return hash;
+    }
+
+    /** @return nombre de projectiles stockés */
+    public int size() { return size; }
+
+    /** @return capacité actuelle des colonnes */
+    public int capacity() { return capacity; }
+
+    /** @return mémoire hors tas réservée par le stockage, en octets */
+    public long offHeapBytes() {
+        long bytes = 0;
+        for (ByteBuffer column : columns) bytes += column.capacity();
+        return bytes;
+    }
+
+    public double getX(int i) { return (double) DOUBLE.get(columns[COL_X], i << 3); }
+    public double getY(int i) { return (double) DOUBLE.get(columns[COL_Y], i << 3); }
+    public double getVx(int i) { return (double) DOUBLE.get(columns[COL_VX], i << 3); }
+    public double getVy(int i) { return (double) DOUBLE.get(columns[COL_VY], i << 3); }
+    public double getWidth(int i) { return (double) DOUBLE.get(columns[COL_W], i << 3); }
+    public double getHeight(int i) { return (double) DOUBLE.get(columns[COL_H], i << 3); }
+    public int getDamage(int i) { return (int) INT.get(columns[COL_DAMAGE], i << 2); }
+    public int getCategory(int i) { return (int) INT.get(columns[COL_CATEGORY], i << 2); }
+    public int getMask(int i) { return (int) INT.get(columns[COL_MASK], i << 2); }
+}
@@ -18,6 +18,10 @@ import java.io.File;
  *     assets/sound/
  * </pre>
  * Format supporté : WAV natif, MP3 via système (afplay/paplay/aplay).
+ * <p>
+ * Le son peut être coupé au lancement avec {@code -Dgame.mute=true}
+ * (bancs d'essai, exécution sans carte son) ou par {@link #setMuted}.
+ * </p>
  */
 public class SoundManager {
 
@@ -25,6 +29,9 @@ public class SoundManager {
     private static final boolean IS_LINUX = System.getProperty("os.name").toLowerCase().contains("linux");
     private static final boolean IS_WINDOWS = System.getProperty("os.name").toLowerCase().contains("win");
 
+    /** Son coupé : aucun son ni musique n'est lancé. */
+    private static volatile boolean muted = "true".equals(System.getProperty("game.mute"));
+
     /**
      * Joue un son ponctuel (non bouclé).
      * <p>
@@ -34,6 +41,7 @@ public class SoundManager {
      * @param path nom du fichier audio (recherché dans <code>assets/sound/</code>)
      */
     public static void playSound(String path) {
+        if (muted) return;
         try {
             File file = resolveAssetFile(path);
             
@@ -118,6 +126,7 @@ public class SoundManager {
      * @param path nom du fichier audio à jouer (dans <code>assets/sound/</code>)
      */
     public static void playMusic(String path) {
+        if (muted) return;
         try {
             // Stopper et fermer la musique précédente si nécessaire
             stopMusic();
@@ -273,9 +282,24 @@ public class SoundManager {
      * </p>
      */
     public static void playPickupExpire() {
+        if (muted) return;
         // Exemple :
         // SoundManager.playSound("bonus.wav");
         System.out.println("[SOUND] Bonus expiré");
     }
 
+    /**
+     * Coupe ou rétablit le son. Couper le son arrête aussi la musique.
+     *
+     * @param value {@code true} pour couper le son
+     */
+    public static void setMuted(boolean value) {
+        muted = value;
+        if (value && (musicClip != null || musicProcess != null)) stopMusic();
+    }
+
+    /** @return {@code true} si le son est coupé */
+    public static boolean isMuted() {
+        return muted;
+    }
 }
@@ -0,0 +1,134 @@
+package src.core;
+
+import src.entities.LivingEntity;
+
+import java.util.List;
+
+/**
+ * Directeur de spawn du mode sans fin : dépense le budget de menace de
+ * chaque vague ({@link EndlessScript}) en achetant des ennemis.
+ *
+ * <p>Le crédit disponible croît linéairement au cours de la vague, de façon
+ * à ce que tout le budget soit dépensé à la fin de celle-ci. Le directeur
+ * choisit au hasard le prochain archétype parmi ceux que le reste du budget
+ * permet d'acheter, puis économise jusqu'à pouvoir le payer : les archétypes
+ * chers apparaissent donc aussi, plus rarement.</p>
+ *
+ * <p>Deux limites gardent la frame stable avec une horde de plusieurs
+ * centaines d'ennemis :</p>
+ * <ul>
+ *     <li>le nombre d'ennemis vivants, compté comme pour les vagues
+ *         scriptées, ne dépasse pas le plafond du script ; au plafond, le
+ *         crédit est conservé jusqu'à ce que des ennemis meurent ;</li>
+ *     <li>au plus {@link #MAX_SPAWNS_PER_TICK} ennemis apparaissent par tick.</li>
+ * </ul>
+ * <p>Le budget non dépensé à la fin d'une vague est perdu.</p>
+ */
+public class SpawnDirector {
+
+    /** Nombre maximal d'apparitions par tick. */
+    public static final int MAX_SPAWNS_PER_TICK = 4;
+
+    private final EndlessScript script;
+
+    /** Vague sans fin en cours (0 : la première). */
+    private int wave = -1;
+    private Wave timer;
+
+    /** Budget de la vague, menace déjà dépensée et crédit disponible. */
+    private double budget;
+    private double spent;
+    private double credit;
+
+    /** Prochain archétype à acheter ({@code -1} : à choisir). */
+    private int next = -1;
+
+    // Statistiques
+    private int spawnedCount;
+    private boolean capped;
+
+    /**
+     * @param script réglages du mode sans fin
+     */
+    public SpawnDirector(EndlessScript script) {
+        this.script = script;
+        nextWave();
+    }
+
+    /** Commence la vague sans fin suivante, avec un budget plus élevé. */
+    public void nextWave() {
+        wave++;
+        timer = new Wave(script.getDuration());
+        budget = script.getBudget(wave);
+        spent = 0;
+        credit = 0;
+        next = -1;
+    }
+
+    /**
+     * Avance la vague, accumule le crédit et achète les ennemis possibles.
+     * Passe à la vague suivante une fois la durée écoulée.
+     *
+     * @param dt       delta time réel
+     * @param spawner  gestionnaire qui crée les ennemis
+     * @param entities entités actives (ennemis vivants comptés pour le plafond)
+     */
+    public void update(double dt, WaveManager spawner, List<LivingEntity> entities) {
+        timer.update(dt);
+        if (timer.isFinished()) nextWave();
+
+        credit = Math.min(credit + budget / script.getDuration() * dt, budget - spent);
+
+        int room = script.getCap() - WaveManager.countAlive(entities, null);
+        capped = room <= 0;
+        room = Math.min(room, MAX_SPAWNS_PER_TICK);
+
+        while (room > 0) {
+            if (next < 0) next = pickNext();
+            if (next < 0 || credit < script.getCost(next)) break;
+
+            int p = (int) (Math.random() * script.getPointCount());
+            spawner.spawnEnemy(script.getArchetype(next), script.getPointX(p), script.getPointY(p));
+
+            credit -= script.getCost(next);
+            spent += script.getCost(next);
+            spawnedCount++;
+            next = -1;
+            room--;
+        }
+    }
+
+    /** @return archétype tiré parmi ceux que le reste du budget paie, ou {@code -1} */
+    private int pickNext() {
+        double left = budget - spent;
+        int affordable = 0;
+        for (int i = 0; i < script.getArchetypeCount(); i++) {
+            if (script.getCost(i) <= left) affordable++;
+        }
+        if (affordable == 0) return -1;
+
+        int pick = (int) (Math.random() * affordable);
+        for (int i = 0; i < script.getArchetypeCount(); i++) {
+            if (script.getCost(i) <= left && pick-- == 0) return i;
+        }
+        return -1;
+    }
+
+    /** @return numéro de la vague sans fin (1 : la première) */
+    public int getWaveNumber() { return wave + 1; }
+
+    /** @return temps restant avant la vague sans fin suivante (secondes) */
+    public double getRemainingTime() { return timer.getRemainingTime(); }
+
+    /** @return budget de menace de la vague en cours */
+    public double getBudget() { return budget; }
+
+    /** @return menace déjà dépensée pendant la vague en cours */
+    public double getSpent() { return spent; }
+
+    /** @return nombre d'ennemis achetés depuis l'entrée en mode sans fin */
+    public int getSpawnedCount() { return spawnedCount; }
+
+    /** @return {@code true} si le plafond d'ennemis vivants a bloqué le dernier tick */
+    public boolean isCapped() { return capped; }
+}
@@ -1,18 +1,24 @@
 package src.core;
 
-import src.entities.Enemy01;
-import src.entities.Enemy02;
-import src.entities.Enemy03;
+import src.entities.Enemy;
+import src.entities.EnemyArchetype;
+import src.entities.LivingEntity;
 import src.entities.Player;
 import src.world.Level;
+import src.world.NavGraph;
+import src.world.WorldSnapshot;
 
 import java.awt.Graphics2D;
 import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Gère l’ensemble des vagues d’ennemis du jeu.
  * <p>
- * Le jeu comporte trois vagues successives :
+ * Les vagues sont décrites dans {@code assets/data/waves.cfg} et lues une
+ * seule fois par {@link WaveScripts} : durée, groupes de spawn (archétype,
+ * cadence, plafond) et points de spawn. Par défaut, le jeu comporte trois
+ * vagues successives de 120 secondes :
  * </p>
  *
  * <ul>
@@ -22,9 +28,11 @@ import java.util.ArrayList;
  * </ul>
  *
  * <p>
- * Chaque vague dure 120 secondes. Chaque type d’ennemi possède son propre
- * cooldown de spawn. Les ennemis apparaissent selon des points de spawn
- * définis dans {@code spawnPoints}.
+ * La vague en cours est exécutée par un {@link WaveRunner}. Après la
+ * dernière vague, le jeu passe en mode sans fin : un {@link SpawnDirector}
+ * dépense un budget de menace qui grandit à chaque vague, sous un plafond
+ * d'ennemis vivants (section {@code [endless]} du fichier). Sans mode sans
+ * fin, la dernière vague continue tant que la partie dure.
  * </p>
  *
  * <p>
@@ -38,6 +46,12 @@ import java.util.ArrayList;
  * </ul>
  *
  * <p>
+ * Tous les ennemis, quel que soit leur archétype ({@link EnemyArchetype}),
+ * sont stockés dans la liste unique du {@link Level} : mise à jour,
+ * rendu et nettoyage se font en une seule boucle.
+ * </p>
+ *
+ * <p>
  * Le WaveManager se charge de :
  * </p>
  * <ul>
@@ -58,37 +72,32 @@ public class WaveManager {
     /** Gère les projectiles ennemis. */
     private final ProjectileManager projectileManager;
 
+    /** Tampon de commandes de la frame ({@code null} : modifications immédiates). */
+    private CommandBuffer commands;
+
     /** Gestion du gel du temps. */
     private final TimeFreezeManager timeFreezeManager;
 
-    /** Vagues successives de 120 secondes chacune. */
-    private final Wave wave1;
-    private final Wave wave2;
-    private final Wave wave3;
+    /** Mise à jour des ennemis en deux phases (décision parallèle, action séquentielle). */
+    private final EnemyUpdater enemyUpdater = new EnemyUpdater();
 
-    /** Index de la vague actuelle (1 → 3). */
+    /** Vagues successives, dans l'ordre de jeu. */
+    private final List<WaveScript> scripts;
+
+    /** Index de la vague actuelle (1 → nombre de vagues). */
     private int currentWaveIndex = 1;
 
-    /** Listes d'ennemis actifs pour chaque type. */
-    private final ArrayList<Enemy01> enemies01 = new ArrayList<>();
-    private final ArrayList<Enemy02> enemies02 = new ArrayList<>();
-    private final ArrayList<Enemy03> enemies03 = new ArrayList<>();
+    /** Exécution de la vague actuelle. */
+    private WaveRunner runner;
 
-    /** Cooldowns de spawn pour chaque type d’ennemi. */
-    private double cooldown01 = 0;
-    private double cooldown02 = 0;
-    private double cooldown03 = 0;
+    /** Réglages du mode sans fin ({@code null} : absent). */
+    private final EndlessScript endless;
 
-    /** Positions possibles de spawn des ennemis. */
-    private final double[][] spawnPoints = {
-            {20, 100}, {1220, 100},
-            {20, 500}, {1220, 500},
-            {50, 260}, {1100, 260},
-            {550, 350}, {550, 600}
-    };
+    /** Directeur du mode sans fin ({@code null} tant que les vagues scriptées durent). */
+    private SpawnDirector director;
 
     /**
-     * Constructeur du WaveManager.
+     * Constructeur du WaveManager, avec les vagues de {@link WaveScripts}.
      *
      * @param level             niveau du jeu (collisions, décor)
      * @param player            joueur
@@ -98,15 +107,36 @@ public class WaveManager {
     public WaveManager(Level level, Player player,
                        ProjectileManager projectileManager,
                        TimeFreezeManager timeFreezeManager) {
+        this(level, player, projectileManager, timeFreezeManager,
+                WaveScripts.getAll(), WaveScripts.getEndless());
+    }
+
+    /**
+     * Constructeur du WaveManager avec ses propres vagues (le registre
+     * {@link WaveScripts} n'est ni lu ni modifié).
+     *
+     * @param level             niveau du jeu (collisions, décor)
+     * @param player            joueur
+     * @param projectileManager gestion des projectiles ennemis
+     * @param timeFreezeManager gestion du gel du temps
+     * @param scripts           vagues, dans l'ordre de jeu (au moins une)
+     * @param endless           réglages du mode sans fin ({@code null} : absent)
+     * @throws IllegalArgumentException si aucune vague n'est fournie
+     */
+    public WaveManager(Level level, Player player,
+                       ProjectileManager projectileManager,
+                       TimeFreezeManager timeFreezeManager,
+                       List<WaveScript> scripts, EndlessScript endless) {
+        if (scripts.isEmpty()) throw new IllegalArgumentException("aucune vague");
 
         this.level = level;
         this.player = player;
         this.projectileManager = projectileManager;
         this.timeFreezeManager = timeFreezeManager;
 
-        wave1 = new Wave(120);
-        wave2 = new Wave(120);
-        wave3 = new Wave(120);
+        this.scripts = scripts;
+        this.runner = new WaveRunner(scripts.get(0));
+        this.endless = endless;
     }
 
     /**
@@ -117,162 +147,81 @@ public class WaveManager {
      */
     public void update(double dt) {
 
-        if (currentWaveIndex == 1) {
-            wave1.update(dt);
-            updateWave1(dt);
-            if (wave1.isFinished()) goToNextWave();
-        }
-        else if (currentWaveIndex == 2) {
-            wave2.update(dt);
-            updateWave2(dt);
-            if (wave2.isFinished()) goToNextWave();
-        }
-        else if (currentWaveIndex == 3) {
-            wave3.update(dt);
-            updateWave3(dt);
-        }
-
-        // Nettoyage des ennemis morts et retrait du level
-        java.util.Iterator<Enemy01> it01 = enemies01.iterator();
-        while (it01.hasNext()) {
-            Enemy01 e = it01.next();
-            if (e == null || e.isDead()) {
-                it01.remove();
-                if (e != null) level.removeEntity(e);
+        if (director != null) {
+            director.update(dt, this, level.getEntities());
+            updateEnemies(dt);
+        } else {
+            runner.update(dt, this, level.getEntities());
+            updateEnemies(dt);
+            if (runner.isFinished()) {
+                if (currentWaveIndex < scripts.size()) goToNextWave();
+                else if (endless != null) director = new SpawnDirector(endless);
             }
         }
 
-        java.util.Iterator<Enemy02> it02 = enemies02.iterator();
-        while (it02.hasNext()) {
-            Enemy02 e = it02.next();
-            if (e == null || e.isDead()) {
-                it02.remove();
-                if (e != null) level.removeEntity(e);
-            }
-        }
-
-        java.util.Iterator<Enemy03> it03 = enemies03.iterator();
-        while (it03.hasNext()) {
-            Enemy03 e = it03.next();
-            if (e == null || e.isDead()) {
-                it03.remove();
-                if (e != null) level.removeEntity(e);
-            }
-        }
+        // Nettoyage des ennemis morts (une seule passe sur la liste du level),
+        // sauf si le tampon de commandes s'en charge au point de synchronisation
+        if (commands == null) level.removeDeadEntities();
     }
 
-    // ===== VAGUE 1 ===========================================================
     /**
-     * Met à jour les spawns et déplacements pour la vague 1.
+     * Met à jour tous les ennemis actifs via l'{@link EnemyUpdater}
+     * (dt = 0 pendant un gel du temps).
      */
-    private void updateWave1(double dt) {
-
-        cooldown01 -= dt;
-        if (cooldown01 <= 0) {
-            cooldown01 = 8.0;
-            spawnEnemy01();
-        }
-
-        double enemyDt = (timeFreezeManager != null && timeFreezeManager.isFrozen()) ? 0.0 : dt;
-
-        for (Enemy01 e : enemies01) e.update(enemyDt);
-    }
-
-    // ===== VAGUE 2 ===========================================================
-    /**
-     * Met à jour les spawns et déplacements pour la vague 2.
-     */
-    private void updateWave2(double dt) {
-
-        cooldown01 -= dt;
-        cooldown02 -= dt;
-
-        if (cooldown01 <= 0) {
-            cooldown01 = 6.0;
-            spawnEnemy01();
-        }
-        if (cooldown02 <= 0) {
-            cooldown02 = 8.0;
-            spawnEnemy02();
-        }
-
-        double enemyDt = (timeFreezeManager != null && timeFreezeManager.isFrozen()) ? 0.0 : dt;
-
-        for (Enemy01 e : enemies01) e.update(enemyDt);
-        for (Enemy02 e : enemies02) e.update(enemyDt);
-    }
-
-    // ===== VAGUE 3 ===========================================================
-    /**
-     * Met à jour les spawns et déplacements pour la vague 3.
-     */
-    private void updateWave3(double dt) {
-
-        cooldown01 -= dt;
-        cooldown02 -= dt;
-        cooldown03 -= dt;
-
-        if (cooldown01 <= 0) {
-            cooldown01 = 10.0;
-            spawnEnemy01();
-        }
-        if (cooldown02 <= 0) {
-            cooldown02 = 12.0;
-            spawnEnemy02();
-        }
-        if (cooldown03 <= 0) {
-            cooldown03 = 14.0;
-            spawnEnemy03();
-        }
-
-        double enemyDt = (timeFreezeManager != null && timeFreezeManager.isFrozen()) ? 0.0 : dt;
-
-        for (Enemy01 e : enemies01) e.update(enemyDt);
-        for (Enemy02 e : enemies02) e.update(enemyDt);
-        for (Enemy03 e : enemies03) e.update(enemyDt);
+    private void updateEnemies(double dt) {
+        boolean frozen = timeFreezeManager != null && timeFreezeManager.isFrozen();
+        double enemyDt = frozen ? 0.0 : dt;
+
+        // État du joueur lu par toute la horde pendant ce tick
+        WorldSnapshot world = level.getSnapshot();
+        world.capture(player, frozen);
+        level.getLineOfSight().update(world.getPlayerCenterX(), world.getPlayerCenterY());
+
+        // Surface du joueur et champ de directions : calculés une fois par frame
+        // (le champ seulement si le joueur a changé de cellule), partagés par toute la horde
+        NavGraph nav = level.getNavGraph();
+        nav.trackTarget(level.getPhysicsWorld().getGroundPlatform(player),
+                player.getX(), player.getWidth());
+        level.getFlowField().update(player.getCenterX(), nav.getTargetNode());
+
+        enemyUpdater.update(level.getEntities(), enemyDt);
     }
 
     // ===== SPAWNS ============================================================
 
     /**
-     * Fait apparaître un ennemi de type 01 à un point de spawn aléatoire.
+     * Fait apparaître un ennemi de l'archétype donné à une position.
+     * L'ennemi s'enregistre lui-même dans le {@link Level}.
+     *
+     * @param archetype archétype à faire apparaître
+     * @param x         position X
+     * @param y         position Y
      */
-    private void spawnEnemy01() {
-        int i = (int)(Math.random() * spawnPoints.length);
-        enemies01.add(new Enemy01(
-                spawnPoints[i][0],
-                spawnPoints[i][1],
-                level,
-                player
-        ));
+    public void spawnEnemy(EnemyArchetype archetype, double x, double y) {
+        if (commands != null) {
+            commands.spawnEnemy(archetype, x, y);
+        } else {
+            createEnemy(archetype, x, y);
+        }
     }
 
     /**
-     * Fait apparaître un ennemi de type 02 à un point de spawn aléatoire.
+     * Crée immédiatement un ennemi (point de synchronisation) ;
+     * il s'enregistre lui-même dans le {@link Level}.
      */
-    private void spawnEnemy02() {
-        int i = (int)(Math.random() * spawnPoints.length);
-        enemies02.add(new Enemy02(
-                spawnPoints[i][0],
-                spawnPoints[i][1],
-                level,
-                player,
-                projectileManager
-        ));
+    void createEnemy(EnemyArchetype archetype, double x, double y) {
+        archetype.getBehavior().create(archetype, x, y, level, player, projectileManager);
     }
 
     /**
-     * Fait apparaître un ennemi de type 03 à un point de spawn aléatoire.
+     * Branche un tampon de commandes : apparitions et nettoyage des
+     * ennemis morts sont alors différés jusqu'au prochain
+     * {@link CommandBuffer#apply}.
+     *
+     * @param commands tampon de la frame (ou {@code null})
      */
-    private void spawnEnemy03() {
-        int i = (int)(Math.random() * spawnPoints.length);
-        enemies03.add(new Enemy03(
-                spawnPoints[i][0],
-                spawnPoints[i][1],
-                level,
-                player,
-                projectileManager
-        ));
+    public void setCommandBuffer(CommandBuffer commands) {
+        this.commands = commands;
     }
 
     /**
@@ -281,45 +230,69 @@ public class WaveManager {
      * @param g contexte graphique
      */
     public void render(Graphics2D g) {
-        for (Enemy01 e : enemies01) e.render(g);
-        for (Enemy02 e : enemies02) e.render(g);
-        for (Enemy03 e : enemies03) e.render(g);
+        for (LivingEntity e : level.getEntities()) e.render(g);
     }
 
     /**
-     * Passe à la vague suivante, réinitialise les cooldowns.
+     * Passe à la vague suivante et repart de son début. La dernière vague
+     * scriptée est conservée ; en mode sans fin, le budget passe à celui de
+     * la vague suivante.
      */
     public void goToNextWave() {
-        currentWaveIndex++;
-        if (currentWaveIndex > 3) currentWaveIndex = 3;
-        cooldown01 = 0;
-        cooldown02 = 0;
-        cooldown03 = 0;
+        if (director != null) {
+            director.nextWave();
+            return;
+        }
+        currentWaveIndex = Math.min(currentWaveIndex + 1, scripts.size());
+        runner = new WaveRunner(scripts.get(currentWaveIndex - 1));
     }
 
     /**
      * @return le temps restant avant la fin de la vague actuelle
      */
     public double getRemainingTime() {
-
-        if (currentWaveIndex == 1) return wave1.getRemainingTime();
-        if (currentWaveIndex == 2) return wave2.getRemainingTime();
-        return wave3.getRemainingTime();
+        return director != null ? director.getRemainingTime() : runner.getRemainingTime();
     }
 
     /**
-     * @return numéro de la vague actuelle (1 → 3)
+     * @return numéro de la vague actuelle (les vagues sans fin suivent
+     *         la dernière vague scriptée)
      */
     public int getCurrentWaveNumber() {
-        return currentWaveIndex;
+        return director != null ? scripts.size() + director.getWaveNumber() : currentWaveIndex;
+    }
+
+    /** @return {@code true} une fois les vagues scriptées terminées et le mode sans fin commencé */
+    public boolean isEndless() { return director != null; }
+
+    /** @return directeur du mode sans fin, ou {@code null} s'il n'a pas commencé */
+    public SpawnDirector getSpawnDirector() { return director; }
+
+    /**
+     * Compte les ennemis vivants, pour les plafonds des vagues scriptées et
+     * du mode sans fin. Les ennemis morts pas encore retirés du niveau et les
+     * entités qui ne sont pas des ennemis ne comptent pas.
+     *
+     * @param entities  entités actives
+     * @param archetype archétype à compter ({@code null} : tous)
+     * @return nombre d'ennemis vivants
+     */
+    static int countAlive(List<LivingEntity> entities, EnemyArchetype archetype) {
+        int alive = 0;
+        for (int i = 0, n = entities.size(); i < n; i++) {
+            LivingEntity e = entities.get(i);
+            if (!(e instanceof Enemy) || e.isDead()) continue;
+            if (archetype == null || ((Enemy) e).getArchetype() == archetype) alive++;
+        }
+        return alive;
     }
 
-    /** @return liste des Enemy01 actifs */
-    public ArrayList<Enemy01> getEnemies01() { return enemies01; }
+    /** @return nombre de vagues scriptées */
+    public int getWaveCount() { return scripts.size(); }
 
-    /** @return liste des Enemy02 actifs */
-    public ArrayList<Enemy02> getEnemies02() { return enemies02; }
+    /** @return ordonnanceur de la mise à jour des ennemis */
+    public EnemyUpdater getEnemyUpdater() { return enemyUpdater; }
 
-    /** @return liste des Enemy03 actifs */
-    public ArrayList<Enemy03> getEnemies03() { return enemies03; }
+    /** @return liste unique des ennemis actifs (tous archétypes confondus) */
+    public ArrayList<LivingEntity> getEnemies() { return level.getEntities(); }
 }
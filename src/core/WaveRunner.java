@@ -0,0 +1,76 @@
+package src.core;
+
+import src.entities.LivingEntity;
+
+import java.util.List;
+
+/**
+ * Exécute un {@link WaveScript} : chronomètre de la vague et cooldown de
+ * chaque groupe de spawn.
+ *
+ * <p>Le cooldown d'un groupe part de son délai {@code start} ; à zéro, le
+ * groupe fait apparaître ses ennemis puis repart pour {@code period}
+ * secondes. Un spawn refusé par un plafond est sauté (pas de rattrapage).
+ * Les ennemis vivants ne sont comptés que lorsqu'un groupe plafonné doit
+ * spawner.</p>
+ *
+ * <p>Le runner continue de faire apparaître des ennemis une fois la durée
+ * écoulée : c'est le {@link WaveManager} qui décide de passer à la vague
+ * suivante.</p>
+ */
+public class WaveRunner {
+
+    private final WaveScript script;
+    private final Wave timer;
+    private final double[] cooldowns;
+
+    /**
+     * @param script vague à exécuter
+     */
+    public WaveRunner(WaveScript script) {
+        this.script = script;
+        this.timer = new Wave(script.getDuration());
+        this.cooldowns = new double[script.getGroupCount()];
+        for (int g = 0; g < cooldowns.length; g++) cooldowns[g] = script.getStart(g);
+    }
+
+    /**
+     * Avance la vague et fait apparaître les groupes dont le cooldown est
+     * écoulé.
+     *
+     * @param dt       delta time réel
+     * @param spawner  gestionnaire qui crée les ennemis
+     * @param entities entités actives (pour les plafonds)
+     */
+    public void update(double dt, WaveManager spawner, List<LivingEntity> entities) {
+        timer.update(dt);
+
+        for (int g = 0; g < cooldowns.length; g++) {
+            cooldowns[g] -= dt;
+            if (cooldowns[g] > 0) continue;
+            cooldowns[g] = script.getPeriod(g);
+
+            int count = script.getCount(g);
+            if (script.getCap() != WaveScript.NO_CAP) {
+                count = Math.min(count, script.getCap() - WaveManager.countAlive(entities, null));
+            }
+            if (script.getCap(g) != WaveScript.NO_CAP) {
+                count = Math.min(count, script.getCap(g) - WaveManager.countAlive(entities, script.getArchetype(g)));
+            }
+
+            for (int i = 0; i < count; i++) {
+                int p = (int) (Math.random() * script.getPointCount(g));
+                spawner.spawnEnemy(script.getArchetype(g), script.getPointX(g, p), script.getPointY(g, p));
+            }
+        }
+    }
+
+    /** @return {@code true} si la durée de la vague est écoulée */
+    public boolean isFinished() { return timer.isFinished(); }
+
+    /** @return temps restant avant la fin de la vague (secondes) */
+    public double getRemainingTime() { return timer.getRemainingTime(); }
+
+    /** @return vague exécutée */
+    public WaveScript getScript() { return script; }
+}
@@ -0,0 +1,114 @@
+package src.core;
+
+import src.entities.EnemyArchetype;
+
+/**
+ * Déroulement d'une vague, lu dans {@code assets/data/waves.cfg} par
+ * {@link WaveScripts} : durée, plafond d'ennemis vivants et groupes de
+ * spawn.
+ *
+ * <p>Un groupe fait apparaître {@code count} ennemis d'un archétype toutes
+ * les {@code period} secondes, le premier après {@code start} secondes, à
+ * des points tirés au hasard dans son ensemble de points. Un groupe dont
+ * l'archétype a déjà {@code cap} représentants vivants saute son tour.</p>
+ *
+ * <p>Le script est immuable : les groupes sont rangés dans des tableaux
+ * parallèles et les points de chaque groupe dans un tableau plat
+ * {@code x0, y0, x1, y1...}. L'état d'exécution (chronomètre, cooldowns)
+ * est porté par {@link WaveRunner}.</p>
+ */
+public final class WaveScript {
+
+    /** Valeur d'un plafond absent. */
+    public static final int NO_CAP = 0;
+
+    private final double duration;
+    private final int cap;
+
+    private final EnemyArchetype[] archetypes;
+    private final double[] periods;
+    private final double[] starts;
+    private final int[] counts;
+    private final int[] caps;
+    private final double[][] points;
+
+    /**
+     * @param duration   durée de la vague en secondes
+     * @param cap        nombre maximal d'ennemis vivants ({@link #NO_CAP} : illimité)
+     * @param archetypes archétype de chaque groupe
+     * @param periods    intervalle entre deux spawns de chaque groupe (secondes)
+     * @param starts     délai avant le premier spawn de chaque groupe (secondes)
+     * @param counts     ennemis créés à chaque spawn
+     * @param caps       représentants vivants maximum par groupe ({@link #NO_CAP} : illimité)
+     * @param points     points de spawn de chaque groupe ({@code x0, y0, x1, y1...})
+     * @throws IllegalArgumentException si une valeur est invalide
+     */
+    WaveScript(double duration, int cap, EnemyArchetype[] archetypes, double[] periods,
+               double[] starts, int[] counts, int[] caps, double[][] points) {
+        if (!(duration > 0)) throw new IllegalArgumentException("durée invalide : " + duration);
+        if (cap < 0) throw new IllegalArgumentException("plafond invalide : " + cap);
+        for (int g = 0; g < archetypes.length; g++) {
+            if (!(periods[g] > 0)) throw new IllegalArgumentException("intervalle invalide : " + periods[g]);
+            if (starts[g] < 0) throw new IllegalArgumentException("délai invalide : " + starts[g]);
+            if (counts[g] < 1) throw new IllegalArgumentException("nombre invalide : " + counts[g]);
+            if (caps[g] < 0) throw new IllegalArgumentException("plafond invalide : " + caps[g]);
+            if (points[g].length < 2 || points[g].length % 2 != 0) {
+                throw new IllegalArgumentException("points de spawn invalides pour "
+                        + archetypes[g].getName());
+            }
+        }
+        this.duration = duration;
+        this.cap = cap;
+        this.archetypes = archetypes.clone();
+        this.periods = periods.clone();
+        this.starts = starts.clone();
+        this.counts = counts.clone();
+        this.caps = caps.clone();
+        this.points = points.clone();
+    }
+
+    /**
+     * Vague sans groupe de spawn (bancs d'essai, scénarios écrits à la main).
+     *
+     * @param duration durée de la vague en secondes
+     * @return vague qui ne fait apparaître aucun ennemi
+     * @throws IllegalArgumentException si la durée est invalide
+     */
+    public static WaveScript empty(double duration) {
+        return new WaveScript(duration, NO_CAP, new EnemyArchetype[0], new double[0],
+                new double[0], new int[0], new int[0], new double[0][]);
+    }
+
+    /** @return durée de la vague en secondes */
+    public double getDuration() { return duration; }
+
+    /** @return nombre maximal d'ennemis vivants ({@link #NO_CAP} : illimité) */
+    public int getCap() { return cap; }
+
+    /** @return nombre de groupes de spawn */
+    public int getGroupCount() { return archetypes.length; }
+
+    /** @return archétype du groupe */
+    public EnemyArchetype getArchetype(int group) { return archetypes[group]; }
+
+    /** @return intervalle entre deux spawns du groupe (secondes) */
+    public double getPeriod(int group) { return periods[group]; }
+
+    /** @return délai avant le premier spawn du groupe (secondes) */
+    public double getStart(int group) { return starts[group]; }
+
+    /** @return ennemis créés à chaque spawn du groupe */
+    public int getCount(int group) { return counts[group]; }
+
+    /** @return représentants vivants maximum du groupe ({@link #NO_CAP} : illimité) */
+    public int getCap(int group) { return caps[group]; }
+
+    /** @return nombre de points de spawn du groupe */
+    public int getPointCount(int group) { return points[group].length / 2; }
+
+    /** @return position X du point de spawn {@code i} du groupe */
+    public double getPointX(int group, int i) { return points[group][2 * i]; }
+
+    /** @return position Y du point de spawn {@code i} du groupe */
+    public double getPointY(int group, int i) { return points[group][2 * i + 1]; }
+}
@@ -0,0 +1,344 @@
+package src.core;
+
+import src.entities.EnemyArchetype;
+import src.entities.EnemyArchetypes;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registre des scripts de vagues.
+ *
+ * <p>Au premier accès, le registre lit le fichier {@value #DEFAULT_PATH}
+ * (classpath, puis disque) et le transforme en {@link WaveScript}
+ * immuables, partagés par toutes les parties. Un fichier absent ou invalide
+ * n'empêche pas le jeu de démarrer : l'erreur est signalée sur la console
+ * et les trois vagues intégrées au code sont utilisées.</p>
+ *
+ * <p>Format : une section {@code [points]} dont chaque ligne
+ * {@code nom = x y, x y, ...} définit un ensemble de points de spawn
+ * (l'ensemble {@code default} est obligatoire), puis une section
+ * {@code [wave]} par vague, dans l'ordre de jeu :</p>
+ * <ul>
+ *     <li>{@code duration = secondes} ;</li>
+ *     <li>{@code cap = n} (facultatif) : ennemis vivants au maximum ;</li>
+ *     <li>{@code points = nom} (facultatif) : points de la vague ;</li>
+ *     <li>{@code spawn = ARCHÉTYPE every s [after s] [count n] [cap n] [at nom]},
+ *         une ligne par groupe.</li>
+ * </ul>
+ * <p>Une section {@code [endless]} facultative règle le mode sans fin
+ * ({@link EndlessScript}) qui suit la dernière vague :</p>
+ * <ul>
+ *     <li>{@code duration}, {@code budget}, {@code growth}, {@code cap} et
+ *         {@code points} (facultatif) ;</li>
+ *     <li>{@code spawn = ARCHÉTYPE cost n}, une ligne par archétype achetable.</li>
+ * </ul>
+ * <p>Sans cette section, la dernière vague continue tant que la partie
+ * dure. Les lignes commençant par {@code #} sont ignorées.</p>
+ */
+public final class WaveScripts {
+
+    /** Emplacement du fichier de définition. */
+    public static final String DEFAULT_PATH = "assets/data/waves.cfg";
+
+    /** Ensemble de points utilisé quand ni la vague ni le groupe n'en précisent. */
+    public static final String DEFAULT_POINTS = "default";
+
+    /** Vagues intégrées, utilisées si le fichier est absent ou invalide. */
+    private static final String DEFAULTS = String.join("\n",
+            "[points]",
+            "default = 20 100, 1220 100, 20 500, 1220 500, 50 260, 1100 260, 550 350, 550 600",
+            "[wave]",
+            "duration = 120",
+            "spawn = ENEMY01 every 8.0",
+            "[wave]",
+            "duration = 120",
+            "spawn = ENEMY01 every 6.0",
+            "spawn = ENEMY02 every 8.0",
+            "[wave]",
+            "duration = 120",
+            "spawn = ENEMY01 every 10.0",
+            "spawn = ENEMY02 every 12.0",
+            "spawn = ENEMY03 every 14.0",
+            "[endless]",
+            "duration = 60", "budget = 24", "growth = 1.25", "cap = 250",
+            "spawn = ENEMY01 cost 1",
+            "spawn = ENEMY02 cost 2",
+            "spawn = ENEMY03 cost 4");
+
+    /** Vagues chargées, dans l'ordre de jeu. */
+    private static List<WaveScript> scripts;
+
+    /** Mode sans fin ({@code null} : absent). */
+    private static EndlessScript endless;
+
+    private WaveScripts() {}
+
+    /** @return toutes les vagues, dans l'ordre de jeu (au moins une) */
+    public static synchronized List<WaveScript> getAll() {
+        if (scripts == null) load();
+        return scripts;
+    }
+
+    /** @return réglages du mode sans fin, ou {@code null} s'il est absent */
+    public static synchronized EndlessScript getEndless() {
+        if (scripts == null) load();
+        return endless;
+    }
+
+    /**
+     * Relit le fichier de définition (ou les vagues intégrées s'il est
+     * absent ou invalide).
+     */
+    public static synchronized void load() {
+        try (InputStream in = open(DEFAULT_PATH)) {
+            if (in != null) {
+                parse(new InputStreamReader(in, StandardCharsets.UTF_8));
+                return;
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("ERREUR lecture " + DEFAULT_PATH + " : " + e.getMessage());
+        }
+        loadDefaults();
+    }
+
+    /**
+     * Lit des vagues depuis un flux et remplace le registre.
+     *
+     * @param reader source au format du fichier de définition
+     * @throws IOException en cas d'erreur de lecture
+     * @throws IllegalArgumentException si le contenu est invalide
+     */
+    public static synchronized void load(Reader reader) throws IOException {
+        parse(reader);
+    }
+
+    private static void loadDefaults() {
+        try {
+            parse(new StringReader(DEFAULTS));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static InputStream open(String path) throws IOException {
+        InputStream is = WaveScripts.class.getClassLoader().getResourceAsStream(path);
+        if (is != null) return is;
+        File f = new File(path);
+        return f.exists() ? new FileInputStream(f) : null;
+    }
+
+    /**
+     * Lit toutes les sections puis construit les vagues et remplace le
+     * registre : un ensemble de points peut être déclaré après les vagues
+     * qui l'utilisent. Le registre n'est pas modifié si le contenu est
+     * invalide.
+     */
+    private static void parse(Reader reader) throws IOException {
+        BufferedReader in = new BufferedReader(reader);
+        Map<String, double[]> pointSets = new HashMap<>();
+        List<List<String[]>> waves = new ArrayList<>();
+        List<String[]> endlessEntries = null;
+        List<String[]> current = null;
+        boolean inPoints = false;
+        String line;
+        int lineNo = 0;
+
+        while ((line = in.readLine()) != null) {
+            lineNo++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+
+            if (line.startsWith("[") && line.endsWith("]")) {
+                String name = line.substring(1, line.length() - 1).trim();
+                inPoints = name.equals("points");
+                if (name.equals("wave")) {
+                    current = new ArrayList<>();
+                    waves.add(current);
+                } else if (name.equals("endless")) {
+                    if (endlessEntries == null) endlessEntries = new ArrayList<>();
+                    current = endlessEntries;
+                } else if (!inPoints) {
+                    throw new IllegalArgumentException("ligne " + lineNo + " : section inconnue " + line);
+                }
+                continue;
+            }
+
+            int eq = line.indexOf('=');
+            if (eq < 0 || (!inPoints && current == null)) {
+                throw new IllegalArgumentException("ligne " + lineNo + " invalide : " + line);
+            }
+            String key = line.substring(0, eq).trim();
+            String value = line.substring(eq + 1).trim();
+
+            if (inPoints) {
+                pointSets.put(key, parsePoints(value, lineNo));
+            } else {
+                current.add(new String[] {key, value, String.valueOf(lineNo)});
+            }
+        }
+
+        if (waves.isEmpty()) throw new IllegalArgumentException("aucune vague définie");
+
+        List<WaveScript> result = new ArrayList<>(waves.size());
+        for (int w = 0; w < waves.size(); w++) {
+            try {
+                result.add(buildWave(waves.get(w), pointSets));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("vague " + (w + 1) + " : " + e.getMessage());
+            }
+        }
+        EndlessScript endlessScript = null;
+        if (endlessEntries != null) {
+            try {
+                endlessScript = buildEndless(endlessEntries, pointSets);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("mode sans fin : " + e.getMessage());
+            }
+        }
+
+        scripts = Collections.unmodifiableList(result);
+        endless = endlessScript;
+    }
+
+    private static double[] parsePoints(String value, int lineNo) {
+        String[] pairs = value.split(",");
+        double[] xy = new double[pairs.length * 2];
+        for (int i = 0; i < pairs.length; i++) {
+            String[] p = pairs[i].trim().split("\\s+");
+            if (p.length != 2) {
+                throw new IllegalArgumentException("ligne " + lineNo + " : point invalide " + pairs[i].trim());
+            }
+            xy[2 * i] = number(p[0], lineNo);
+            xy[2 * i + 1] = number(p[1], lineNo);
+        }
+        return xy;
+    }
+
+    private static WaveScript buildWave(List<String[]> entries, Map<String, double[]> pointSets) {
+        double duration = -1;
+        int cap = WaveScript.NO_CAP;
+        String wavePoints = DEFAULT_POINTS;
+        List<String[]> spawns = new ArrayList<>();
+
+        for (String[] e : entries) {
+            int lineNo = Integer.parseInt(e[2]);
+            switch (e[0]) {
+                case "duration": duration = number(e[1], lineNo); break;
+                case "cap":      cap = (int) number(e[1], lineNo); break;
+                case "points":   wavePoints = e[1]; break;
+                case "spawn":    spawns.add(e); break;
+                default:
+                    throw new IllegalArgumentException("ligne " + lineNo + " : clé inconnue " + e[0]);
+            }
+        }
+
+        int n = spawns.size();
+        EnemyArchetype[] archetypes = new EnemyArchetype[n];
+        double[] periods = new double[n];
+        double[] starts = new double[n];
+        int[] counts = new int[n];
+        int[] caps = new int[n];
+        double[][] points = new double[n][];
+
+        for (int g = 0; g < n; g++) {
+            int lineNo = Integer.parseInt(spawns.get(g)[2]);
+            String[] tokens = spawns.get(g)[1].split("\\s+");
+            if (tokens.length % 2 != 1) {
+                throw new IllegalArgumentException("ligne " + lineNo + " : groupe invalide " + spawns.get(g)[1]);
+            }
+
+            archetypes[g] = EnemyArchetypes.get(tokens[0]);
+            if (archetypes[g] == null) {
+                throw new IllegalArgumentException("ligne " + lineNo + " : archétype inconnu " + tokens[0]);
+            }
+            periods[g] = -1;
+            counts[g] = 1;
+            String set = wavePoints;
+
+            for (int t = 1; t < tokens.length; t += 2) {
+                String value = tokens[t + 1];
+                switch (tokens[t]) {
+                    case "every": periods[g] = number(value, lineNo); break;
+                    case "after": starts[g] = number(value, lineNo); break;
+                    case "count": counts[g] = (int) number(value, lineNo); break;
+                    case "cap":   caps[g] = (int) number(value, lineNo); break;
+                    case "at":    set = value; break;
+                    default:
+                        throw new IllegalArgumentException("ligne " + lineNo + " : option inconnue " + tokens[t]);
+                }
+            }
+
+            points[g] = pointSets.get(set);
+            if (points[g] == null) {
+                throw new IllegalArgumentException("ligne " + lineNo + " : points inconnus " + set);
+            }
+        }
+
+        return new WaveScript(duration, cap, archetypes, periods, starts, counts, caps, points);
+    }
+
+    private static EndlessScript buildEndless(List<String[]> entries, Map<String, double[]> pointSets) {
+        double duration = -1;
+        double budget = -1;
+        double growth = 1;
+        int cap = 0;
+        String set = DEFAULT_POINTS;
+        List<EnemyArchetype> archetypes = new ArrayList<>();
+        List<Double> costs = new ArrayList<>();
+
+        for (String[] e : entries) {
+            int lineNo = Integer.parseInt(e[2]);
+            switch (e[0]) {
+                case "duration": duration = number(e[1], lineNo); break;
+                case "budget":   budget = number(e[1], lineNo); break;
+                case "growth":   growth = number(e[1], lineNo); break;
+                case "cap":      cap = (int) number(e[1], lineNo); break;
+                case "points":   set = e[1]; break;
+                case "spawn": {
+                    String[] tokens = e[1].split("\\s+");
+                    if (tokens.length != 3 || !tokens[1].equals("cost")) {
+                        throw new IllegalArgumentException("ligne " + lineNo + " : achat invalide " + e[1]);
+                    }
+                    EnemyArchetype archetype = EnemyArchetypes.get(tokens[0]);
+                    if (archetype == null) {
+                        throw new IllegalArgumentException("ligne " + lineNo + " : archétype inconnu " + tokens[0]);
+                    }
+                    archetypes.add(archetype);
+                    costs.add(number(tokens[2], lineNo));
+                    break;
+                }
+                default:
+                    throw new IllegalArgumentException("ligne " + lineNo + " : clé inconnue " + e[0]);
+            }
+        }
+
+        double[] points = pointSets.get(set);
+        if (points == null) throw new IllegalArgumentException("points inconnus " + set);
+
+        double[] costArray = new double[costs.size()];
+        for (int i = 0; i < costArray.length; i++) costArray[i] = costs.get(i);
+        return new EndlessScript(duration, budget, growth, cap,
+                archetypes.toArray(new EnemyArchetype[0]), costArray, points);
+    }
+
+    private static double number(String value, int lineNo) {
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("ligne " + lineNo + " : nombre invalide " + value);
+        }
+    }
+}
@@ -4,6 +4,9 @@ import java.awt.Color;
 import java.awt.Graphics2D;
 
 import src.core.Constants;
+import src.world.Collidable;
+import src.world.CollisionLayer;
+import src.util.Poolable;
 
 /**
  * Représente un projectile tiré par l’AK47 du joueur.
@@ -16,17 +19,21 @@ import src.core.Constants;
  * - La vitesse est définie par (vx, vy).
  * - Le projectile possède une taille fixe (16×4).
  * - Le projectile devient inactif lorsqu'il est "tué" ou sort de la fenêtre.
+ * - Les instances sont recyclées par un pool ({@link #reset()} puis {@link #init}).
  */
-public class Ak47Bullet {
+public class Ak47Bullet implements Collidable, Poolable {
 
     private double x, y;
     private double vx, vy;
     private final int width = 16;
     private final int height = 4;
 
-    private final int damage;
+    private int damage;
     private boolean alive = true;
 
+    private int collisionCategory = CollisionLayer.PLAYER_BULLET;
+    private int collisionMask = CollisionLayer.PLAYER_BULLET_MASK;
+
     /**
      * Crée un projectile de l'AK47.
      *
@@ -44,6 +51,35 @@ public class Ak47Bullet {
         this.damage = damage;
     }
 
+    /**
+     * Réinitialise le projectile à la sortie du pool.
+     */
+    @Override
+    public void reset() {
+        alive = true;
+        collisionCategory = CollisionLayer.PLAYER_BULLET;
+        collisionMask = CollisionLayer.PLAYER_BULLET_MASK;
+    }
+
+    /**
+     * Donne au projectile recyclé sa position, sa vitesse et ses dégâts.
+     *
+     * @param x position initiale en X
+     * @param y position initiale en Y
+     * @param vx vitesse horizontale
+     * @param vy vitesse verticale
+     * @param damage dégâts infligés à l’impact
+     * @return ce projectile
+     */
+    public Ak47Bullet init(double x, double y, double vx, double vy, int damage) {
+        this.x = x;
+        this.y = y;
+        this.vx = vx;
+        this.vy = vy;
+        this.damage = damage;
+        return this;
+    }
+
     /**
      * Met à jour la position du projectile.
      *
@@ -90,6 +126,26 @@ public class Ak47Bullet {
                 ry + rheight > y;
     }
 
+    /** @return position X du projectile */
+    public double getX() {
+        return x;
+    }
+
+    /** @return position Y du projectile */
+    public double getY() {
+        return y;
+    }
+
+    /** @return largeur du projectile */
+    public double getWidth() {
+        return width;
+    }
+
+    /** @return hauteur du projectile */
+    public double getHeight() {
+        return height;
+    }
+
     /**
      * @return les dégâts infligés par ce projectile
      */
@@ -110,4 +166,29 @@ public class Ak47Bullet {
     public void kill() {
         this.alive = false;
     }
+
+    /**
+     * @return calque de collision du projectile
+     */
+    @Override
+    public int getCollisionCategory() {
+        return collisionCategory;
+    }
+
+    /**
+     * @return calques touchés par le projectile (ennemis par défaut)
+     */
+    @Override
+    public int getCollisionMask() {
+        return collisionMask;
+    }
+
+    /**
+     * Modifie le masque de collision du projectile.
+     *
+     * @param collisionMask nouveau masque
+     */
+    public void setCollisionMask(int collisionMask) {
+        this.collisionMask = collisionMask;
+    }
 }
@@ -22,7 +22,7 @@ public class BonusShield extends Pickup {
     private static final BufferedImage sprite = SpriteLoader.load("assets/bonus/shield.png");
 
     /** Durée d’activation du bouclier une fois ramassé. */
-    private final double shieldDuration;
+    private double shieldDuration;
 
     /**
      * Crée un bonus de bouclier aux coordonnées indiquées.
@@ -36,6 +36,15 @@ public class BonusShield extends Pickup {
         this.shieldDuration = shieldDuration;
     }
 
+    /**
+     * Modifie la durée d'effet (utilisé lors du recyclage par le pool).
+     *
+     * @param duration durée d'effet du bouclier une fois ramassé, en secondes
+     */
+    public void setDuration(double duration) {
+        this.shieldDuration = duration;
+    }
+
     /**
      * Action exécutée lorsque le joueur ramasse le bonus.
      *
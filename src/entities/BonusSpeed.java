@@ -21,7 +21,7 @@ public class BonusSpeed extends Pickup {
     private static final BufferedImage sprite = SpriteLoader.load("assets/bonus/vitesse.png");
 
     /** Durée de l'effet de vitesse appliqué au joueur. */
-    private final double speedDuration;
+    private double speedDuration;
 
     /**
      * Crée un bonus de vitesse aux coordonnées spécifiées.
@@ -35,6 +35,15 @@ public class BonusSpeed extends Pickup {
         this.speedDuration = speedDuration;
     }
 
+    /**
+     * Modifie la durée d'effet (utilisé lors du recyclage par le pool).
+     *
+     * @param duration durée d'effet du bonus de vitesse une fois ramassé, en secondes
+     */
+    public void setDuration(double duration) {
+        this.speedDuration = duration;
+    }
+
     /**
      * Action exécutée lorsque le joueur ramasse ce bonus.
      *
@@ -1,5 +1,7 @@
 package src.entities;
 
+import src.world.Collidable;
+import src.world.CollisionLayer;
 import src.world.Level;
 import src.world.Platform;
 import src.core.Constants;
@@ -21,8 +23,11 @@ import java.awt.Graphics2D;
  *
  * <p>La classe gère uniquement le déplacement, la détection de collision
  * avec le décor, et le rendu graphique du projectile.</p>
+ *
+ * <p>{@code ProjectileManager} n'en conserve pas de référence : il recopie
+ * leur état dans son stockage en tableaux.</p>
  */
-public class Bullet {
+public class Bullet implements Collidable {
 
     /**
      * Position X du projectile.
@@ -64,6 +69,16 @@ public class Bullet {
      */
     private boolean alive = true;
 
+    /**
+     * Calque de collision du projectile.
+     */
+    private int collisionCategory = CollisionLayer.ENEMY_BULLET;
+
+    /**
+     * Calques touchés par le projectile (joueur et plateformes par défaut).
+     */
+    private int collisionMask = CollisionLayer.ENEMY_BULLET_MASK;
+
     /**
      * Référence vers le niveau afin de tester les collisions
      * contre les plateformes.
@@ -112,7 +127,8 @@ public class Bullet {
             return;
         }
 
-        // Collision plateformes
+        // Collision plateformes (uniquement si le masque l'autorise)
+        if (!CollisionLayer.accepts(collisionMask, CollisionLayer.PLATFORM)) return;
         for (Platform p : level.getPlatforms()) {
             if (p.intersects(x, y, width, height)) {
                 alive = false;
@@ -156,6 +172,23 @@ public class Bullet {
 
     public double getX() { return x; }
     public double getY() { return y; }
+    public double getVx() { return vx; }
+    public double getVy() { return vy; }
     public double getWidth() { return width; }
     public double getHeight() { return height; }
+
+    /** @return calque de collision du projectile */
+    @Override
+    public int getCollisionCategory() { return collisionCategory; }
+
+    /** @return calques touchés par le projectile */
+    @Override
+    public int getCollisionMask() { return collisionMask; }
+
+    /**
+     * Modifie le masque de collision du projectile.
+     *
+     * @param collisionMask nouveau masque
+     */
+    public void setCollisionMask(int collisionMask) { this.collisionMask = collisionMask; }
 }
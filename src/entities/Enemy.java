@@ -1,7 +1,14 @@
 package src.entities;
 
+import src.core.ProjectileManager;
+import src.core.SoundManager;
+import src.util.AimSolver;
+import src.world.CollisionLayer;
+import src.world.FlowField;
 import src.world.Level;
-import src.world.Platform;
+import src.world.NavGraph;
+import src.world.PhysicsWorld;
+import src.world.WorldSnapshot;
 
 import java.awt.Graphics2D;
 import java.awt.Color;
@@ -11,16 +18,28 @@ import java.awt.Color;
  *
  * <p>Elle gère :</p>
  * <ul>
- *     <li>la physique de base (gravité, collisions horizontales et verticales) ;</li>
+ *     <li>le lissage de la vitesse et la séparation entre ennemis
+ *         (gravité et collisions simulées par le {@link PhysicsWorld}) ;</li>
  *     <li>la détection du joueur ;</li>
  *     <li>l’orientation (regarder vers le joueur) ;</li>
  *     <li>le déplacement horizontal ;</li>
- *     <li>la gestion des états via {@link EnemyState} ;</li>
+ *     <li>la gestion des états via {@link EnemyState}, pilotés par la
+ *         {@link StateMachine} de chaque comportement ;</li>
  *     <li>le rendu simple (ovale rouge + barre de vie).</li>
  * </ul>
  *
  * <p>Chaque sous-classe doit implémenter la logique IA via
  * {@link #updateAI(double)}.</p>
+ *
+ * <p>La mise à jour se fait en deux phases :</p>
+ * <ul>
+ *     <li>{@link #think(double)} : décision de l'IA. Ne lit le joueur et le
+ *         niveau qu'en lecture seule et n'écrit que l'état de l'ennemi ; les
+ *         effets sur le reste du monde (coup au contact, tir, son) sont mis
+ *         en attente. Cette phase peut être exécutée en parallèle ;</li>
+ *     <li>{@link #act()} : application des effets en attente, sur le thread
+ *         du jeu et dans l'ordre de la liste des ennemis.</li>
+ * </ul>
  */
 public abstract class Enemy extends LivingEntity {
     // Cooldown d'attaque pour éviter le spam
@@ -44,11 +63,20 @@ public abstract class Enemy extends LivingEntity {
      */
     protected Player target;
 
+    /**
+     * Photographie du joueur pour le tick courant (partagée par le niveau) :
+     * l'IA la lit au lieu d'interroger {@link #target}.
+     */
+    protected final WorldSnapshot world;
+
     /**
      * État actuel de l’ennemi (idle, attack, chase...).
      */
     protected EnemyState state = EnemyState.IDLE;
 
+    /** Temps passé dans l'état courant (tenu par la {@link StateMachine}). */
+    protected double stateTime = 0.0;
+
     /**
      * Direction actuelle de l’ennemi :
      * <ul>
@@ -63,58 +91,119 @@ public abstract class Enemy extends LivingEntity {
      */
     protected double detectionRange = 0;
 
-    /**
-     * Intensité de la gravité appliquée à tous les ennemis.
-     */
-    protected static final double GRAVITY = 60.0;
+    /** Réglages partagés par tous les ennemis du même archétype. */
+    protected final EnemyArchetype archetype;
+
+    /** Liens de navigation validés pour le saut, la vitesse et la taille de l'archétype. */
+    protected final NavGraph.Profile navProfile;
+
+    /** Sens imposé par le lien suivi pendant un saut ou une chute (0 = aucun). */
+    private int pathDirection = 0;
+
+    /** Carré de la distance entre les centres de l'ennemi et du joueur (calculé au début de think). */
+    protected double playerDistSq;
+
+    /** Distance au point d'appel en deçà de laquelle l'IA doit décider à chaque tick. */
+    protected static final double TAKEOFF_LOOKAHEAD = 160.0;
+
+    // ----- Cadence de l'IA (niveau de détail, voir src.core.AiScheduler) -----
+    /** Temps écoulé depuis la dernière décision, rattrapé par la suivante. */
+    private double aiBacklog;
+    /** Ticks restants avant la prochaine décision (-1 : pas encore planifié). */
+    private int aiCountdown = -1;
+    /** Palier de cadence courant. */
+    private int aiTier;
+    /** Un saut est imminent : le point d'appel est proche. */
+    private boolean takeoffAhead;
+
+    // ----- Jeton d'attaque (voir src.core.AttackCoordinator) -----
+    /** Jeton accordé : l'ennemi peut attaquer le joueur. */
+    private boolean attackToken;
+    /** Nombre de ticks passés à attendre un jeton. */
+    private int attackWait;
+
+    /** Gestionnaire des projectiles ennemis ({@code null} pour un ennemi sans tir). */
+    protected final ProjectileManager projectileManager;
+
+    // ----- Effets décidés par think(), appliqués par act() -----
+    private boolean contactHitPending;
+    private String contactSound;
+    private boolean shotPending;
+    private double shotX, shotY, shotVx, shotVy;
+    private String shotSound;
 
     /**
-     * Indique si l’ennemi touche le sol (utile pour des sauts éventuels).
+     * Construit un ennemi à partir de son archétype (vie, dégâts, vitesse,
+     * taille et impulsion de saut).
+     *
+     * @param archetype réglages partagés de l'ennemi
+     * @param x position X initiale
+     * @param y position Y initiale
+     * @param level niveau contenant le décor et les plateformes
+     * @param target joueur visé
      */
-    protected boolean onGround = false;
+    public Enemy(EnemyArchetype archetype, double x, double y, Level level, Player target) {
+        this(archetype, x, y, level, target, null);
+    }
 
     /**
-     * Constructeur générique d'un ennemi.
+     * Construit un ennemi capable de tirer.
      *
+     * @param archetype réglages partagés de l'ennemi
      * @param x position X initiale
      * @param y position Y initiale
-     * @param maxHealth points de vie maximum
-     * @param damage dégâts causés par l’ennemi au joueur
-     * @param moveSpeed vitesse de déplacement
      * @param level niveau contenant le décor et les plateformes
      * @param target joueur visé
+     * @param projectileManager gestionnaire des projectiles ennemis
      */
-    public Enemy(double x, double y,
-                 int maxHealth, int damage,
-                 double moveSpeed,
-                 Level level,
-                 Player target) {
-
-        super(x, y, 50, 50, maxHealth, damage, moveSpeed, 0);
+    public Enemy(EnemyArchetype archetype, double x, double y, Level level, Player target,
+                 ProjectileManager projectileManager) {
+
+        super(x, y, archetype.getWidth(), archetype.getHeight(),
+                archetype.getMaxHealth(), archetype.getDamage(),
+                archetype.getMoveSpeed(), archetype.getJumpForce());
+        this.archetype = archetype;
+        this.projectileManager = projectileManager;
         this.level = level;
         this.target = target;
+        this.world = (level != null) ? level.getSnapshot() : new WorldSnapshot();
+        this.collisionCategory = CollisionLayer.ENEMY;
+        this.collisionMask = CollisionLayer.ENEMY_MASK;
+        this.navProfile = (level != null)
+                ? level.getNavGraph().getProfile(jumpForce, moveSpeed, width, height)
+                : null;
         // Register this enemy in the level so global entity lists are kept in sync.
         if (this.level != null) this.level.addEntity(this);
     }
 
     /**
-     * Calcule la distance linéaire entre l’ennemi et le joueur.
+     * Vérifie si le joueur se trouve dans la portée de détection.
      *
-     * @return distance en pixels
+     * @return {@code true} si le joueur est détecté
      */
-    protected double distanceToPlayer() {
-        double dx = target.getCenterX() - getCenterX();
-        double dy = target.getCenterY() - getCenterY();
-        return Math.sqrt(dx * dx + dy * dy);
+    protected boolean isPlayerInRange() {
+        return isPlayerWithin(detectionRange);
     }
 
     /**
-     * Vérifie si le joueur se trouve dans la portée de détection.
+     * Compare la distance au joueur (calculée une fois par {@link #think})
+     * à une portée, sans racine carrée.
      *
-     * @return {@code true} si le joueur est détecté
+     * @param range portée en pixels
+     * @return {@code true} si le joueur est à moins de {@code range}
      */
-    protected boolean isPlayerInRange() {
-        return distanceToPlayer() <= detectionRange;
+    protected boolean isPlayerWithin(double range) {
+        return playerDistSq <= range * range;
+    }
+
+    /**
+     * Indique si le joueur est visible depuis le centre de l'ennemi : aucune
+     * plateforme n'arrêterait un tir (lecture du cache de {@link src.world.LineOfSight}).
+     *
+     * @return {@code true} si la ligne de vue est dégagée
+     */
+    protected boolean canSeePlayer() {
+        return level == null || level.getLineOfSight().canSee(getCenterX(), getCenterY());
     }
 
     /**
@@ -122,7 +211,7 @@ public abstract class Enemy extends LivingEntity {
      * selon la position relative du joueur.
      */
     protected void lookAtPlayer() {
-        if (target.getCenterX() < this.getCenterX()) {
+        if (world.getPlayerCenterX() < this.getCenterX()) {
             direction = -1;
         } else {
             direction = 1;
@@ -130,82 +219,139 @@ public abstract class Enemy extends LivingEntity {
     }
 
     /**
-     * Déplace l’ennemi horizontalement en direction du joueur.
-     *
-     * @param dt delta time
+     * @return nœud du graphe de navigation sous l'ennemi, ou -1 en l'air
      */
-    protected void moveTowardsPlayer(double dt) {
-        // Set desired horizontal velocity; actual vx will be interpolated in update()
-        desiredVx = direction * moveSpeed * 60;
+    protected int currentNode() {
+        if (level == null || !onGround) return -1;
+        return level.getNavGraph().locate(level.getPhysicsWorld().getGroundPlatform(this), x, width);
     }
 
     /**
-     * Applique la gravité verticale.
+     * Lien du graphe de navigation à suivre pour rejoindre la surface du
+     * joueur (lecture O(1) dans la table précalculée du profil).
      *
-     * @param dt delta time
+     * @return le lien, ou {@code null} si l'ennemi est en l'air, déjà sur
+     *         la surface du joueur ou sans chemin vers elle
      */
-    protected void applyGravity(double dt) {
-        vy += GRAVITY * 60 * dt;
+    protected NavGraph.Link nextLink() {
+        if (navProfile == null) return null;
+        return navProfile.nextLink(currentNode(), level.getNavGraph().getTargetNode());
     }
 
     /**
-     * Résout les collisions horizontales avec les plateformes
-     * (s’arrête contre un mur).
+     * Oriente l'ennemi vers le joueur d'après le champ de directions partagé
+     * ({@link FlowField}, un accès tableau). Depuis une autre surface que
+     * celle du joueur, l'ennemi rejoint le point d'appel du prochain lien du
+     * graphe de navigation, saute en l'atteignant, puis garde le sens du
+     * lien pendant le saut ou la chute.
+     *
+     * @return {@code true} si l'ennemi suit un lien vers une autre surface
      */
-    private void resolveHorizontalCollision() {
-        for (Platform p : level.getPlatforms()) {
-            if (p.intersects(x, y, width, height)) {
+    protected boolean followPath() {
+        if (!onGround) {
+            if (pathDirection == 0) return false;
+            direction = pathDirection;
+            return true;
+        }
 
-                if (vx < 0) {
-                    x = p.x + p.width;
-                } else if (vx > 0) {
-                    x = p.x - width;
-                }
-                vx = 0;
-            }
+        if (navProfile == null) {
+            pathDirection = 0;
+            lookAtPlayer();
+            return false;
+        }
+        int node = currentNode();
+        NavGraph.Link link = navProfile.nextLink(node, level.getNavGraph().getTargetNode());
+        int flow = level.getFlowField().getDirection(navProfile, node, getCenterX());
+        if (link == null) {
+            pathDirection = 0;
+            if (flow != FlowField.FINE) direction = flow;
+            else lookAtPlayer();
+            return false;
         }
+
+        double dx = link.getTakeoffX() - x;
+        takeoffAhead = link.getType() == NavGraph.JUMP && Math.abs(dx) <= TAKEOFF_LOOKAHEAD;
+        if (link.getType() == NavGraph.DROP || Math.abs(dx) <= navProfile.getTakeoffTolerance()) {
+            direction = link.getDirection();
+            if (link.getType() == NavGraph.JUMP) vy = jumpForce * 60;
+        } else {
+            direction = (flow != FlowField.FINE) ? flow : (dx < 0) ? -1 : 1;
+        }
+        pathDirection = direction;
+        return true;
     }
 
     /**
-     * Résout les collisions verticales (sol, plafond)
-     * et met à jour l’état {@link #onGround}.
+     * Variante pour un ennemi immobile (en position de tir) : il ne quitte
+     * sa place que si un saut vers la surface du joueur part d'ici, et
+     * termine ensuite ce saut.
+     *
+     * @return {@code true} si l'ennemi doit se déplacer dans {@code direction}
      */
-    private void resolveVerticalCollision() {
-
-        onGround = false;
+    protected boolean jumpTowardsTargetSurface() {
+        if (!onGround) return followPath();
+
+        NavGraph.Link link = nextLink();
+        if (link == null || link.getType() != NavGraph.JUMP
+                || Math.abs(link.getTakeoffX() - x) > navProfile.getTakeoffTolerance()) {
+            pathDirection = 0;
+            return false;
+        }
+        return followPath();
+    }
 
-        for (Platform p : level.getPlatforms()) {
-            if (p.intersects(x, y, width, height)) {
+    /**
+     * Déplace l’ennemi horizontalement en direction du joueur.
+     *
+     * @param dt delta time
+     */
+    protected void moveTowardsPlayer(double dt) {
+        // Set desired horizontal velocity; actual vx will be interpolated in update()
+        desiredVx = direction * moveSpeed * 60;
+    }
 
-                if (vy > 0) {
-                    y = p.y - height;
-                    vy = 0;
-                    onGround = true;
-                } else if (vy < 0) {
-                    y = p.y + p.height;
-                    vy = 0;
-                }
-            }
-        }
+    /**
+     * Met à jour l'ennemi en enchaînant {@link #think(double)} et
+     * {@link #act()}.
+     *
+     * <p>Gravité, déplacements et collisions sont ensuite appliqués
+     * par le {@link PhysicsWorld} du niveau.</p>
+     *
+     * @param dt delta time
+     */
+    @Override
+    public void update(double dt) {
+        think(dt);
+        act();
     }
 
     /**
-     * Met à jour l'ennemi :
+     * Phase de décision :
      * <ul>
      *     <li>IA spécifique (implémentée dans les sous-classes) ;</li>
-     *     <li>gravité ;</li>
-     *     <li>déplacements ;</li>
-     *     <li>collisions.</li>
+     *     <li>lissage de la vitesse horizontale ;</li>
+     *     <li>séparation avec les autres ennemis.</li>
      * </ul>
      *
+     * <p>Lit le joueur, les plateformes et la position des autres ennemis
+     * sans les modifier, et n'écrit que les champs de cet ennemi : plusieurs
+     * ennemis peuvent y être traités en même temps.</p>
+     *
      * @param dt delta time
      */
-    @Override
-    public void update(double dt) {
+    public void think(double dt) {
+
+        // Rattrape le temps des ticks sautés par l'ordonnanceur
+        dt += aiBacklog;
+        aiBacklog = 0;
+        takeoffAhead = false;
 
         // Mise à jour du cooldown d'attaque
         if (attackCooldown > 0) attackCooldown -= dt;
 
+        // Distance au joueur calculée une seule fois (comparée au carré des portées)
+        playerDistSq = playerDistanceSq();
+
         // IA spécifique
         updateAI(dt);
 
@@ -219,25 +365,187 @@ public abstract class Enemy extends LivingEntity {
             vx = Math.signum(vx) * maxHoriz * 2.5;
         }
 
-        applyGravity(dt);
-
         // Correction de la superposition d'ennemis
         avoidOverlapWithOtherEnemies();
+    }
+
+    /**
+     * Tick sans décision (ennemi éloigné, voir {@code src.core.AiScheduler}) :
+     * l'ennemi garde sa vitesse et sa direction, et le temps écoulé est
+     * rattrapé au prochain {@link #think(double)}.
+     *
+     * @param dt delta time
+     */
+    public void coast(double dt) {
+        aiBacklog += dt;
+    }
+
+    /**
+     * Indique si l'ennemi doit décider à chaque tick quelle que soit sa
+     * distance au joueur : saut imminent ou en cours (le décollage et la
+     * réception doivent être gérés sans délai).
+     *
+     * @return {@code true} si l'ennemi ne peut pas sauter de tick
+     */
+    public boolean needsExactTiming() {
+        return takeoffAhead || !onGround;
+    }
+
+    /**
+     * @return {@code true} si l'ennemi est occupé à attaquer (préparation,
+     *         charge, tir, fuite...)
+     */
+    public boolean isEngaged() {
+        return state != EnemyState.IDLE && state != EnemyState.CHASING;
+    }
+
+    /**
+     * Indique si l'ennemi demande (ou garde) un jeton d'attaque. Évalué par
+     * le {@code AttackCoordinator} sur le thread du jeu, avant la phase
+     * think ; un jeton qui n'est plus demandé est rendu.
+     *
+     * @return {@code false} par défaut (ennemis sans attaque au contact)
+     */
+    public boolean wantsAttackToken() {
+        return false;
+    }
+
+    /** @return {@code true} si l'ennemi détient un jeton d'attaque */
+    public boolean hasAttackToken() { return attackToken; }
+
+    /** @param token jeton accordé ou retiré par le coordinateur */
+    public void setAttackToken(boolean token) { this.attackToken = token; }
+
+    /** @return nombre de ticks passés à attendre un jeton */
+    public int getAttackWait() { return attackWait; }
+
+    /** @param wait nombre de ticks passés à attendre un jeton */
+    public void setAttackWait(int wait) { this.attackWait = wait; }
+
+    /** @return joueur visé */
+    public Player getTarget() { return target; }
+
+    /** @return palier de cadence de l'IA */
+    public int getAiTier() { return aiTier; }
+
+    /** @param tier palier de cadence de l'IA */
+    public void setAiTier(int tier) { this.aiTier = tier; }
+
+    /** @return ticks restants avant la prochaine décision (-1 si pas encore planifié) */
+    public int getAiCountdown() { return aiCountdown; }
+
+    /** @param countdown ticks restants avant la prochaine décision */
+    public void setAiCountdown(int countdown) { this.aiCountdown = countdown; }
+
+    /** @return état courant de l'ennemi */
+    public EnemyState getState() { return state; }
+
+    /** @return temps passé dans l'état courant, en secondes */
+    public double getStateTime() { return stateTime; }
 
-        x += vx * dt;
-        resolveHorizontalCollision();
+    /** @return machine à états partagée par les ennemis de ce comportement */
+    public abstract StateMachine<?> getStateMachine();
 
-        y += vy * dt;
-        resolveVerticalCollision();
+    /**
+     * @return carré de la distance entre les centres de l'ennemi et du
+     *         joueur, d'après la photographie du tick
+     */
+    public double playerDistanceSq() {
+        return world.distanceSq(getCenterX(), getCenterY());
+    }
+
+    /**
+     * Phase d'action : applique les effets décidés au dernier
+     * {@link #think(double)} (dégâts au joueur, tir, sons).
+     * Doit être appelée sur le thread du jeu.
+     */
+    public void act() {
+        if (contactHitPending) {
+            contactHitPending = false;
+            target.takeDamage(damage);
+            if (contactSound != null) SoundManager.playSound(contactSound);
+        }
+        if (shotPending) {
+            shotPending = false;
+            if (projectileManager != null) {
+                projectileManager.spawnBullet(shotX, shotY, shotVx, shotVy, damage);
+            }
+            if (shotSound != null) SoundManager.playSound(shotSound);
+        }
+    }
+
+    /**
+     * Met en attente un coup au contact sur le joueur (appliqué par {@link #act()}).
+     *
+     * @param sound son à jouer, ou {@code null}
+     */
+    protected void queueContactHit(String sound) {
+        contactHitPending = true;
+        contactSound = sound;
+    }
+
+    /**
+     * Met en attente un tir (appliqué par {@link #act()}).
+     *
+     * @param x position X du projectile
+     * @param y position Y du projectile
+     * @param vx vitesse horizontale
+     * @param vy vitesse verticale
+     * @param sound son à jouer, ou {@code null}
+     */
+    protected void queueShot(double x, double y, double vx, double vy, String sound) {
+        shotPending = true;
+        shotX = x;
+        shotY = y;
+        shotVx = vx;
+        shotVy = vy;
+        shotSound = sound;
+    }
+
+    /**
+     * Tire vers le joueur en anticipant son déplacement.
+     *
+     * <p>Le point visé est la position d'interception calculée par
+     * {@link AimSolver} à partir de la vitesse du joueur capturée dans
+     * l'instantané du tick, pondérée par {@link EnemyArchetype#getAimLead()}
+     * (0 : position actuelle, 1 : interception exacte). Sans interception
+     * possible, l'ennemi vise la position actuelle.</p>
+     *
+     * @param sound son à jouer, ou {@code null}
+     */
+    protected void shootAtPlayer(String sound) {
+        double ex = getCenterX();
+        double ey = getCenterY();
+        double dx = world.getPlayerCenterX() - ex;
+        double dy = world.getPlayerCenterY() - ey;
+        double speed = archetype.getBulletSpeed();
+
+        double lead = archetype.getAimLead();
+        if (lead > 0) {
+            double t = AimSolver.interceptTime(dx, dy, world.getPlayerVx(), world.getPlayerVy(), speed);
+            if (t > 0) {
+                dx += world.getPlayerVx() * t * lead;
+                dy += world.getPlayerVy() * t * lead;
+            }
+        }
+
+        double len = Math.sqrt(dx * dx + dy * dy);
+        if (len == 0) len = 1;
+
+        // Tir et son d'attaque à distance appliqués par act()
+        queueShot(ex - 5, ey - 5, dx / len * speed, dy / len * speed, sound);
     }
 
     /**
      * Empêche les ennemis de se superposer en les repoussant légèrement.
+     * Seules les entités dont le calque passe le filtre de collision
+     * (voir {@link CollisionLayer}) sont prises en compte.
      */
     protected void avoidOverlapWithOtherEnemies() {
         if (level == null) return;
+        if (!CollisionLayer.accepts(collisionMask, level.getEntityLayers())) return;
         for (LivingEntity e : level.getEntities()) {
-            if (e != this && e instanceof Enemy) {
+            if (e != this && CollisionLayer.canCollide(this, e)) {
                 double dx = e.getCenterX() - getCenterX();
                 double dy = e.getCenterY() - getCenterY();
                 double dist = Math.sqrt(dx * dx + dy * dy);
@@ -252,6 +560,20 @@ public abstract class Enemy extends LivingEntity {
         }
     }
 
+    /**
+     * @return comportement de l'ennemi (celui de son archétype)
+     */
+    public EnemyType getType() {
+        return archetype.getBehavior();
+    }
+
+    /**
+     * @return archétype de l'ennemi
+     */
+    public EnemyArchetype getArchetype() {
+        return archetype;
+    }
+
     /**
      * IA spécifique de chaque type d’ennemi.
      *
@@ -5,15 +5,11 @@ import java.awt.Graphics2D;
 import java.awt.geom.AffineTransform;
 import java.awt.image.AffineTransformOp;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
-import java.io.InputStream;
 import src.world.Level;
-import src.core.SoundManager;
+import src.util.HitMask;
+import src.util.SpriteFrame;
 
-import java.io.File;
-import javax.imageio.ImageIO;
-
-import src.world.Platform;
+import src.world.NavGraph;
 
 /**
  * Enemy01 est un type d’ennemi basique mais agile,
@@ -25,11 +21,12 @@ import src.world.Platform;
  *     <li>rendre différentes animations (idle, marche, saut).</li>
  * </ul>
  *
- * <p>Il utilise une IA simple basée sur quatre états :</p>
+ * <p>Il utilise une IA simple basée sur cinq états (voir {@link StateMachine}) :</p>
  * <ul>
  *     <li>{@code IDLE} : déplacement tranquille vers le joueur ;</li>
  *     <li>{@code CHARGING} : immobilisation avant la charge ;</li>
  *     <li>{@code CHASING} : charge agressive à grande vitesse ;</li>
+ *     <li>{@code ATTACKING} : coup porté au contact du joueur ;</li>
  *     <li>{@code COOLDOWN} : courte phase après une attaque.</li>
  * </ul>
  *
@@ -38,37 +35,37 @@ import src.world.Platform;
  */
 public class Enemy01 extends Enemy {
 
-    /* ----------------------------
-     *         SPRITES
-     * ---------------------------- */
-
-    /** Sprite affiché lorsque l'ennemi est immobile. */
-    private BufferedImage idleSprite;
-
-    /** Sprite affiché lorsque l’ennemi saute. */
-    private BufferedImage jumpSprite;
-
-    /** Sprites pour l’animation de marche. */
-    private BufferedImage run1Sprite, run2Sprite, run3Sprite;
-
-    /** Tableau des sprites de course, utilisé par l'animation. */
-    private BufferedImage[] runSprites;
-
     /* ----------------------------
      *         IA & MOUVEMENT
      * ---------------------------- */
 
-    /** Portée à partir de laquelle l'ennemi déclenche la phase de charge. */
-    private double chargeRange = 200;
+    /**
+     * Machine à états partagée par tous les Enemy01. La charge n'est lancée
+     * qu'avec un jeton d'attaque (voir {@link #wantsAttackToken()}) ; sans
+     * jeton, l'ennemi attend à portée.
+     */
+    private static final StateMachine<Enemy01> BEHAVIOR = StateMachine.<Enemy01>builder("Enemy01")
+            .onUpdate(EnemyState.IDLE, Enemy01::approach)
+            .transition(EnemyState.IDLE, EnemyState.CHARGING, e -> e.isPlayerInRange() && e.hasAttackToken())
 
-    /** Accumulateur temporel utilisé pendant la phase CHARGING. */
-    private double chargeTimer = 0;
+            .onEnter(EnemyState.CHARGING, e -> e.desiredVx = 0)
+            .onUpdate(EnemyState.CHARGING, (e, dt) -> e.desiredVx = 0)
+            .timeout(EnemyState.CHARGING, e -> e.archetype.getChargeDuration(), EnemyState.CHASING)
 
-    /** Durée totale de la phase CHARGING avant de foncer. */
-    private final double chargeDuration = 1.5;
+            .onUpdate(EnemyState.CHASING, Enemy01::charge)
+            .transition(EnemyState.CHASING, EnemyState.ATTACKING, Enemy01::touchesPlayer)
+            .transition(EnemyState.CHASING, EnemyState.IDLE, e -> !e.isPlayerInRange())
 
-    /** Vitesse horizontale pendant la charge (supérieure à moveSpeed). */
-    private double chargeSpeed;
+            // Dégâts et son d'attaque rapprochée appliqués par act()
+            .onEnter(EnemyState.ATTACKING, e -> {
+                e.queueContactHit("punch-ennemi.mp3");
+                e.desiredVx = 0;
+            })
+            .transition(EnemyState.ATTACKING, EnemyState.COOLDOWN, e -> true)
+
+            .onUpdate(EnemyState.COOLDOWN, (e, dt) -> e.desiredVx = 0)
+            .transition(EnemyState.COOLDOWN, EnemyState.IDLE, e -> true)
+            .build();
 
     /** Temps avant qu’un nouveau saut soit autorisé. */
     private double jumpCooldown = 0;
@@ -85,58 +82,18 @@ public class Enemy01 extends Enemy {
     /**
      * Constructeur d’un ennemi Enemy01.
      *
-     * @param x      position X initiale.
-     * @param y      position Y initiale.
-     * @param level  niveau contenant plateformes et entités.
-     * @param target joueur poursuivi par l’ennemi.
-     */
-    public Enemy01(double x, double y, Level level, Player target) {
-        super(x, y, 3, 1, 4.0, level, target);
-
-        this.health = 3;
-        this.maxHealth = 3;
-
-        this.width = 60;
-        this.height = 80;
-
-        this.detectionRange = chargeRange;
-
-        this.chargeSpeed = moveSpeed * 2;
-
-        this.jumpForce = -15.0;
-
-        loadSprites();
-    }
-
-    /**
-     * Charge l’ensemble des sprites de l’ennemi (idle, marche, saut, attaque).
-     */
-    private void loadSprites() {
-        idleSprite = loadSprite("assets/enemy01/fadel-arret.png");
-        jumpSprite = loadSprite("assets/enemy01/fadel-jump.png");
-        run1Sprite = loadSprite("assets/enemy01/fadel-marche1.png");
-        run2Sprite = loadSprite("assets/enemy01/fadel-marche2.png");
-        run3Sprite = loadSprite("assets/enemy01/fadel-marche3.png");
-        loadSprite("assets/enemy01/fadel-attaque.png");
-
-        runSprites = new BufferedImage[] { run1Sprite, run2Sprite, run3Sprite };
-    }
-
-    /**
-     * Charge un sprite depuis un chemin d’accès (classpath puis fichier).
+     * <p>Portée et durée de charge, vitesse de charge, saut et sprites
+     * proviennent de l'archétype (voir {@code assets/data/enemies.cfg}).</p>
      *
-     * @param path chemin relatif vers l’image.
-     * @return l’image chargée, ou null en cas d’erreur.
+     * @param archetype réglages partagés de l’ennemi.
+     * @param x         position X initiale.
+     * @param y         position Y initiale.
+     * @param level     niveau contenant plateformes et entités.
+     * @param target    joueur poursuivi par l’ennemi.
      */
-    private BufferedImage loadSprite(String path) {
-        try {
-            InputStream is = Enemy01.class.getClassLoader().getResourceAsStream(path);
-            if (is != null) return ImageIO.read(is);
-            return ImageIO.read(new File(path));
-        } catch (IOException e) {
-            System.err.println("Erreur sprite : " + path);
-            return null;
-        }
+    public Enemy01(EnemyArchetype archetype, double x, double y, Level level, Player target) {
+        super(archetype, x, y, level, target);
+        this.detectionRange = archetype.getChargeRange();
     }
 
     /**
@@ -147,21 +104,23 @@ public class Enemy01 extends Enemy {
      *     <li>immobile → sprite idle</li>
      * </ul>
      *
-     * @return le sprite approprié
+     * @return le sprite approprié (image et masques)
      */
-    private BufferedImage getCurrentSprite() {
+    private SpriteFrame getCurrentSprite() {
         boolean isMoving = Math.abs(vx) > 0.1;
         boolean isJumping = !onGround;
+        SpriteFrame jumpSprite = archetype.getSprite("jump");
+        SpriteFrame[] runSprites = archetype.getSprites("run");
 
         if (isJumping && jumpSprite != null)
             return jumpSprite;
 
-        if (isMoving && runSprites != null && runSprites.length > 0) {
-            BufferedImage r = runSprites[animationIndex];
+        if (isMoving && runSprites.length > 0) {
+            SpriteFrame r = runSprites[animationIndex];
             if (r != null) return r;
         }
 
-        return idleSprite;
+        return archetype.getSprite("idle");
     }
 
     /**
@@ -173,8 +132,9 @@ public class Enemy01 extends Enemy {
 
         boolean isMoving = Math.abs(vx) > 0.1;
         boolean isJumping = !onGround;
+        int runCount = archetype.getSprites("run").length;
 
-        if (isJumping || !isMoving || runSprites == null || runSprites.length == 0) {
+        if (isJumping || !isMoving || runCount == 0) {
             animationIndex = 0;
             animationTimer = 0;
             return;
@@ -183,7 +143,7 @@ public class Enemy01 extends Enemy {
         animationTimer += dt;
         if (animationTimer > 0.10) {
             animationTimer = 0;
-            animationIndex = (animationIndex + 1) % runSprites.length;
+            animationIndex = (animationIndex + 1) % runCount;
         }
     }
 
@@ -200,112 +160,104 @@ public class Enemy01 extends Enemy {
 
         if (jumpCooldown > 0) jumpCooldown -= dt;
 
-        switch (state) {
-
-            case IDLE:
-                moveTowardsPlayer(dt);
-                attemptSmartJump();
+        BEHAVIOR.update(this, dt);
+    }
 
-                if (isPlayerInRange()) {
-                    state = EnemyState.CHARGING;
-                    chargeTimer = 0;
-                    desiredVx = 0;
-                }
-                break;
+    /**
+     * État IDLE : marche tranquille vers le joueur, ou attente sur place
+     * face au joueur s'il est à portée mais qu'aucun jeton n'est libre.
+     */
+    private void approach(double dt) {
+        if (isPlayerInRange()) {
+            desiredVx = 0;
+            return;
+        }
+        followPath();
+        facingDirection = direction;
+        moveTowardsPlayer(dt);
+        attemptSmartJump();
+    }
 
+    /**
+     * Le jeton est demandé dès que le joueur est à portée et gardé pendant
+     * la préparation, la charge et le coup ; il est rendu au repos.
+     */
+    @Override
+    public boolean wantsAttackToken() {
+        switch (state) {
             case CHARGING:
-                desiredVx = 0;
-                chargeTimer += dt;
-
-                if (chargeTimer >= chargeDuration)
-                    state = EnemyState.CHASING;
-
-                break;
-
             case CHASING:
-                desiredVx = direction * chargeSpeed * 60;
-                attemptSmartJump();
-
-                if (touchesPlayer()) {
-                    target.takeDamage(damage);
-                    // Son d'attaque rapprochée (Enemy01)
-                    SoundManager.playSound("punch-ennemi.mp3");
-                    state = EnemyState.COOLDOWN;
-                    desiredVx = 0;
-                }
-
-                if (!isPlayerInRange())
-                    state = EnemyState.IDLE;
-
-                break;
-
-            case COOLDOWN:
-                desiredVx = 0;
-                state = EnemyState.IDLE;
-                break;
+            case ATTACKING:
+                return true;
+            case IDLE:
+                return playerDistanceSq() <= detectionRange * detectionRange;
             default:
-                break;
+                return false;
         }
     }
 
+    /** État CHASING : charge à grande vitesse. */
+    private void charge(double dt) {
+        followPath();
+        facingDirection = direction;
+        desiredVx = direction * moveSpeed * archetype.getChargeSpeedFactor() * 60;
+        attemptSmartJump();
+    }
+
+    @Override
+    public StateMachine<?> getStateMachine() {
+        return BEHAVIOR;
+    }
+
     /**
-     * Vérifie si l’ennemi touche le joueur via leurs hitbox respectives.
+     * Vérifie si l’ennemi touche le joueur (rectangles puis masques au pixel près).
      *
      * @return {@code true} si collision.
      */
     private boolean touchesPlayer() {
-        return getRect().intersects(target.getRect());
+        return hitTest(target);
     }
 
     /**
-     * Saut contextuel.
+     * @return masque de collision du sprite affiché (orientation comprise)
+     */
+    @Override
+    public HitMask getHitMask() {
+        SpriteFrame sprite = getCurrentSprite();
+        return (sprite != null) ? sprite.getHitMask(facingDirection == -1) : null;
+    }
+
+    /**
+     * Saut contextuel : franchit un mur qui prolonge la surface courante.
+     * Les sauts vers la surface du joueur sont pris en charge par le
+     * graphe de navigation (voir {@link #followPath()}).
      */
     private void attemptSmartJump() {
 
         if (!onGround) return;
         if (jumpCooldown > 0) return;
 
-        Platform obstacle = detectObstacleInFront();
-        if (obstacle != null) {
-            vy = jumpForce * 60;
-            jumpCooldown = 0.7;
-            return;
-        }
-
-        double dy = target.getY() - y;
-        double dx = Math.abs(target.getX() - x);
-
-        if (dy < -20 && dx < 120) {
+        if (detectObstacleInFront()) {
             vy = jumpForce * 60;
             jumpCooldown = 0.7;
         }
     }
 
     /**
-     * Détecte la présence d’une plateforme juste devant l’ennemi.
+     * Détecte un mur juste devant l’ennemi, à partir des bords de sa
+     * surface précalculés dans le graphe de navigation.
      *
-     * @return une plateforme bloquante, ou {@code null}.
+     * @return {@code true} si un mur bloque le passage devant l'ennemi
      */
-    private Platform detectObstacleInFront() {
-
-        for (Platform p : level.getPlatforms()) {
+    private boolean detectObstacleInFront() {
+        int node = currentNode();
+        if (node < 0) return false;
 
-            boolean closeHeight =
-                    (y + height) >= p.y - 10 &&
-                            (y + height) <= p.y + p.height + 60;
-
-            if (!closeHeight) continue;
-
-            if (direction == 1) {
-                if (x + width + 5 >= p.x && x + width + 5 <= p.x + 20)
-                    return p;
-            } else {
-                if (x - 5 <= p.x + p.width && x - 5 >= p.x + p.width - 20)
-                    return p;
-            }
-        }
+        NavGraph nav = level.getNavGraph();
+        if (!nav.hasWall(node, direction)) return false;
 
-        return null;
+        if (direction == 1) return x + width + 20 >= nav.getNodeRight(node);
+        return x - 20 <= nav.getNodeLeft(node);
     }
 
     /**
@@ -331,7 +283,8 @@ public class Enemy01 extends Enemy {
     @Override
     public void render(Graphics2D g) {
 
-        BufferedImage sprite = getCurrentSprite();
+        SpriteFrame frame = getCurrentSprite();
+        BufferedImage sprite = (frame != null) ? frame.getImage() : null;
 
         if (sprite != null) {
             if (facingDirection == -1)
@@ -1,7 +1,8 @@
 package src.entities;
 
 import src.core.ProjectileManager;
-import src.core.SoundManager;
+import src.util.HitMask;
+import src.util.SpriteFrame;
 import src.world.Level;
 
 import java.awt.Color;
@@ -9,11 +10,6 @@ import java.awt.Graphics2D;
 import java.awt.geom.AffineTransform;
 import java.awt.image.AffineTransformOp;
 import java.awt.image.BufferedImage;
-import javax.imageio.ImageIO;
-
-import java.io.File;
-import java.io.InputStream;
-import java.io.IOException;
 
 /**
  * Ennemi à distance (Enemy02).
@@ -34,142 +30,74 @@ import java.io.IOException;
  */
 public class Enemy02 extends Enemy {
 
-    // Sprites (images)
-    private BufferedImage idleSprite;
-    private BufferedImage jumpSprite;
-    private BufferedImage shootSprite;
-    private BufferedImage run1Sprite;
-    private BufferedImage run2Sprite;
-
-    // Tableau pour l’animation de marche
-    private BufferedImage[] runSprites;
+    /**
+     * Machine à états partagée par tous les Enemy02 : l'état est choisi à
+     * chaque tick d'après la distance au joueur (fuite, tir, poursuite).
+     * Un joueur à portée mais caché par une plateforme est poursuivi
+     * plutôt que visé.
+     */
+    private static final StateMachine<Enemy02> BEHAVIOR = StateMachine.<Enemy02>builder("Enemy02")
+            .transitionFromAny(EnemyState.FLEEING, Enemy02::isTooClose)
+            .transitionFromAny(EnemyState.SHOOTING, e -> !e.isTooClose() && e.hasShot())
+            .transitionFromAny(EnemyState.CHASING, e -> !e.isTooClose() && !e.hasShot())
+            .onUpdate(EnemyState.FLEEING, (e, dt) -> e.vx = -e.direction * (e.moveSpeed * 0.5) * 60)
+            .onUpdate(EnemyState.SHOOTING, Enemy02::shootFromPosition)
+            .onUpdate(EnemyState.CHASING, Enemy02::chase)
+            .build();
 
     // Animation
     private int animationIndex = 0;
     private double animationTimer = 0;
 
-    // Distances de comportement
-    private double shootRange = 350;
-    private double fleeRange = 150;
-
-    // Tir
-    private final double shootCooldownMax = 3.0;
+    // Tir (portées, cadence et sprites fournis par l'archétype)
     private double shootCooldown = 0.0;
-    private final ProjectileManager projectileManager;
 
     /**
      * Crée un ennemi de type Enemy02.
      *
+     * @param archetype réglages partagés (portées de tir et de fuite, cadence, sprites)
      * @param x position X initiale
      * @param y position Y initiale
      * @param level référence vers le niveau actuel
      * @param target joueur visé
      * @param projectileManager gestionnaire de projectiles pour les tirs
      */
-    public Enemy02(double x, double y, Level level, Player target, ProjectileManager projectileManager) {
-        super(x, y, 1, 2, 12.0, level, target);
-
-        this.width = 30 * 2;
-        this.height = 40 * 2;
-        this.jumpForce = -21.0;
-
-        this.projectileManager = projectileManager;
-
-        loadSprites();
-    }
-
-    /**
-     * Charge toutes les images du personnage et initialise l’animation de marche.
-     */
-    private void loadSprites() {
-        idleSprite = loadSprite("assets/enemy02/hugo-arret.png");
-        jumpSprite = loadSprite("assets/enemy02/hugo-jump.png");
-        run1Sprite = loadSprite("assets/enemy02/hugo-marche01.png");
-        run2Sprite = loadSprite("assets/enemy02/hugo-marche02.png");
-        shootSprite = loadSprite("assets/enemy02/hugo-attaque.png");
-
-        runSprites = new BufferedImage[] { run1Sprite, run2Sprite };
-    }
-
-    /**
-     * Loader robuste :
-     * - classpath (avec/sans /)
-     * - fichiers relatifs au cwd
-     * - remonte plusieurs parents si besoin (../)
-     */
-    private BufferedImage loadSprite(String path) {
-        // 1) Classpath
-        BufferedImage cp = tryLoadFromClasspath(path);
-        if (cp != null) return cp;
-
-        // 2) File system simple
-        BufferedImage fs = tryLoadFromFile(path);
-        if (fs != null) return fs;
-
-        // 3) Remonter les dossiers parents (bin/, out/, build/, etc.)
-        File base = new File(System.getProperty("user.dir"));
-        for (int i = 0; i < 4; i++) {
-            File candidate = new File(base, path);
-            if (candidate.exists()) {
-                try { return ImageIO.read(candidate); }
-                catch (IOException ignored) {}
-            }
-            base = base.getParentFile();
-            if (base == null) break;
-        }
-
-        System.err.println("ERREUR sprite introuvable : " + path +
-                " | cwd=" + System.getProperty("user.dir"));
-        return null;
-    }
-
-    private BufferedImage tryLoadFromClasspath(String path) {
-        try {
-            ClassLoader cl = Enemy02.class.getClassLoader();
-            InputStream is = cl.getResourceAsStream(path);
-            if (is == null) is = cl.getResourceAsStream("/" + path);
-            if (is != null) return ImageIO.read(is);
-        } catch (IOException ignored) {}
-        return null;
-    }
-
-    private BufferedImage tryLoadFromFile(String path) {
-        try {
-            File f1 = new File(path);
-            if (f1.exists()) return ImageIO.read(f1);
-
-            File f2 = new File("./" + path);
-            if (f2.exists()) return ImageIO.read(f2);
-        } catch (IOException ignored) {}
-        return null;
+    public Enemy02(EnemyArchetype archetype, double x, double y, Level level, Player target,
+                   ProjectileManager projectileManager) {
+        super(archetype, x, y, level, target, projectileManager);
     }
 
     /**
      * Détermine le sprite à afficher selon l’état actuel de l’ennemi :
      * saut, tir, marche ou idle.
      */
-    private BufferedImage getCurrentSprite() {
+    private SpriteFrame getCurrentSprite() {
+        SpriteFrame jumpSprite = archetype.getSprite("jump");
+        SpriteFrame shootSprite = archetype.getSprite("shoot");
+        SpriteFrame[] runSprites = archetype.getSprites("run");
+
         if (!onGround && jumpSprite != null) return jumpSprite;
         if (state == EnemyState.SHOOTING && shootSprite != null) return shootSprite;
 
-        if (Math.abs(vx) > 0.1 && runSprites != null && runSprites.length > 0) {
-            BufferedImage r = runSprites[animationIndex];
+        if (Math.abs(vx) > 0.1 && runSprites.length > 0) {
+            SpriteFrame r = runSprites[animationIndex];
             if (r != null) return r;
         }
 
-        return idleSprite;
+        return archetype.getSprite("idle");
     }
 
     /**
      * Met à jour l’animation de marche.
      */
     private void updateAnimation(double dt) {
-        if (Math.abs(vx) < 0.1 || !onGround || runSprites == null || runSprites.length == 0) return;
+        int runCount = archetype.getSprites("run").length;
+        if (Math.abs(vx) < 0.1 || !onGround || runCount == 0) return;
 
         animationTimer += dt;
         if (animationTimer >= 0.1) {
             animationTimer = 0;
-            animationIndex = (animationIndex + 1) % runSprites.length;
+            animationIndex = (animationIndex + 1) % runCount;
         }
     }
 
@@ -195,68 +123,62 @@ public class Enemy02 extends Enemy {
 
         if (shootCooldown > 0) shootCooldown -= dt;
 
-        double dist = distanceToPlayer();
-
-        if (dist <= fleeRange)       state = EnemyState.FLEEING;
-        else if (dist <= shootRange) state = EnemyState.SHOOTING;
-        else                         state = EnemyState.CHASING;
-
-        switch (state) {
-
-            case FLEEING:
-                vx = -direction * (moveSpeed * 0.5) * 60;
-                break;
-
-            case SHOOTING:
-                vx = 0;
-                tryToReachHighGround();
-                if (shootCooldown <= 0) {
-                    shoot();
-                    shootCooldown = shootCooldownMax;
-                }
-                break;
-
-            case CHASING:
-                moveTowardsPlayer(dt);
-                if (onGround && target.getY() < this.y - 40) {
-                    vy = jumpForce * 60;
-                }
-                break;
-            default:
-                break;
-        }
+        BEHAVIOR.update(this, dt);
     }
 
-    private void tryToReachHighGround() {
-        if (target.getY() < this.y - 40 && onGround)
-            vy = jumpForce * 60;
+    /** État SHOOTING : reste en place (sauf saut vers le joueur) et tire. */
+    private void shootFromPosition(double dt) {
+        vx = tryToReachHighGround() ? direction * moveSpeed * 60 : 0;
+        if (shootCooldown <= 0) {
+            shootAtPlayer("shot.mp3");
+            shootCooldown = archetype.getShootCooldown();
+        }
     }
 
-    private void shoot() {
-        double ex = getCenterX();
-        double ey = getCenterY();
+    /** État CHASING : suit le graphe de navigation vers le joueur. */
+    private void chase(double dt) {
+        followPath();
+        moveTowardsPlayer(dt);
+    }
 
-        double px = target.getCenterX();
-        double py = target.getCenterY();
+    private boolean isTooClose() {
+        return isPlayerWithin(archetype.getFleeRange());
+    }
 
-        double dx = px - ex;
-        double dy = py - ey;
+    /** @return {@code true} si le joueur est à portée et visible */
+    private boolean hasShot() {
+        return isPlayerWithin(archetype.getShootRange()) && canSeePlayer();
+    }
 
-        double len = Math.sqrt(dx * dx + dy * dy);
-        if (len == 0) len = 1;
+    @Override
+    public StateMachine<?> getStateMachine() {
+        return BEHAVIOR;
+    }
 
-        double vxB = (dx / len) * 400;
-        double vyB = (dy / len) * 400;
+    /**
+     * En position de tir, saute vers la surface du joueur si un lien du
+     * graphe de navigation part d'ici.
+     *
+     * @return {@code true} si l'ennemi suit ce saut
+     */
+    private boolean tryToReachHighGround() {
+        return jumpTowardsTargetSurface();
+    }
 
-        projectileManager.addBullet(new Bullet(ex - 5, ey - 5, vxB, vyB, damage, level));
-        // Son d'attaque à distance (Enemy02)
-        SoundManager.playSound("shot.mp3");
+    /**
+     * @return masque de collision du sprite affiché (orientation comprise)
+     */
+    @Override
+    public HitMask getHitMask() {
+        SpriteFrame sprite = getCurrentSprite();
+        return (sprite != null) ? sprite.getHitMask(direction == -1) : null;
     }
 
     @Override
     public void render(Graphics2D g) {
 
-        BufferedImage sprite = getCurrentSprite();
+        SpriteFrame frame = getCurrentSprite();
+        BufferedImage sprite = (frame != null) ? frame.getImage() : null;
 
         if (sprite != null) {
 
@@ -1,7 +1,8 @@
 package src.entities;
 
 import src.core.ProjectileManager;
-import src.core.SoundManager;
+import src.util.HitMask;
+import src.util.SpriteFrame;
 import src.world.Level;
 
 import java.awt.Color;
@@ -9,128 +10,72 @@ import java.awt.Graphics2D;
 import java.awt.geom.AffineTransform;
 import java.awt.image.AffineTransformOp;
 import java.awt.image.BufferedImage;
-import javax.imageio.ImageIO;
-
-import java.io.InputStream;
-import java.io.File;
-import java.io.IOException;
 
 /**
  * Enemy03 — Ennemi hybride combinant la charge et le tir à distance.
  */
 public class Enemy03 extends Enemy {
 
-    // -----------------------------
-    // SPRITES (alexis)
-    // -----------------------------
-    private BufferedImage idleSprite;
-    private BufferedImage jumpSprite;
-    private BufferedImage shootSprite;
-    private BufferedImage chargePrepSprite;
-    private BufferedImage chargeSprite;
-    private BufferedImage run1Sprite;
-    private BufferedImage run2Sprite;
-
-    private BufferedImage[] runSprites;
-
     private int animationIndex = 0;
     private double animationTimer = 0.0;
 
     // -----------------------------
-    // Portées & timers
+    // Timers (portées, durées et sprites fournis par l'archétype)
     // -----------------------------
-    private double shootRange = 350;
-    private double chargeRange = 150;
-
-    private final double shootCooldownMax = 2.0;
     private double shootCooldown = 0.0;
 
-    private final double chargePrepTime = 0.7;
-    private double chargeTimer = 0.0;
-
-    private boolean isChargingPrep = false;
-    private boolean isCharging = false;
-
-    private final ProjectileManager projectileManager;
-
-    public Enemy03(double x, double y, Level level, Player target, ProjectileManager projectileManager) {
-        super(x, y, 5, 3, 8.0, level, target);
-        this.projectileManager = projectileManager;
-
-        this.width = 30 * 2;
-        this.height = 40 * 2;
-        this.jumpForce = -21.0;
-
-        loadSprites();
-    }
-
-    private void loadSprites() {
-        idleSprite       = loadSprite("assets/enemy03/alexis-arret.png");
-        jumpSprite       = loadSprite("assets/enemy03/alexis-jump.png");
-        run1Sprite       = loadSprite("assets/enemy03/alexis-marche1.png");
-        run2Sprite       = loadSprite("assets/enemy03/alexis-marche2.png");
-        chargeSprite     = loadSprite("assets/enemy03/alexis-rapproché.png");
-        shootSprite      = loadSprite("assets/enemy03/alexis-tir.png");
-
-        runSprites = new BufferedImage[] { run1Sprite, run2Sprite };
-        animationIndex = 0;
-        animationTimer = 0.0;
-    }
-
     /**
-     * Loader robuste identique à Enemy02.
+     * Machine à états partagée par tous les Enemy03 :
+     * <ul>
+     *     <li>{@code CHARGING} : préparation de la charge (immobile), avec
+     *         un jeton d'attaque seulement ;</li>
+     *     <li>{@code ATTACKING} : charge, jusqu'à ce que le joueur s'éloigne ;</li>
+     *     <li>{@code SHOOTING} / {@code CHASING} : tir à portée si la ligne
+     *         de vue est dégagée, poursuite sinon.</li>
+     * </ul>
      */
-    private BufferedImage loadSprite(String path) {
-        BufferedImage cp = tryLoadFromClasspath(path);
-        if (cp != null) return cp;
-
-        BufferedImage fs = tryLoadFromFile(path);
-        if (fs != null) return fs;
-
-        File base = new File(System.getProperty("user.dir"));
-        for (int i = 0; i < 4; i++) {
-            File candidate = new File(base, path);
-            if (candidate.exists()) {
-                try { return ImageIO.read(candidate); }
-                catch (IOException ignored) {}
+    private static final StateMachine<Enemy03> BEHAVIOR;
+
+    static {
+        StateMachine.Builder<Enemy03> b = StateMachine.<Enemy03>builder("Enemy03");
+        // Choix selon la distance, hors préparation et charge
+        for (EnemyState s : new EnemyState[] {EnemyState.IDLE, EnemyState.CHASING, EnemyState.SHOOTING}) {
+            b.transition(s, EnemyState.CHARGING,
+                    e -> e.isPlayerWithin(e.archetype.getChargeRange()) && e.hasAttackToken());
+            if (s != EnemyState.SHOOTING) {
+                b.transition(s, EnemyState.SHOOTING, Enemy03::hasShot);
+            }
+            if (s != EnemyState.CHASING) {
+                b.transition(s, EnemyState.CHASING, e -> !e.hasShot());
             }
-            base = base.getParentFile();
-            if (base == null) break;
         }
+        BEHAVIOR = b
+                .onEnter(EnemyState.CHARGING, e -> e.vx = 0)
+                .timeout(EnemyState.CHARGING, e -> e.archetype.getChargeDuration(), EnemyState.ATTACKING)
 
-        System.err.println("ERREUR sprite introuvable : " + path +
-                " | cwd=" + System.getProperty("user.dir"));
-        return null;
-    }
+                .onEnter(EnemyState.ATTACKING,
+                        e -> e.vx = e.direction * (e.moveSpeed * e.archetype.getChargeSpeedFactor()) * 60)
+                .transition(EnemyState.ATTACKING, EnemyState.CHASING,
+                        e -> !e.isPlayerWithin(e.archetype.getChargeRange() * 2))
 
-    private BufferedImage tryLoadFromClasspath(String path) {
-        try {
-            ClassLoader cl = Enemy03.class.getClassLoader();
-            InputStream is = cl.getResourceAsStream(path);
-            if (is == null) is = cl.getResourceAsStream("/" + path);
-            if (is != null) return ImageIO.read(is);
-        } catch (IOException ignored) {}
-        return null;
+                .onUpdate(EnemyState.SHOOTING, Enemy03::handleShooting)
+                .onUpdate(EnemyState.CHASING, Enemy03::chasePlayer)
+                .build();
     }
 
-    private BufferedImage tryLoadFromFile(String path) {
-        try {
-            File f1 = new File(path);
-            if (f1.exists()) return ImageIO.read(f1);
-
-            File f2 = new File("./" + path);
-            if (f2.exists()) return ImageIO.read(f2);
-        } catch (IOException ignored) {}
-        return null;
+    public Enemy03(EnemyArchetype archetype, double x, double y, Level level, Player target,
+                   ProjectileManager projectileManager) {
+        super(archetype, x, y, level, target, projectileManager);
     }
 
     private void updateAnimation(double dt) {
-        if (isChargingPrep || isCharging) return;
+        if (state == EnemyState.CHARGING || state == EnemyState.ATTACKING) return;
 
         boolean isMoving = Math.abs(vx) > 0.1;
         boolean isJumping = !onGround;
+        int runCount = archetype.getSprites("run").length;
 
-        if (!isMoving || isJumping || runSprites == null || runSprites.length == 0) {
+        if (!isMoving || isJumping || runCount == 0) {
             animationIndex = 0;
             animationTimer = 0.0;
             return;
@@ -139,19 +84,26 @@ public class Enemy03 extends Enemy {
         animationTimer += dt;
         if (animationTimer >= 0.10) {
             animationTimer = 0.0;
-            animationIndex = (animationIndex + 1) % runSprites.length;
+            animationIndex = (animationIndex + 1) % runCount;
         }
     }
 
-    private BufferedImage getCurrentSprite() {
-        if (isChargingPrep) {
+    private SpriteFrame getCurrentSprite() {
+        SpriteFrame idleSprite = archetype.getSprite("idle");
+        SpriteFrame chargePrepSprite = archetype.getSprite("chargePrep");
+        SpriteFrame chargeSprite = archetype.getSprite("charge");
+        SpriteFrame jumpSprite = archetype.getSprite("jump");
+        SpriteFrame shootSprite = archetype.getSprite("shoot");
+        SpriteFrame[] runSprites = archetype.getSprites("run");
+
+        if (state == EnemyState.CHARGING) {
             if (chargePrepSprite != null) return chargePrepSprite;
             return idleSprite;
         }
 
-        if (isCharging) {
+        if (state == EnemyState.ATTACKING) {
             if (chargeSprite != null) return chargeSprite;
-            if (runSprites != null && runSprites.length > 0 && runSprites[animationIndex] != null)
+            if (runSprites.length > 0 && runSprites[animationIndex] != null)
                 return runSprites[animationIndex];
             return idleSprite;
         }
@@ -159,11 +111,11 @@ public class Enemy03 extends Enemy {
         if (!onGround)
             return (jumpSprite != null ? jumpSprite : idleSprite);
 
-        if (shootCooldown > shootCooldownMax - 0.15 && shootSprite != null)
+        if (shootCooldown > archetype.getShootCooldown() - 0.15 && shootSprite != null)
             return shootSprite;
 
-        if (Math.abs(vx) > 1 && runSprites != null && runSprites.length > 0) {
-            BufferedImage r = runSprites[animationIndex];
+        if (Math.abs(vx) > 1 && runSprites.length > 0) {
+            SpriteFrame r = runSprites[animationIndex];
             if (r != null) return r;
         }
 
@@ -183,103 +135,66 @@ public class Enemy03 extends Enemy {
         lookAtPlayer();
         updateAnimation(dt);
 
-        double distance = distanceToPlayer();
         if (shootCooldown > 0) shootCooldown -= dt;
 
-        if (isChargingPrep) {
-            handleChargePrep(dt);
-            return;
-        }
-
-        if (isCharging) {
-            handleChargeActive(dt);
-            return;
-        }
-
-        if (distance <= chargeRange) {
-            startChargePrep();
-        } else if (distance <= shootRange) {
-            handleShooting(dt);
-        } else {
-            chasePlayer(dt);
-        }
+        BEHAVIOR.update(this, dt);
     }
 
-    private void startChargePrep() {
-        isChargingPrep = true;
-        chargeTimer = 0.0;
-        vx = 0;
-    }
-
-    private void handleChargePrep(double dt) {
-        chargeTimer += dt;
-        if (chargeTimer >= chargePrepTime) {
-            isChargingPrep = false;
-            startCharge();
-        }
+    @Override
+    public StateMachine<?> getStateMachine() {
+        return BEHAVIOR;
     }
 
-    private void startCharge() {
-        isCharging = true;
-        vx = direction * (moveSpeed * 2.0) * 60;
+    /**
+     * Le jeton est demandé à portée de charge et gardé jusqu'à la fin de la
+     * charge ; sans jeton, l'ennemi tire.
+     */
+    @Override
+    public boolean wantsAttackToken() {
+        if (state == EnemyState.CHARGING || state == EnemyState.ATTACKING) return true;
+        double range = archetype.getChargeRange();
+        return playerDistanceSq() <= range * range;
     }
 
-    private void handleChargeActive(double dt) {
-        double distance = distanceToPlayer();
-        if (distance > chargeRange * 2) {
-            isCharging = false;
-            vx = 0;
-        }
+    /** @return {@code true} si le joueur est à portée de tir et visible */
+    private boolean hasShot() {
+        return isPlayerWithin(archetype.getShootRange()) && canSeePlayer();
     }
 
     private void handleShooting(double dt) {
-        vx = 0;
-        if (onGround && target.getY() < this.y - 40) {
-            vy = jumpForce * 60;
-        }
+        // Ne bouge que pour suivre un saut vers la surface du joueur
+        vx = jumpTowardsTargetSurface() ? direction * moveSpeed * 60 : 0;
         if (shootCooldown <= 0) {
-            shoot();
-            shootCooldown = shootCooldownMax;
+            shootAtPlayer("shot.mp3");
+            shootCooldown = archetype.getShootCooldown();
         }
     }
 
-    private void shoot() {
-        double ex = getCenterX();
-        double ey = getCenterY();
-        double px = target.getCenterX();
-        double py = target.getCenterY();
-
-        double dx = px - ex;
-        double dy = py - ey;
-        double len = Math.sqrt(dx * dx + dy * dy);
-        if (len == 0) len = 1;
-
-        double dirX = dx / len;
-        double dirY = dy / len;
-
-        projectileManager.addBullet(
-                new Bullet(ex - 5, ey - 5, dirX * 450, dirY * 450, damage, level)
-        );
-        // Son d'attaque à distance (Enemy03)
-        SoundManager.playSound("shot.mp3");
-    }
-
     private void chasePlayer(double dt) {
+        // Le graphe de navigation choisit le sens et les sauts
+        followPath();
         vx = direction * moveSpeed * 60;
-        if (onGround && target.getY() < this.y - 50) {
-            vy = jumpForce * 60;
-        }
+    }
+
+    /**
+     * @return masque de collision du sprite affiché (orientation comprise)
+     */
+    @Override
+    public HitMask getHitMask() {
+        SpriteFrame sprite = getCurrentSprite();
+        return (sprite != null) ? sprite.getHitMask(direction == -1) : null;
     }
 
     @Override
     public void render(Graphics2D g) {
-        BufferedImage sprite = getCurrentSprite();
+        SpriteFrame frame = getCurrentSprite();
+        BufferedImage sprite = (frame != null) ? frame.getImage() : null;
 
         if (sprite != null) {
             if (direction == -1) sprite = flipImageHorizontally(sprite);
             g.drawImage(sprite, (int) x, (int) y, (int) width, (int) height, null);
         } else {
-            if (isChargingPrep) g.setColor(new Color(150, 0, 255));
+            if (state == EnemyState.CHARGING) g.setColor(new Color(150, 0, 255));
             else g.setColor(Color.RED);
 
             g.fillRect((int) x, (int) y, (int) width, (int) height);
@@ -0,0 +1,228 @@
+package src.entities;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import src.util.SpriteFrame;
+import src.util.SpriteLoader;
+
+/**
+ * Archétype d'ennemi : statistiques et réglages partagés, immuables,
+ * par toutes les instances d'un même type.
+ *
+ * <p>Les archétypes sont décrits dans {@code assets/data/enemies.cfg}
+ * et construits une seule fois au démarrage par {@link EnemyArchetypes}.
+ * Un ennemi ne conserve qu'une référence vers son archétype et son état
+ * propre (position, vie, timers) : portées, durées et vitesses ne sont
+ * plus dupliquées sur chaque instance.</p>
+ *
+ * <p>Les sprites sont chargés à la première demande puis partagés par
+ * tous les ennemis de l'archétype, de même que leurs masques de collision.</p>
+ *
+ * <p>Le comportement (la classe Java instanciée) est donné par
+ * {@link #getBehavior()} : plusieurs archétypes peuvent réutiliser le même
+ * comportement avec des réglages différents.</p>
+ */
+public final class EnemyArchetype {
+
+    private static final SpriteFrame[] NO_FRAMES = new SpriteFrame[0];
+
+    private final String name;
+    private final EnemyType behavior;
+
+    private final int maxHealth;
+    private final int damage;
+    private final double moveSpeed;
+    private final int width;
+    private final int height;
+    private final double jumpForce;
+
+    private final double chargeRange;
+    private final double chargeDuration;
+    private final double chargeSpeedFactor;
+    private final double shootRange;
+    private final double fleeRange;
+    private final double shootCooldown;
+    private final double bulletSpeed;
+    private final double aimLead;
+
+    private final double shieldDropChance;
+    private final double speedDropChance;
+
+    /** Chemins des sprites par clé ({@code idle}, {@code run}, ...). */
+    private final Map<String, String[]> spritePaths;
+
+    /**
+     * Sprites chargés avec leurs masques, partagés par toutes les instances
+     * (publiés une seule fois : lecture sans verrou depuis les threads de l'IA).
+     */
+    private volatile Map<String, SpriteFrame[]> sprites;
+
+    /**
+     * Construit un archétype à partir de ses propriétés (clé = valeur).
+     *
+     * @param name  nom de l'archétype (section du fichier)
+     * @param props propriétés lues dans le fichier de définition
+     * @throws IllegalArgumentException si une valeur est absente ou invalide
+     */
+    EnemyArchetype(String name, Map<String, String> props) {
+        this.name = name;
+        this.behavior = EnemyType.valueOf(require(props, "behavior"));
+
+        this.maxHealth = intValue(props, "health");
+        this.damage = intValue(props, "damage");
+        this.moveSpeed = doubleValue(props, "speed", 0);
+        this.width = intValue(props, "width");
+        this.height = intValue(props, "height");
+        this.jumpForce = doubleValue(props, "jumpForce", 0);
+
+        this.chargeRange = doubleValue(props, "chargeRange", 0);
+        this.chargeDuration = doubleValue(props, "chargeDuration", 0);
+        this.chargeSpeedFactor = doubleValue(props, "chargeSpeedFactor", 1);
+        this.shootRange = doubleValue(props, "shootRange", 0);
+        this.fleeRange = doubleValue(props, "fleeRange", 0);
+        this.shootCooldown = doubleValue(props, "shootCooldown", 0);
+        this.bulletSpeed = doubleValue(props, "bulletSpeed", 0);
+        this.aimLead = Math.max(0, Math.min(1, doubleValue(props, "aimLead", 0)));
+
+        this.shieldDropChance = doubleValue(props, "shieldDrop", 0);
+        this.speedDropChance = doubleValue(props, "speedDrop", 0);
+
+        Map<String, String[]> paths = new HashMap<>();
+        for (Map.Entry<String, String> e : props.entrySet()) {
+            if (!e.getKey().startsWith("sprite.")) continue;
+            String[] list = e.getValue().split(",");
+            for (int i = 0; i < list.length; i++) list[i] = list[i].trim();
+            paths.put(e.getKey().substring("sprite.".length()), list);
+        }
+        this.spritePaths = Collections.unmodifiableMap(paths);
+    }
+
+    private static String require(Map<String, String> props, String key) {
+        String v = props.get(key);
+        if (v == null) throw new IllegalArgumentException("propriété manquante : " + key);
+        return v;
+    }
+
+    private static int intValue(Map<String, String> props, String key) {
+        try {
+            return Integer.parseInt(require(props, key));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("entier invalide pour " + key + " : " + props.get(key));
+        }
+    }
+
+    private static double doubleValue(Map<String, String> props, String key, double def) {
+        String v = props.get(key);
+        if (v == null) return def;
+        try {
+            return Double.parseDouble(v);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("nombre invalide pour " + key + " : " + v);
+        }
+    }
+
+    /**
+     * Retourne les sprites associés à une clé (ex. {@code "run"} pour
+     * l'animation de marche). Les images sont chargées une seule fois,
+     * leurs masques de collision sont précalculés à la taille de l'archétype.
+     *
+     * @param key clé du sprite
+     * @return tableau partagé (ne pas modifier), vide si la clé est absente ;
+     *         une image introuvable y vaut {@code null}
+     */
+    public SpriteFrame[] getSprites(String key) {
+        Map<String, SpriteFrame[]> loaded = sprites;
+        if (loaded == null) loaded = loadSprites();
+        SpriteFrame[] s = loaded.get(key);
+        return (s != null) ? s : NO_FRAMES;
+    }
+
+    /**
+     * @param key clé du sprite
+     * @return premier sprite de la clé, ou {@code null} s'il n'existe pas
+     */
+    public SpriteFrame getSprite(String key) {
+        SpriteFrame[] s = getSprites(key);
+        return (s.length > 0) ? s[0] : null;
+    }
+
+    private synchronized Map<String, SpriteFrame[]> loadSprites() {
+        if (sprites != null) return sprites;
+        Map<String, SpriteFrame[]> loaded = new HashMap<>();
+        for (Map.Entry<String, String[]> e : spritePaths.entrySet()) {
+            String[] paths = e.getValue();
+            SpriteFrame[] frames = new SpriteFrame[paths.length];
+            for (int i = 0; i < paths.length; i++) {
+                // Masques de collision calculés une fois pour tout l'archétype
+                frames[i] = SpriteFrame.of(SpriteLoader.loadShared(paths[i]), width, height);
+            }
+            loaded.put(e.getKey(), frames);
+        }
+        sprites = loaded;
+        return loaded;
+    }
+
+    /** @return nom de l'archétype */
+    public String getName() { return name; }
+
+    /** @return comportement (classe d'ennemi) utilisé par l'archétype */
+    public EnemyType getBehavior() { return behavior; }
+
+    /** @return points de vie maximum */
+    public int getMaxHealth() { return maxHealth; }
+
+    /** @return dégâts infligés au joueur */
+    public int getDamage() { return damage; }
+
+    /** @return vitesse de déplacement (pixels par frame à 60 FPS) */
+    public double getMoveSpeed() { return moveSpeed; }
+
+    /** @return largeur d'affichage et de collision */
+    public int getWidth() { return width; }
+
+    /** @return hauteur d'affichage et de collision */
+    public int getHeight() { return height; }
+
+    /** @return impulsion de saut (négative vers le haut) */
+    public double getJumpForce() { return jumpForce; }
+
+    /** @return distance de déclenchement de la charge */
+    public double getChargeRange() { return chargeRange; }
+
+    /** @return durée de préparation de la charge (secondes) */
+    public double getChargeDuration() { return chargeDuration; }
+
+    /** @return multiplicateur de vitesse pendant la charge */
+    public double getChargeSpeedFactor() { return chargeSpeedFactor; }
+
+    /** @return portée de tir */
+    public double getShootRange() { return shootRange; }
+
+    /** @return distance en dessous de laquelle l'ennemi fuit */
+    public double getFleeRange() { return fleeRange; }
+
+    /** @return délai entre deux tirs (secondes) */
+    public double getShootCooldown() { return shootCooldown; }
+
+    /** @return vitesse des projectiles (pixels par seconde) */
+    public double getBulletSpeed() { return bulletSpeed; }
+
+    /**
+     * @return part de l'anticipation appliquée au tir, entre 0 (vise la
+     *         position actuelle du joueur) et 1 (vise le point d'interception)
+     */
+    public double getAimLead() { return aimLead; }
+
+    /** @return probabilité de lâcher un bonus de bouclier à la mort */
+    public double getShieldDropChance() { return shieldDropChance; }
+
+    /** @return probabilité de lâcher un bonus de vitesse à la mort */
+    public double getSpeedDropChance() { return speedDropChance; }
+
+    @Override
+    public String toString() {
+        return "EnemyArchetype[" + name + " (" + behavior + ")]";
+    }
+}
@@ -0,0 +1,205 @@
+package src.entities;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Registre des archétypes d'ennemis.
+ *
+ * <p>Au premier accès, le registre lit les valeurs par défaut intégrées au
+ * code puis le fichier {@value #DEFAULT_PATH} (classpath, puis disque), dont
+ * les sections complètent ou remplacent ces valeurs. Un fichier absent ou
+ * invalide n'empêche pas le jeu de démarrer : l'erreur est signalée sur la
+ * console et les valeurs par défaut sont conservées.</p>
+ *
+ * <p>Format : une section {@code [NOM]} par archétype, suivie de lignes
+ * {@code clé = valeur} ; les lignes commençant par {@code #} sont ignorées.
+ * Une section inconnue hérite des valeurs de l'archétype portant le nom de
+ * son {@code behavior}.</p>
+ */
+public final class EnemyArchetypes {
+
+    /** Emplacement du fichier de définition. */
+    public static final String DEFAULT_PATH = "assets/data/enemies.cfg";
+
+    /** Valeurs intégrées, utilisées si le fichier est absent ou incomplet. */
+    private static final String DEFAULTS = String.join("\n",
+            "[ENEMY01]",
+            "behavior = ENEMY01",
+            "health = 3", "damage = 1", "speed = 4.0",
+            "width = 60", "height = 80", "jumpForce = -15.0",
+            "chargeRange = 200", "chargeDuration = 1.5", "chargeSpeedFactor = 2.0",
+            "shieldDrop = 0.15",
+            "sprite.idle = assets/enemy01/fadel-arret.png",
+            "sprite.jump = assets/enemy01/fadel-jump.png",
+            "sprite.run = assets/enemy01/fadel-marche1.png, assets/enemy01/fadel-marche2.png,"
+                    + " assets/enemy01/fadel-marche3.png",
+            "[ENEMY02]",
+            "behavior = ENEMY02",
+            "health = 1", "damage = 2", "speed = 12.0",
+            "width = 60", "height = 80", "jumpForce = -21.0",
+            "shootRange = 350", "fleeRange = 150", "shootCooldown = 3.0", "bulletSpeed = 400",
+            "aimLead = 0.6", "speedDrop = 0.40",
+            "sprite.idle = assets/enemy02/hugo-arret.png",
+            "sprite.jump = assets/enemy02/hugo-jump.png",
+            "sprite.shoot = assets/enemy02/hugo-attaque.png",
+            "sprite.run = assets/enemy02/hugo-marche01.png, assets/enemy02/hugo-marche02.png",
+            "[ENEMY03]",
+            "behavior = ENEMY03",
+            "health = 5", "damage = 3", "speed = 8.0",
+            "width = 60", "height = 80", "jumpForce = -21.0",
+            "shootRange = 350", "chargeRange = 150", "chargeDuration = 0.7",
+            "chargeSpeedFactor = 2.0", "shootCooldown = 2.0", "bulletSpeed = 450",
+            "aimLead = 1.0",
+            "sprite.idle = assets/enemy03/alexis-arret.png",
+            "sprite.jump = assets/enemy03/alexis-jump.png",
+            "sprite.charge = assets/enemy03/alexis-rapproché.png",
+            "sprite.shoot = assets/enemy03/alexis-tir.png",
+            "sprite.run = assets/enemy03/alexis-marche1.png, assets/enemy03/alexis-marche2.png");
+
+    /** Archétypes chargés, par nom (ordre du fichier). */
+    private static Map<String, EnemyArchetype> archetypes;
+
+    private EnemyArchetypes() {}
+
+    /**
+     * @param name nom de l'archétype
+     * @return l'archétype, ou {@code null} s'il n'existe pas
+     */
+    public static synchronized EnemyArchetype get(String name) {
+        if (archetypes == null) load();
+        return archetypes.get(name);
+    }
+
+    /**
+     * @param type comportement
+     * @return archétype de base de ce comportement (section du même nom)
+     */
+    public static EnemyArchetype get(EnemyType type) {
+        return get(type.name());
+    }
+
+    /** @return tous les archétypes chargés, dans l'ordre du fichier */
+    public static synchronized Collection<EnemyArchetype> getAll() {
+        if (archetypes == null) load();
+        return Collections.unmodifiableCollection(archetypes.values());
+    }
+
+    /**
+     * Relit les valeurs par défaut et le fichier de définition.
+     */
+    public static synchronized void load() {
+        Map<String, Map<String, String>> sections = defaultSections();
+
+        try (InputStream in = open(DEFAULT_PATH)) {
+            if (in != null) {
+                parse(new InputStreamReader(in, StandardCharsets.UTF_8), sections);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("ERREUR lecture " + DEFAULT_PATH + " : " + e.getMessage());
+        }
+
+        archetypes = build(sections, build(defaultSections(), null));
+    }
+
+    /**
+     * Lit une définition d'archétypes depuis un flux et remplace le registre
+     * (les valeurs par défaut restent la base de l'héritage).
+     *
+     * @param reader source au format du fichier de définition
+     * @throws IOException en cas d'erreur de lecture
+     * @throws IllegalArgumentException si le contenu est invalide
+     */
+    public static synchronized void load(Reader reader) throws IOException {
+        Map<String, Map<String, String>> sections = defaultSections();
+        parse(reader, sections);
+        archetypes = build(sections, build(defaultSections(), null));
+    }
+
+    private static Map<String, Map<String, String>> defaultSections() {
+        Map<String, Map<String, String>> sections = new LinkedHashMap<>();
+        try {
+            parse(new StringReader(DEFAULTS), sections);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return sections;
+    }
+
+    private static InputStream open(String path) throws IOException {
+        InputStream is = EnemyArchetypes.class.getClassLoader().getResourceAsStream(path);
+        if (is != null) return is;
+        File f = new File(path);
+        return f.exists() ? new FileInputStream(f) : null;
+    }
+
+    /**
+     * Ajoute les sections lues dans {@code sections}. Une section déjà
+     * présente est complétée ; une nouvelle section part d'une copie de
+     * celle de son comportement dès que la clé {@code behavior} est lue.
+     */
+    private static void parse(Reader reader, Map<String, Map<String, String>> sections)
+            throws IOException {
+        BufferedReader in = new BufferedReader(reader);
+        Map<String, String> current = null;
+        String line;
+        int lineNo = 0;
+
+        while ((line = in.readLine()) != null) {
+            lineNo++;
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+
+            if (line.startsWith("[") && line.endsWith("]")) {
+                String name = line.substring(1, line.length() - 1).trim();
+                current = sections.computeIfAbsent(name, k -> new HashMap<>());
+                continue;
+            }
+
+            int eq = line.indexOf('=');
+            if (eq < 0 || current == null) {
+                throw new IllegalArgumentException("ligne " + lineNo + " invalide : " + line);
+            }
+            String key = line.substring(0, eq).trim();
+            String value = line.substring(eq + 1).trim();
+
+            if (key.equals("behavior") && current.isEmpty()) {
+                Map<String, String> base = sections.get(value);
+                if (base != null && base != current) current.putAll(base);
+            }
+            current.put(key, value);
+        }
+    }
+
+    /**
+     * Construit les archétypes. Une section invalide est signalée et
+     * remplacée par l'archétype par défaut du même nom s'il existe.
+     */
+    private static Map<String, EnemyArchetype> build(Map<String, Map<String, String>> sections,
+                                                     Map<String, EnemyArchetype> fallback) {
+        Map<String, EnemyArchetype> result = new LinkedHashMap<>();
+        for (Map.Entry<String, Map<String, String>> e : sections.entrySet()) {
+            try {
+                result.put(e.getKey(), new EnemyArchetype(e.getKey(), e.getValue()));
+            } catch (IllegalArgumentException ex) {
+                System.err.println("ERREUR archétype [" + e.getKey() + "] : " + ex.getMessage());
+                if (fallback != null && fallback.containsKey(e.getKey())) {
+                    result.put(e.getKey(), fallback.get(e.getKey()));
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -5,7 +5,8 @@ package src.entities;
  * <p>
  * Cette énumération est utilisée par les IA des différents types d'ennemis
  * (Enemy01, Enemy02, Enemy03...) afin de définir leur comportement courant.
- * Chaque implémentation interprète ces états selon sa logique propre.
+ * Chaque implémentation interprète ces états selon sa logique propre,
+ * décrite par une {@link StateMachine} (tables indexées par l'ordinal).
  * </p>
  */
 public enum EnemyState {
@@ -0,0 +1,73 @@
+package src.entities;
+
+import src.core.ProjectileManager;
+import src.world.Level;
+
+/**
+ * Comportements d'ennemis disponibles (classe Java instanciée).
+ *
+ * <p>Les statistiques et réglages ne sont pas portés ici mais par les
+ * {@link EnemyArchetype} lus dans le fichier de définition : plusieurs
+ * archétypes peuvent partager un même comportement. Tous les ennemis étant
+ * stockés dans la même liste du {@link Level}, ni le {@code WaveManager}
+ * ni le {@code Game} n'ont à connaître les classes concrètes.</p>
+ */
+public enum EnemyType {
+
+    /** Ennemi de mêlée qui charge le joueur. */
+    ENEMY01 {
+        @Override
+        public Enemy create(EnemyArchetype archetype, double x, double y, Level level,
+                            Player target, ProjectileManager projectileManager) {
+            return new Enemy01(archetype, x, y, level, target);
+        }
+    },
+
+    /** Ennemi à distance qui fuit au contact. */
+    ENEMY02 {
+        @Override
+        public Enemy create(EnemyArchetype archetype, double x, double y, Level level,
+                            Player target, ProjectileManager projectileManager) {
+            return new Enemy02(archetype, x, y, level, target, projectileManager);
+        }
+    },
+
+    /** Ennemi hybride (charge + tir). */
+    ENEMY03 {
+        @Override
+        public Enemy create(EnemyArchetype archetype, double x, double y, Level level,
+                            Player target, ProjectileManager projectileManager) {
+            return new Enemy03(archetype, x, y, level, target, projectileManager);
+        }
+    };
+
+    /**
+     * Crée un ennemi de ce comportement avec les réglages d'un archétype
+     * (il s'enregistre lui-même dans le niveau).
+     *
+     * @param archetype         réglages partagés
+     * @param x                 position X initiale
+     * @param y                 position Y initiale
+     * @param level             niveau courant
+     * @param target            joueur visé
+     * @param projectileManager gestionnaire des projectiles ennemis
+     * @return le nouvel ennemi
+     */
+    public abstract Enemy create(EnemyArchetype archetype, double x, double y, Level level,
+                                 Player target, ProjectileManager projectileManager);
+
+    /**
+     * Crée un ennemi avec l'archétype de base de ce comportement.
+     *
+     * @param x                 position X initiale
+     * @param y                 position Y initiale
+     * @param level             niveau courant
+     * @param target            joueur visé
+     * @param projectileManager gestionnaire des projectiles ennemis
+     * @return le nouvel ennemi
+     */
+    public Enemy create(double x, double y, Level level, Player target,
+                        ProjectileManager projectileManager) {
+        return create(EnemyArchetypes.get(this), x, y, level, target, projectileManager);
+    }
+}
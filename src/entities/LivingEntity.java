@@ -4,6 +4,12 @@ import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.Rectangle;
 
+import src.util.HitMask;
+import src.world.CollisionLayer;
+import src.world.EntityRegistry;
+import src.world.PhysicsBody;
+import src.world.PhysicsWorld;
+
 /**
  * Classe de base abstraite représentant une entité vivante dans le jeu.
  *
@@ -28,7 +34,7 @@ import java.awt.Rectangle;
  *     <li>{@link #render(Graphics2D)} — affichage</li>
  * </ul>
  */
-public abstract class LivingEntity {
+public abstract class LivingEntity implements PhysicsBody, EntityRegistry.Member {
 
     /** Position X de l'entité dans le monde du jeu (en pixels). */
     protected double x;
@@ -63,6 +69,24 @@ public abstract class LivingEntity {
     /** Vitesse verticale (pixels/s). */
     protected double vy = 0;
 
+    /** Calque(s) de collision de l'entité (voir {@link CollisionLayer}). */
+    protected int collisionCategory = CollisionLayer.NONE;
+
+    /** Calques avec lesquels l'entité peut entrer en collision. */
+    protected int collisionMask = CollisionLayer.NONE;
+
+    /** Indique si l'entité repose sur une plateforme (mis à jour par le {@link PhysicsWorld}). */
+    protected boolean onGround = false;
+
+    /** Contacts du dernier pas de simulation (bits {@code PhysicsWorld.CONTACT_*}). */
+    protected int contacts = 0;
+
+    /** Indice du corps dans le {@link PhysicsWorld} (-1 si non simulé). */
+    private int bodyIndex = -1;
+
+    /** Handle attribué par le registre d'entités du niveau. */
+    private long entityHandle = EntityRegistry.NO_HANDLE;
+
     /**
      * Construit une entité vivante avec des valeurs de base.
      *
@@ -154,6 +178,66 @@ public abstract class LivingEntity {
         return new Rectangle((int)x, (int)y, (int)width, (int)height);
     }
 
+    /**
+     * Retourne le masque de collision au pixel près de l'image affichée.
+     * Par défaut aucun masque : seul le rectangle est utilisé.
+     *
+     * @return masque de la frame courante, ou {@code null}
+     */
+    public HitMask getHitMask() {
+        return null;
+    }
+
+    /**
+     * Teste un impact entre deux entités : rectangles d'abord (AABB),
+     * puis masques au pixel près seulement si les rectangles se chevauchent.
+     *
+     * @param other entité testée
+     * @return {@code true} si les parties visibles se touchent
+     */
+    public boolean hitTest(LivingEntity other) {
+        if (!(x < other.x + other.width && x + width > other.x
+                && y < other.y + other.height && y + height > other.y)) {
+            return false;
+        }
+
+        HitMask a = getHitMask();
+        HitMask b = other.getHitMask();
+        if (a != null && b != null) {
+            return a.overlaps((int) x, (int) y, b, (int) other.x, (int) other.y);
+        }
+        if (a != null) {
+            return a.overlapsRect((int) x, (int) y,
+                    (int) other.x, (int) other.y, (int) other.width, (int) other.height);
+        }
+        if (b != null) {
+            return b.overlapsRect((int) other.x, (int) other.y,
+                    (int) x, (int) y, (int) width, (int) height);
+        }
+        return true;
+    }
+
+    /**
+     * Teste un impact entre l'entité et un rectangle (projectile) :
+     * AABB puis masque au pixel près.
+     *
+     * @param rx position X du rectangle
+     * @param ry position Y du rectangle
+     * @param rw largeur du rectangle
+     * @param rh hauteur du rectangle
+     * @return {@code true} si le rectangle touche une partie visible
+     */
+    public boolean hitTestRect(double rx, double ry, double rw, double rh) {
+        int ix = (int) x, iy = (int) y, iw = (int) width, ih = (int) height;
+        int bx = (int) rx, by = (int) ry, bw = (int) rw, bh = (int) rh;
+        if (!(bx < ix + iw && bx + bw > ix && by < iy + ih && by + bh > iy)) {
+            return false;
+        }
+
+        HitMask mask = getHitMask();
+        return mask == null || mask.overlapsRect(ix, iy, bx, by, bw, bh);
+    }
+
     /**
      * Affiche une barre de vie rouge (fond) et verte (vie restante)
      * au-dessus de l'entité.
@@ -204,4 +288,65 @@ public abstract class LivingEntity {
 
     /** @return centre Y de l'entité */
     public double getCenterY() { return y + height / 2.0; }
+
+    /** @return vitesse horizontale (pixels/s) */
+    @Override
+    public double getVx() { return vx; }
+
+    /** @return vitesse verticale (pixels/s) */
+    @Override
+    public double getVy() { return vy; }
+
+    /** @return true si l'entité repose sur une plateforme */
+    public boolean isOnGround() { return onGround; }
+
+    /** @return indice du corps dans le monde physique */
+    @Override
+    public int getBodyIndex() { return bodyIndex; }
+
+    /** @param index indice attribué par le monde physique */
+    @Override
+    public void setBodyIndex(int index) { this.bodyIndex = index; }
+
+    /** @return handle de l'entité dans le registre du niveau */
+    @Override
+    public long getEntityHandle() { return entityHandle; }
+
+    /** @param handle handle attribué par le registre du niveau */
+    @Override
+    public void setEntityHandle(long handle) { this.entityHandle = handle; }
+
+    /**
+     * Reçoit l'état calculé par le {@link PhysicsWorld} après un pas.
+     *
+     * @param x        nouvelle position X
+     * @param y        nouvelle position Y
+     * @param vx       nouvelle vitesse horizontale
+     * @param vy       nouvelle vitesse verticale
+     * @param contacts contacts détectés pendant le pas
+     */
+    @Override
+    public void onPhysicsStep(double x, double y, double vx, double vy, int contacts) {
+        this.x = x;
+        this.y = y;
+        this.vx = vx;
+        this.vy = vy;
+        this.contacts = contacts;
+        this.onGround = (contacts & PhysicsWorld.CONTACT_GROUND) != 0;
+    }
+
+    /** @return calque(s) de collision de l'entité */
+    @Override
+    public int getCollisionCategory() { return collisionCategory; }
+
+    /** @return calques avec lesquels l'entité peut entrer en collision */
+    @Override
+    public int getCollisionMask() { return collisionMask; }
+
+    /**
+     * Modifie le masque de collision (active / désactive des interactions).
+     *
+     * @param collisionMask nouveau masque
+     */
+    public void setCollisionMask(int collisionMask) { this.collisionMask = collisionMask; }
 }
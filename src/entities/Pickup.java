@@ -4,6 +4,9 @@ import java.awt.Graphics2D;
 import java.awt.Rectangle;
 
 import src.core.SoundManager;
+import src.world.Collidable;
+import src.world.CollisionLayer;
+import src.util.Poolable;
 
 /**
  * Représente un pickup générique dans le jeu (bonus).
@@ -23,8 +26,11 @@ import src.core.SoundManager;
  *     <li>{@link #onPickup(Player)} pour appliquer l’effet du bonus</li>
  *     <li>{@link #render(Graphics2D)} pour dessiner le bonus</li>
  * </ul>
+ *
+ * <p>Les pickups sont recyclés par les pools de {@code PickupManager} :
+ * {@link #reset()} remet le timer à zéro et {@link #setPosition} les replace.</p>
  */
-public abstract class Pickup {
+public abstract class Pickup implements Collidable, Poolable {
 
     /** Position X du pickup dans le monde */
     protected double x;
@@ -44,6 +50,12 @@ public abstract class Pickup {
     /** Temps écoulé depuis la création du pickup */
     protected double lifetime = 0.0;
 
+    /** Calque de collision du pickup */
+    protected int collisionCategory = CollisionLayer.PICKUP;
+
+    /** Calques pouvant ramasser le pickup (joueur par défaut) */
+    protected int collisionMask = CollisionLayer.PICKUP_MASK;
+
     /**
      * Constructeur d’un pickup générique.
      *
@@ -55,6 +67,28 @@ public abstract class Pickup {
         this.y = y;
     }
 
+    /**
+     * Réinitialise le pickup à la sortie du pool (actif, durée de vie à zéro).
+     */
+    @Override
+    public void reset() {
+        active = true;
+        lifetime = 0.0;
+        collisionCategory = CollisionLayer.PICKUP;
+        collisionMask = CollisionLayer.PICKUP_MASK;
+    }
+
+    /**
+     * Replace le pickup dans le monde.
+     *
+     * @param x position horizontale du pickup
+     * @param y position verticale du pickup
+     */
+    public void setPosition(double x, double y) {
+        this.x = x;
+        this.y = y;
+    }
+
     /**
      * Met à jour le pickup :
      * <ul>
@@ -78,8 +112,9 @@ public abstract class Pickup {
             return;
         }
 
-        // Collision avec le joueur
-        if (player != null && player.getRect().intersects(getBounds())) {
+        // Collision avec le joueur (filtrée par calques avant le test de rectangle)
+        if (player != null && CollisionLayer.canCollide(this, player)
+                && player.getRect().intersects(getBounds())) {
             onPickup(player);
             active = false;
         }
@@ -141,6 +176,18 @@ public abstract class Pickup {
         return active;
     }
 
+    /** @return calque de collision du pickup */
+    @Override
+    public int getCollisionCategory() {
+        return collisionCategory;
+    }
+
+    /** @return calques pouvant ramasser le pickup */
+    @Override
+    public int getCollisionMask() {
+        return collisionMask;
+    }
+
     /**
      * Méthode de rendu du pickup.
      * <p>IMPORTANT : commencer l’implémentation par :</p>
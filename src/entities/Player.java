@@ -1,9 +1,11 @@
 package src.entities;
 
-import src.core.Constants;
 import src.input.KeyboardInput;
+import src.util.HitMask;
+import src.util.SpriteFrame;
+import src.world.CollisionLayer;
 import src.world.Level;
-import src.world.Platform;
+import src.world.PhysicsWorld;
 
 import javax.imageio.ImageIO;
 import java.awt.Color;
@@ -22,8 +24,7 @@ import java.io.InputStream;
  * <p>Fonctionnalités :</p>
  * <ul>
  *     <li>Déplacement horizontal avec accélération et direction</li>
- *     <li>Saut + gestion de la gravité</li>
- *     <li>Collisions avec les plateformes</li>
+ *     <li>Saut (gravité et collisions simulées par le {@link PhysicsWorld})</li>
  *     <li>Attaque de mêlée (désactivée si AK47 obtenue)</li>
  *     <li>Effets temporaires de bonus (bouclier / vitesse)</li>
  *     <li>Affichage des sprites (idle, run, jump)</li>
@@ -38,24 +39,18 @@ public class Player extends LivingEntity {
     /** Référence au niveau contenant les plateformes pour les collisions. */
     private final Level level;
 
-    /** Constante de gravité appliquée verticalement. */
-    private static final double GRAVITY = 60.0;
-
-    /** Indique si le joueur repose actuellement sur une plateforme. */
-    private boolean onGround = false;
-
     // ---------------------------
     // Sprites du joueur
     // ---------------------------
 
-    /** Sprite affiché lorsque le joueur est immobile. */
-    private BufferedImage idleSprite;
+    /** Sprite affiché lorsque le joueur est immobile (avec ses masques). */
+    private SpriteFrame idleSprite;
 
-    /** Sprite affiché lorsque le joueur saute. */
-    private BufferedImage jumpSprite;
+    /** Sprite affiché lorsque le joueur saute (avec ses masques). */
+    private SpriteFrame jumpSprite;
 
-    /** Animations de marche (cycle). */
-    private BufferedImage[] runSprites;
+    /** Animations de marche (cycle, avec leurs masques). */
+    private SpriteFrame[] runSprites;
 
     /** Direction horizontale (-1 = gauche, +1 = droite). */
     private int facingDirection = 1;
@@ -117,24 +112,36 @@ public class Player extends LivingEntity {
         super(x, y, 50, 80, 5, 1, 8.0, -19.0);
         this.input = input;
         this.level = level;
+        this.collisionCategory = CollisionLayer.PLAYER;
+        this.collisionMask = CollisionLayer.PLAYER_MASK;
+        level.getPhysicsWorld().addBody(this, PhysicsWorld.FLAG_CLAMP_TO_SCREEN);
         loadSprites();
     }
 
     /**
-     * Charge les sprites du joueur (idle, jump, marche).
+     * Charge les sprites du joueur (idle, jump, marche) et calcule leurs
+     * masques de collision une fois pour toutes.
      */
     private void loadSprites() {
-        idleSprite = loadSprite("assets/player/ranya-arret.png");
-        jumpSprite = loadSprite("assets/player/ranya-jump1.png");
-
-        runSprites = new BufferedImage[] {
-                loadSprite("assets/player/ranya-marche1.png"),
-                loadSprite("assets/player/ranya-marche2.png"),
-                loadSprite("assets/player/ranya-marche3.png"),
-                loadSprite("assets/player/ranya-marche4.png")
+        idleSprite = loadFrame("assets/player/ranya-arret.png");
+        jumpSprite = loadFrame("assets/player/ranya-jump1.png");
+
+        runSprites = new SpriteFrame[] {
+                loadFrame("assets/player/ranya-marche1.png"),
+                loadFrame("assets/player/ranya-marche2.png"),
+                loadFrame("assets/player/ranya-marche3.png"),
+                loadFrame("assets/player/ranya-marche4.png")
         };
     }
 
+    /**
+     * @param path chemin du fichier image
+     * @return sprite et masques à la taille du joueur, ou null en cas d’erreur
+     */
+    private SpriteFrame loadFrame(String path) {
+        return SpriteFrame.of(loadSprite(path), (int) width, (int) height);
+    }
+
     /**
      * Charge un sprite depuis les ressources du projet.
      *
@@ -202,10 +209,11 @@ public class Player extends LivingEntity {
      *     <li>attaque melee</li>
      *     <li>bonus</li>
      *     <li>animation</li>
-     *     <li>physique (gravité)</li>
-     *     <li>collisions</li>
      * </ul>
      *
+     * <p>La gravité, les collisions et le maintien à l'écran sont appliqués
+     * ensuite par le {@link PhysicsWorld} du niveau.</p>
+     *
      * @param dt delta time en secondes
      */
     @Override
@@ -215,16 +223,6 @@ public class Player extends LivingEntity {
         updateAttack(dt);
         updateBonuses(dt);
         updateAnimation(dt);
-
-        vy += GRAVITY * 60 * dt;
-
-        x += vx * dt;
-        resolveHorizontalCollision();
-
-        y += vy * dt;
-        resolveVerticalCollision();
-
-        clampToScreen();
     }
 
     /**
@@ -285,56 +283,6 @@ public class Player extends LivingEntity {
         }
     }
 
-    /**
-     * Résout les collisions horizontales avec les plateformes.
-     */
-    private void resolveHorizontalCollision() {
-        for (Platform p : level.getPlatforms()) {
-            if (p.intersects(x, y, width, height)) {
-                if (vx > 0) x = p.x - width;
-                else if (vx < 0) x = p.x + p.width;
-                vx = 0;
-            }
-        }
-    }
-
-    /**
-     * Résout les collisions verticales avec le sol ou les plateformes.
-     */
-    private void resolveVerticalCollision() {
-        onGround = false;
-        for (Platform p : level.getPlatforms()) {
-            if (p.intersects(x, y, width, height)) {
-                if (vy > 0) {
-                    y = p.y - height;
-                    vy = 0;
-                    onGround = true;
-                } else if (vy < 0) {
-                    y = p.y + p.height;
-                    vy = 0;
-                }
-            }
-        }
-    }
-
-    /**
-     * Empêche le joueur de sortir de la fenêtre du jeu.
-     */
-    private void clampToScreen() {
-        if (x < 0) x = 0;
-        if (x + width > Constants.WINDOW_WIDTH) x = Constants.WINDOW_WIDTH - width;
-
-        if (y < 0) {
-            y = 0;
-            vy = 0;
-        }
-        if (y + height > Constants.WINDOW_HEIGHT) {
-            y = Constants.WINDOW_HEIGHT - height;
-            vy = 0;
-            onGround = true;
-        }
-    }
-
     /**
      * Dessine le joueur + barres de vie / bouclier / vitesse.
      *
@@ -343,7 +291,8 @@ public class Player extends LivingEntity {
     @Override
     public void render(Graphics2D g) {
 
-        BufferedImage sprite = getCurrentSprite();
+        SpriteFrame frame = getCurrentSprite();
+        BufferedImage sprite = (frame != null) ? frame.getImage() : null;
 
         if (sprite != null) {
             if (facingDirection == -1) sprite = flipImageHorizontally(sprite);
@@ -375,9 +324,9 @@ public class Player extends LivingEntity {
     /**
      * Retourne le sprite correspondant à l'état actuel du joueur.
      *
-     * @return sprite à afficher
+     * @return sprite à afficher (image et masques)
      */
-    private BufferedImage getCurrentSprite() {
+    private SpriteFrame getCurrentSprite() {
 
         boolean isMoving = Math.abs(vx) > 0.1;
         boolean isJumping = !onGround;
@@ -389,6 +338,15 @@ public class Player extends LivingEntity {
         return idleSprite;
     }
 
+    /**
+     * @return masque de collision du sprite affiché (orientation comprise)
+     */
+    @Override
+    public HitMask getHitMask() {
+        SpriteFrame sprite = getCurrentSprite();
+        return (sprite != null) ? sprite.getHitMask(facingDirection == -1) : null;
+    }
+
     /**
      * Retourne une copie horizontale inversée de l’image (flip).
      *
@@ -0,0 +1,256 @@
+package src.entities;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Machine à états d'un comportement d'ennemi, décrite une fois par classe
+ * et partagée par tous les ennemis de ce comportement.
+ *
+ * <p>Pour chaque {@link EnemyState} on déclare (voir {@link Builder}) :</p>
+ * <ul>
+ *     <li>les transitions, gardées par un prédicat et testées dans l'ordre
+ *         de déclaration (la première vraie l'emporte) ;</li>
+ *     <li>une durée maximale éventuelle, après laquelle l'ennemi passe dans
+ *         un état donné : le temps passé dans l'état ({@link Enemy#stateTime})
+ *         est tenu par la machine ;</li>
+ *     <li>une action d'entrée et une action exécutée à chaque tick.</li>
+ * </ul>
+ *
+ * <p>La description est compilée en tables denses indexées par l'ordinal
+ * de l'état : un tick ({@link #update}) ne fait ni recherche ni allocation.
+ * Au plus une transition est franchie par tick ; l'action de l'état courant
+ * (éventuellement le nouvel état) est exécutée ensuite.</p>
+ *
+ * <p>La machine ne porte aucun état propre à un ennemi : elle peut être
+ * utilisée pendant la phase de décision parallèle. Les compteurs de
+ * profilage (ticks passés dans chaque état, transitions franchies) sont
+ * des {@link LongAdder}.</p>
+ *
+ * @param <E> classe d'ennemi pilotée
+ */
+public final class StateMachine<E extends Enemy> {
+
+    private static final EnemyState[] STATES = EnemyState.values();
+    private static final int N = STATES.length;
+
+    private final String name;
+
+    // Tables indexées par ordinal d'état
+    private final Predicate<? super E>[][] guards;
+    private final int[][] targets;
+    private final ToDoubleFunction<? super E>[] timeouts;
+    private final int[] timeoutTargets;
+    private final Consumer<? super E>[] enterActions;
+    private final ObjDoubleConsumer<? super E>[] updateActions;
+
+    // Profilage
+    private final LongAdder[] occupancy = new LongAdder[N];
+    private final LongAdder[] transitions = new LongAdder[N * N];
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private StateMachine(Builder<E> b) {
+        this.name = b.name;
+        this.guards = new Predicate[N][];
+        this.targets = new int[N][];
+        this.timeouts = b.timeouts.clone();
+        this.timeoutTargets = b.timeoutTargets.clone();
+        this.enterActions = b.enterActions.clone();
+        this.updateActions = b.updateActions.clone();
+
+        for (int s = 0; s < N; s++) {
+            List<Transition<E>> list = new ArrayList<>(b.transitions.get(s));
+            for (Transition<E> t : b.anyTransitions) {
+                if (t.to != s) list.add(t);
+            }
+            guards[s] = new Predicate[list.size()];
+            targets[s] = new int[list.size()];
+            for (int i = 0; i < list.size(); i++) {
+                guards[s][i] = list.get(i).guard;
+                targets[s][i] = list.get(i).to;
+            }
+            occupancy[s] = new LongAdder();
+        }
+        for (int i = 0; i < transitions.length; i++) transitions[i] = new LongAdder();
+    }
+
+    /**
+     * @param name nom de la machine (pour le profilage)
+     * @param <E>  classe d'ennemi pilotée
+     * @return un constructeur de machine vide
+     */
+    public static <E extends Enemy> Builder<E> builder(String name) {
+        return new Builder<>(name);
+    }
+
+    /**
+     * Avance la machine d'un tick pour un ennemi : temps dans l'état,
+     * durée maximale, transitions, puis action de l'état courant.
+     *
+     * @param e  ennemi piloté
+     * @param dt delta time
+     */
+    public void update(E e, double dt) {
+        int s = e.state.ordinal();
+        e.stateTime += dt;
+        occupancy[s].increment();
+
+        int next = -1;
+        ToDoubleFunction<? super E> limit = timeouts[s];
+        if (limit != null && e.stateTime >= limit.applyAsDouble(e)) {
+            next = timeoutTargets[s];
+        } else {
+            Predicate<? super E>[] g = guards[s];
+            for (int i = 0; i < g.length; i++) {
+                if (g[i].test(e)) {
+                    next = targets[s][i];
+                    break;
+                }
+            }
+        }
+
+        if (next >= 0) {
+            transitions[s * N + next].increment();
+            e.state = STATES[next];
+            e.stateTime = 0;
+            Consumer<? super E> enter = enterActions[next];
+            if (enter != null) enter.accept(e);
+            s = next;
+        }
+
+        ObjDoubleConsumer<? super E> action = updateActions[s];
+        if (action != null) action.accept(e, dt);
+    }
+
+    /** @return nom de la machine */
+    public String getName() { return name; }
+
+    /**
+     * @param state état
+     * @return nombre de ticks passés dans cet état, tous ennemis confondus
+     */
+    public long getOccupancy(EnemyState state) {
+        return occupancy[state.ordinal()].sum();
+    }
+
+    /**
+     * @param from état de départ
+     * @param to   état d'arrivée
+     * @return nombre de transitions franchies de {@code from} vers {@code to}
+     */
+    public long getTransitionCount(EnemyState from, EnemyState to) {
+        return transitions[from.ordinal() * N + to.ordinal()].sum();
+    }
+
+    /** Remet les compteurs de profilage à zéro. */
+    public void resetStatistics() {
+        for (LongAdder a : occupancy) a.reset();
+        for (LongAdder a : transitions) a.reset();
+    }
+
+    /** Transition gardée, en cours de description. */
+    private static final class Transition<E> {
+        final int to;
+        final Predicate<? super E> guard;
+
+        Transition(int to, Predicate<? super E> guard) {
+            this.to = to;
+            this.guard = guard;
+        }
+    }
+
+    /**
+     * Description d'une machine à états, compilée par {@link #build()}.
+     *
+     * @param <E> classe d'ennemi pilotée
+     */
+    public static final class Builder<E extends Enemy> {
+        private final String name;
+        private final List<List<Transition<E>>> transitions = new ArrayList<>();
+        private final List<Transition<E>> anyTransitions = new ArrayList<>();
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        private final ToDoubleFunction<? super E>[] timeouts = new ToDoubleFunction[N];
+        private final int[] timeoutTargets = new int[N];
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        private final Consumer<? super E>[] enterActions = new Consumer[N];
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        private final ObjDoubleConsumer<? super E>[] updateActions = new ObjDoubleConsumer[N];
+
+        private Builder(String name) {
+            this.name = name;
+            for (int s = 0; s < N; s++) transitions.add(new ArrayList<>());
+        }
+
+        /**
+         * Ajoute une transition, testée après celles déjà déclarées pour
+         * le même état.
+         *
+         * @param from  état de départ
+         * @param to    état d'arrivée
+         * @param guard condition de franchissement
+         * @return ce constructeur
+         */
+        public Builder<E> transition(EnemyState from, EnemyState to, Predicate<? super E> guard) {
+            transitions.get(from.ordinal()).add(new Transition<>(to.ordinal(), guard));
+            return this;
+        }
+
+        /**
+         * Ajoute une transition depuis tous les autres états, testée après
+         * les transitions propres à chaque état.
+         *
+         * @param to    état d'arrivée
+         * @param guard condition de franchissement
+         * @return ce constructeur
+         */
+        public Builder<E> transitionFromAny(EnemyState to, Predicate<? super E> guard) {
+            anyTransitions.add(new Transition<>(to.ordinal(), guard));
+            return this;
+        }
+
+        /**
+         * Limite le temps passé dans un état. La durée est relue à chaque
+         * tick (elle peut dépendre de l'archétype).
+         *
+         * @param state    état limité
+         * @param duration durée maximale en secondes
+         * @param to       état atteint à l'échéance
+         * @return ce constructeur
+         */
+        public Builder<E> timeout(EnemyState state, ToDoubleFunction<? super E> duration, EnemyState to) {
+            timeouts[state.ordinal()] = duration;
+            timeoutTargets[state.ordinal()] = to.ordinal();
+            return this;
+        }
+
+        /**
+         * @param state  état
+         * @param action action exécutée à l'entrée dans l'état
+         * @return ce constructeur
+         */
+        public Builder<E> onEnter(EnemyState state, Consumer<? super E> action) {
+            enterActions[state.ordinal()] = action;
+            return this;
+        }
+
+        /**
+         * @param state  état
+         * @param action action exécutée à chaque tick passé dans l'état
+         * @return ce constructeur
+         */
+        public Builder<E> onUpdate(EnemyState state, ObjDoubleConsumer<? super E> action) {
+            updateActions[state.ordinal()] = action;
+            return this;
+        }
+
+        /** @return la machine compilée */
+        public StateMachine<E> build() {
+            return new StateMachine<>(this);
+        }
+    }
+}
@@ -6,7 +6,10 @@ import java.awt.image.BufferedImage;
 
 import src.core.ItemType;
 import src.core.SoundManager;
+import src.util.Poolable;
 import src.util.SpriteLoader;
+import src.world.Collidable;
+import src.world.CollisionLayer;
 
 /**
  * Représente un objet ramassable (item) posé au sol.
@@ -31,21 +34,28 @@ import src.util.SpriteLoader;
  * <p>L’item peut être rendu, mis à jour et détecté via un rectangle de collision.
  * Une fois ramassé, il est désactivé (alive = false).</p>
  *
+ * <p>Les items sont recyclés par le pool de {@code ItemPickupManager} :
+ * {@link #reset()} puis {@link #init} remplacent le constructeur.</p>
+ *
  * @see ItemType
  * @see SpriteLoader
  * @see SoundManager
  */
-public class ItemPickup {
+public class ItemPickup implements Collidable, Poolable {
 
-    private final ItemType type;
+    private ItemType type;
     private double x, y;
     private final int size = 32;
 
     private boolean alive = true;
 
+    // Calques de collision (ramassable par le joueur uniquement)
+    private final int collisionCategory = CollisionLayer.PICKUP;
+    private final int collisionMask = CollisionLayer.PICKUP_MASK;
+
     // Durée de vie (pour TIMER uniquement)
-    private final boolean expires;
-    private final double maxLifetime; // 20s pour TIMER, 0 pour AK47
+    private boolean expires;
+    private double maxLifetime; // 20s pour TIMER, 0 pour AK47
     private double lifetime = 0.0;
     private boolean expirationSoundPlayed = false;
 
@@ -64,6 +74,28 @@ public class ItemPickup {
      * @param type  Type de l’item (TIMER ou AK47)
      */
     public ItemPickup(double x, double y, ItemType type) {
+        init(x, y, type);
+    }
+
+    /**
+     * Réinitialise l’item à la sortie du pool (actif, durée de vie à zéro).
+     */
+    @Override
+    public void reset() {
+        alive = true;
+        lifetime = 0.0;
+        expirationSoundPlayed = false;
+    }
+
+    /**
+     * Donne à l’item recyclé sa position et son type.
+     *
+     * @param x     Position X dans le monde
+     * @param y     Position Y dans le monde
+     * @param type  Type de l’item (TIMER ou AK47)
+     * @return cet item
+     */
+    public ItemPickup init(double x, double y, ItemType type) {
         this.x = x;
         this.y = y;
         this.type = type;
@@ -75,6 +107,7 @@ public class ItemPickup {
             this.expires = false;
             this.maxLifetime = 0.0;
         }
+        return this;
     }
 
     /**
@@ -179,5 +212,24 @@ public class ItemPickup {
     public ItemType getType() {
         return type;
     }
-}
 
+    /**
+     * Retourne le calque de collision de l’item.
+     *
+     * @return catégorie de collision
+     */
+    @Override
+    public int getCollisionCategory() {
+        return collisionCategory;
+    }
+
+    /**
+     * Retourne les calques pouvant ramasser l’item.
+     *
+     * @return masque de collision
+     */
+    @Override
+    public int getCollisionMask() {
+        return collisionMask;
+    }
+}
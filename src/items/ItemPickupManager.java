@@ -9,6 +9,8 @@ import src.core.Inventory;
 import src.core.ItemType;
 import src.core.SoundManager;
 import src.entities.Player;
+import src.util.ObjectPool;
+import src.world.CollisionLayer;
 
 /**
  * Gère tous les objets ramassables (ItemPickup) présents dans la partie.
@@ -30,10 +32,20 @@ import src.entities.Player;
  *   <li>TIMER → ajouté dans l'inventaire si une case est disponible.</li>
  *   <li>AK47  → donne définitivement l'arme au joueur.</li>
  * </ul>
+ *
+ * <p>Les items ramassés ou expirés sont rendus à un {@link ObjectPool},
+ * puis ressortis au spawn suivant.</p>
  */
 public class ItemPickupManager {
 
     private final ArrayList<ItemPickup> items = new ArrayList<>();
+
+    /** Nombre maximal d'items libres conservés. */
+    private static final int POOL_SIZE = 4;
+
+    /** Pool des items ramassables. */
+    private final ObjectPool<ItemPickup> pool =
+            new ObjectPool<>(() -> new ItemPickup(0, 0, ItemType.TIMER), POOL_SIZE);
     private final Player player;
     private final Inventory inventory;
     private final Random random = new Random();
@@ -76,8 +88,9 @@ public class ItemPickupManager {
 
             if (!item.isAlive()) continue;
 
-            // Collision avec le joueur
-            if (player.getRect().intersects(item.getBounds())) {
+            // Collision avec le joueur (filtre de calques puis rectangle)
+            if (CollisionLayer.canCollide(item, player)
+                    && player.getRect().intersects(item.getBounds())) {
                 if (item.getType() == ItemType.TIMER) {
                     boolean added = inventory.addItem(ItemType.TIMER);
                     if (added) {
@@ -93,7 +106,19 @@ public class ItemPickupManager {
             }
         }
 
-        items.removeIf(i -> !i.isAlive());
+        // Compactage : les items ramassés ou expirés retournent dans le pool
+        int alive = 0;
+        for (int i = 0; i < items.size(); i++) {
+            ItemPickup item = items.get(i);
+            if (item.isAlive()) {
+                items.set(alive++, item);
+            } else {
+                pool.release(item);
+            }
+        }
+        for (int i = items.size() - 1; i >= alive; i--) {
+            items.remove(i);
+        }
     }
 
     /**
@@ -126,7 +151,7 @@ public class ItemPickupManager {
     private void spawnTimerItem() {
         double x = 100 + random.nextDouble() * (Constants.WINDOW_WIDTH - 200);
         double y = 150 + random.nextDouble() * (Constants.WINDOW_HEIGHT - 300);
-        items.add(new ItemPickup(x, y, ItemType.TIMER));
+        items.add(pool.acquire().init(x, y, ItemType.TIMER));
     }
 
     /**
@@ -135,7 +160,7 @@ public class ItemPickupManager {
     private void spawnAk47Item() {
         double x = 100 + random.nextDouble() * (Constants.WINDOW_WIDTH - 200);
         double y = 150 + random.nextDouble() * (Constants.WINDOW_HEIGHT - 300);
-        items.add(new ItemPickup(x, y, ItemType.AK47));
+        items.add(pool.acquire().init(x, y, ItemType.AK47));
     }
 
     /**
@@ -148,4 +173,7 @@ public class ItemPickupManager {
             item.render(g);
         }
     }
+
+    /** @return pool des items ramassables (statistiques) */
+    public ObjectPool<ItemPickup> getPool() { return pool; }
 }
@@ -0,0 +1,64 @@
+package src.util;
+
+/**
+ * Visée anticipée : temps d'interception d'une cible en mouvement
+ * rectiligne uniforme par un projectile de vitesse constante.
+ *
+ * <p>En notant {@code d} la position de la cible relative au tireur,
+ * {@code v} sa vitesse et {@code s} la vitesse du projectile, le temps
+ * {@code t} vérifie {@code |d + v·t| = s·t}, soit l'équation du second
+ * degré {@code (v·v − s²)·t² + 2·(d·v)·t + d·d = 0}. La plus petite racine
+ * positive donne le point d'interception {@code d + v·t}.</p>
+ *
+ * <p>Sans solution (cible plus rapide que le projectile et qui s'éloigne)
+ * ou avec une interception trop lointaine ({@link #MAX_LEAD_TIME}), le
+ * tireur vise la position actuelle.</p>
+ */
+public final class AimSolver {
+
+    /** Valeur renvoyée lorsqu'aucune interception n'est possible. */
+    public static final double NO_SOLUTION = -1;
+
+    /** Au-delà de ce délai (secondes), la trajectoire de la cible n'est plus prévisible. */
+    public static final double MAX_LEAD_TIME = 1.5;
+
+    private AimSolver() {
+    }
+
+    /**
+     * Calcule le temps d'interception.
+     *
+     * @param dx    position X de la cible relative au tireur
+     * @param dy    position Y de la cible relative au tireur
+     * @param vx    vitesse horizontale de la cible (px/s)
+     * @param vy    vitesse verticale de la cible (px/s)
+     * @param speed vitesse du projectile (px/s)
+     * @return temps d'interception en secondes, ou {@link #NO_SOLUTION}
+     *         (pas de solution ou délai supérieur à {@link #MAX_LEAD_TIME})
+     */
+    public static double interceptTime(double dx, double dy, double vx, double vy, double speed) {
+        double a = vx * vx + vy * vy - speed * speed;
+        double b = 2 * (dx * vx + dy * vy);
+        double c = dx * dx + dy * dy;
+
+        double t;
+        if (Math.abs(a) < 1e-9) {
+            // Cible aussi rapide que le projectile : équation du premier degré
+            if (b >= 0) return NO_SOLUTION;
+            t = -c / b;
+        } else {
+            double disc = b * b - 4 * a * c;
+            if (disc < 0) return NO_SOLUTION;
+            double root = Math.sqrt(disc);
+            double t1 = (-b - root) / (2 * a);
+            double t2 = (-b + root) / (2 * a);
+            if (t1 > t2) {
+                double tmp = t1;
+                t1 = t2;
+                t2 = tmp;
+            }
+            t = (t1 > 0) ? t1 : t2;
+        }
+        return (t > 0 && t <= MAX_LEAD_TIME) ? t : NO_SOLUTION;
+    }
+}
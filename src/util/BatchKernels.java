@@ -0,0 +1,103 @@
+package src.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Noyaux de calcul par lots sur des colonnes hors tas (structure de
+ * tableaux en {@link ByteBuffer} direct, ordre natif).
+ *
+ * <p>Chaque noyau est une boucle simple sur des colonnes contiguës, sans
+ * branche dépendante des données : le JIT la déroule et l'auto-vectorise
+ * lorsque la machine le permet.</p>
+ *
+ * <p>Conventions : les colonnes de {@code double} occupent 8 octets par
+ * élément, celles d'{@code int} 4 octets ; {@code n} est le nombre
+ * d'éléments traités à partir de l'indice 0.</p>
+ */
+public final class BatchKernels {
+
+    private static final VarHandle DOUBLE =
+            MethodHandles.byteBufferViewVarHandle(double[].class, ByteOrder.nativeOrder());
+
+    private static final VarHandle INT =
+            MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+
+    private BatchKernels() {
+    }
+
+    /**
+     * Intégration explicite : {@code pos[i] += vel[i] * dt}.
+     *
+     * @param pos colonne de positions (double)
+     * @param vel colonne de vitesses (double)
+     * @param n   nombre d'éléments
+     * @param dt  pas de temps
+     */
+    public static void integrate(ByteBuffer pos, ByteBuffer vel, int n, double dt) {
+        for (int off = 0, end = n << 3; off < end; off += 8) {
+            DOUBLE.set(pos, off, (double) DOUBLE.get(pos, off) + (double) DOUBLE.get(vel, off) * dt);
+        }
+    }
+
+    /**
+     * Ajoute {@code flag} aux drapeaux des rectangles entièrement sortis de
+     * la zone {@code [0, maxX] x [0, maxY]}.
+     *
+     * @param x     positions X (double)
+     * @param y     positions Y (double)
+     * @param w     largeurs (double)
+     * @param h     hauteurs (double)
+     * @param flags drapeaux (int)
+     * @param n     nombre d'éléments
+     * @param maxX  largeur de la zone
+     * @param maxY  hauteur de la zone
+     * @param flag  bit à positionner
+     */
+    public static void cullOutside(ByteBuffer x, ByteBuffer y, ByteBuffer w, ByteBuffer h,
+                                   ByteBuffer flags, int n, double maxX, double maxY, int flag) {
+        for (int i = 0; i < n; i++) {
+            int d = i << 3;
+            double px = (double) DOUBLE.get(x, d);
+            double py = (double) DOUBLE.get(y, d);
+            boolean out = (px + (double) DOUBLE.get(w, d) < 0) | (px > maxX)
+                    | (py + (double) DOUBLE.get(h, d) < 0) | (py > maxY);
+            int f = i << 2;
+            INT.set(flags, f, (int) INT.get(flags, f) | (out ? flag : 0));
+        }
+    }
+
+    /**
+     * Positionne {@code flag} pour les rectangles qui chevauchent
+     * {@code (rx, ry, rw, rh)} et l'efface pour les autres.
+     *
+     * @param x     positions X (double)
+     * @param y     positions Y (double)
+     * @param w     largeurs (double)
+     * @param h     hauteurs (double)
+     * @param flags drapeaux (int)
+     * @param n     nombre d'éléments
+     * @param rx    position X du rectangle testé
+     * @param ry    position Y du rectangle testé
+     * @param rw    largeur du rectangle testé
+     * @param rh    hauteur du rectangle testé
+     * @param flag  bit à positionner ou effacer
+     */
+    public static void overlapFlags(ByteBuffer x, ByteBuffer y, ByteBuffer w, ByteBuffer h,
+                                    ByteBuffer flags, int n,
+                                    double rx, double ry, double rw, double rh, int flag) {
+        double rx2 = rx + rw;
+        double ry2 = ry + rh;
+        for (int i = 0; i < n; i++) {
+            int d = i << 3;
+            double px = (double) DOUBLE.get(x, d);
+            double py = (double) DOUBLE.get(y, d);
+            boolean hit = (px + (double) DOUBLE.get(w, d) > rx) & (px < rx2)
+                    & (py + (double) DOUBLE.get(h, d) > ry) & (py < ry2);
+            int f = i << 2;
+            INT.set(flags, f, ((int) INT.get(flags, f) & ~flag) | (hit ? flag : 0));
+        }
+    }
+}
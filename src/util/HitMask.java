@@ -0,0 +1,175 @@
+package src.util;
+
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Masque de collision au pixel près, calculé une fois à partir du canal
+ * alpha d'un sprite.
+ *
+ * <p>Le masque est échantillonné à la taille d'affichage de l'entité
+ * (les sprites sont dessinés redimensionnés) et stocké ligne par ligne
+ * dans des {@code long[]} : un bit par pixel, 64 pixels par mot.
+ * Le test fin entre deux masques se réduit alors à des ET binaires
+ * sur les lignes qui se recouvrent.</p>
+ *
+ * <p>Ce test n'est destiné qu'à la phase étroite : il ne doit être appelé
+ * qu'après un test de rectangles (AABB) positif.</p>
+ */
+public final class HitMask {
+
+    /** Seuil d'opacité (0-255) à partir duquel un pixel est considéré plein. */
+    public static final int ALPHA_THRESHOLD = 128;
+
+    /** Cache des masques par image (les entrées disparaissent avec les images). */
+    private static final Map<BufferedImage, HitMask[]> CACHE = new WeakHashMap<>();
+
+    private final int width;
+    private final int height;
+    private final int wordsPerRow;
+    private final long[] rows;
+
+    private HitMask(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.wordsPerRow = (width + 63) >>> 6;
+        this.rows = new long[wordsPerRow * height];
+    }
+
+    /**
+     * Construit un masque à partir du canal alpha d'une image.
+     *
+     * @param img   image source
+     * @param w     largeur d'affichage (en pixels)
+     * @param h     hauteur d'affichage (en pixels)
+     * @param flipX {@code true} pour un masque retourné horizontalement
+     * @return masque de collision
+     */
+    public static HitMask fromAlpha(BufferedImage img, int w, int h, boolean flipX) {
+        HitMask mask = new HitMask(w, h);
+        int iw = img.getWidth();
+        int ih = img.getHeight();
+        boolean hasAlpha = img.getColorModel().hasAlpha();
+
+        for (int y = 0; y < h; y++) {
+            int sy = Math.min(ih - 1, y * ih / h);
+            int base = y * mask.wordsPerRow;
+            for (int x = 0; x < w; x++) {
+                int sx = Math.min(iw - 1, x * iw / w);
+                if (flipX) sx = iw - 1 - sx;
+                int alpha = hasAlpha ? (img.getRGB(sx, sy) >>> 24) : 255;
+                if (alpha >= ALPHA_THRESHOLD) {
+                    mask.rows[base + (x >>> 6)] |= 1L << (x & 63);
+                }
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Retourne le masque (mis en cache) d'une image à une taille donnée.
+     * Les deux orientations sont calculées ensemble au premier appel, une
+     * image partagée par plusieurs archétypes n'est donc analysée qu'une fois.
+     *
+     * <p>Réservé au chargement des sprites (voir {@link SpriteFrame}) : en
+     * jeu, les entités renvoient le masque stocké avec leur sprite.</p>
+     *
+     * @param img   image source (peut être {@code null})
+     * @param w     largeur d'affichage
+     * @param h     hauteur d'affichage
+     * @param flipX orientation souhaitée
+     * @return le masque, ou {@code null} si l'image est absente
+     */
+    public static synchronized HitMask of(BufferedImage img, int w, int h, boolean flipX) {
+        if (img == null || w <= 0 || h <= 0) return null;
+
+        HitMask[] pair = CACHE.get(img);
+        if (pair == null || pair[0].width != w || pair[0].height != h) {
+            pair = new HitMask[] { fromAlpha(img, w, h, false), fromAlpha(img, w, h, true) };
+            CACHE.put(img, pair);
+        }
+        return flipX ? pair[1] : pair[0];
+    }
+
+    /**
+     * Retourne 64 bits consécutifs d'une ligne à partir d'une colonne donnée
+     * (les bits hors du masque valent 0).
+     */
+    private long bits(int row, int start) {
+        int word = start >>> 6;
+        int off = start & 63;
+        int base = row * wordsPerRow;
+        long v = rows[base + word] >>> off;
+        if (off != 0 && word + 1 < wordsPerRow) {
+            v |= rows[base + word + 1] << (64 - off);
+        }
+        return v;
+    }
+
+    /**
+     * Teste le recouvrement de deux masques positionnés dans le monde.
+     *
+     * @param ax    position X de ce masque
+     * @param ay    position Y de ce masque
+     * @param other autre masque
+     * @param bx    position X de l'autre masque
+     * @param by    position Y de l'autre masque
+     * @return {@code true} si au moins un pixel plein est commun
+     */
+    public boolean overlaps(int ax, int ay, HitMask other, int bx, int by) {
+        int x0 = Math.max(ax, bx);
+        int x1 = Math.min(ax + width, bx + other.width);
+        int y0 = Math.max(ay, by);
+        int y1 = Math.min(ay + height, by + other.height);
+        if (x0 >= x1 || y0 >= y1) return false;
+
+        for (int y = y0; y < y1; y++) {
+            int ra = y - ay;
+            int rb = y - by;
+            for (int x = x0; x < x1; x += 64) {
+                long common = bits(ra, x - ax) & other.bits(rb, x - bx);
+                int span = x1 - x;
+                if (span < 64) common &= (1L << span) - 1;
+                if (common != 0) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Teste le recouvrement entre ce masque et un rectangle plein.
+     *
+     * @param ax position X de ce masque
+     * @param ay position Y de ce masque
+     * @param rx position X du rectangle
+     * @param ry position Y du rectangle
+     * @param rw largeur du rectangle
+     * @param rh hauteur du rectangle
+     * @return {@code true} si un pixel plein du masque est dans le rectangle
+     */
+    public boolean overlapsRect(int ax, int ay, int rx, int ry, int rw, int rh) {
+        int x0 = Math.max(ax, rx);
+        int x1 = Math.min(ax + width, rx + rw);
+        int y0 = Math.max(ay, ry);
+        int y1 = Math.min(ay + height, ry + rh);
+        if (x0 >= x1 || y0 >= y1) return false;
+
+        for (int y = y0; y < y1; y++) {
+            int r = y - ay;
+            for (int x = x0; x < x1; x += 64) {
+                long v = bits(r, x - ax);
+                int span = x1 - x;
+                if (span < 64) v &= (1L << span) - 1;
+                if (v != 0) return true;
+            }
+        }
+        return false;
+    }
+
+    /** @return largeur du masque */
+    public int getWidth() { return width; }
+
+    /** @return hauteur du masque */
+    public int getHeight() { return height; }
+}
@@ -0,0 +1,139 @@
+package src.util;
+
+import java.util.function.Supplier;
+
+/**
+ * Pool d'objets borné, destiné aux instances créées et détruites en
+ * grand nombre pendant le jeu (projectiles, bonus).
+ *
+ * <p>Les objets libérés sont conservés dans une pile de taille fixe et
+ * ressortis par {@link #acquire()}, qui les réinitialise via
+ * {@link Poolable#reset()}. Si la pile est vide, un nouvel objet est
+ * construit par la fabrique ; si elle est pleine, l'objet libéré est
+ * simplement abandonné au ramasse-miettes. En régime établi, un combat
+ * n'alloue donc plus rien.</p>
+ *
+ * <p>Statistiques exposées :</p>
+ * <ul>
+ *     <li><b>hits</b> : sorties servies depuis le pool ;</li>
+ *     <li><b>misses</b> : sorties ayant nécessité une allocation ;</li>
+ *     <li><b>high-water</b> : nombre maximal d'objets sortis simultanément,
+ *         utile pour dimensionner {@code maxSize}.</li>
+ * </ul>
+ *
+ * <p>Non thread-safe : un pool appartient au gestionnaire qui l'utilise.</p>
+ *
+ * @param <T> type des objets gérés
+ */
+public final class ObjectPool<T extends Poolable> {
+
+    /** Fabrique appelée lorsque le pool est vide. */
+    private final Supplier<T> factory;
+
+    /** Objets libres, utilisés comme une pile. */
+    private final Object[] free;
+
+    /** Nombre d'objets libres dans {@link #free}. */
+    private int freeCount = 0;
+
+    /** Nombre d'objets actuellement sortis du pool. */
+    private int inUse = 0;
+
+    private long hits = 0;
+    private long misses = 0;
+    private long discarded = 0;
+    private int highWater = 0;
+
+    /**
+     * Crée un pool vide.
+     *
+     * @param factory fabrique des nouveaux objets
+     * @param maxSize nombre maximal d'objets libres conservés
+     */
+    public ObjectPool(Supplier<T> factory, int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize < 0 : " + maxSize);
+        }
+        this.factory = factory;
+        this.free = new Object[maxSize];
+    }
+
+    /**
+     * Pré-remplit le pool pour éviter les allocations des premières frames.
+     *
+     * @param count nombre d'objets à créer (borné par la capacité restante)
+     */
+    public void prewarm(int count) {
+        int n = Math.min(count, free.length - freeCount);
+        for (int i = 0; i < n; i++) {
+            free[freeCount++] = factory.get();
+        }
+    }
+
+    /**
+     * Sort un objet du pool (ou en crée un) et le réinitialise.
+     *
+     * @return objet prêt à l'emploi
+     */
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        T obj;
+        if (freeCount > 0) {
+            obj = (T) free[--freeCount];
+            free[freeCount] = null;
+            hits++;
+        } else {
+            obj = factory.get();
+            misses++;
+        }
+        obj.reset();
+
+        inUse++;
+        if (inUse > highWater) highWater = inUse;
+        return obj;
+    }
+
+    /**
+     * Rend un objet au pool. L'appelant ne doit plus l'utiliser ensuite.
+     *
+     * @param obj objet à libérer (ignoré si {@code null})
+     */
+    public void release(T obj) {
+        if (obj == null) return;
+        if (inUse > 0) inUse--;
+
+        if (freeCount < free.length) {
+            free[freeCount++] = obj;
+        } else {
+            discarded++;
+        }
+    }
+
+    /** @return sorties servies sans allocation */
+    public long getHits() { return hits; }
+
+    /** @return sorties ayant alloué un nouvel objet */
+    public long getMisses() { return misses; }
+
+    /** @return objets libérés abandonnés car le pool était plein */
+    public long getDiscarded() { return discarded; }
+
+    /** @return nombre maximal d'objets sortis simultanément */
+    public int getHighWater() { return highWater; }
+
+    /** @return nombre d'objets actuellement sortis */
+    public int getInUse() { return inUse; }
+
+    /** @return nombre d'objets libres disponibles */
+    public int getFreeCount() { return freeCount; }
+
+    /** @return nombre maximal d'objets libres conservés */
+    public int getMaxSize() { return free.length; }
+
+    @Override
+    public String toString() {
+        return "ObjectPool[hits=" + hits + ", misses=" + misses
+                + ", highWater=" + highWater + ", inUse=" + inUse
+                + ", free=" + freeCount + "/" + free.length + "]";
+    }
+}
@@ -0,0 +1,18 @@
+package src.util;
+
+/**
+ * Objet réutilisable géré par un {@link ObjectPool}.
+ *
+ * <p>{@link #reset()} est appelé par le pool à chaque sortie de l'objet :
+ * il doit remettre l'instance dans l'état d'un objet fraîchement construit
+ * (actif, compteurs à zéro, calques par défaut). Les valeurs propres à
+ * chaque utilisation (position, vitesse...) sont ensuite fixées par
+ * l'appelant.</p>
+ */
+public interface Poolable {
+
+    /**
+     * Remet l'objet dans son état initial avant réutilisation.
+     */
+    void reset();
+}
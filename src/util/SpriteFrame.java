@@ -0,0 +1,48 @@
+package src.util;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * Image d'animation accompagnée de ses masques de collision, dans les deux
+ * orientations.
+ *
+ * <p>Les masques sont calculés une fois, au chargement du sprite, à la
+ * taille d'affichage de l'entité : en jeu, une entité n'a qu'à renvoyer
+ * le masque de l'image qu'elle affiche, sans calcul ni verrou.</p>
+ */
+public final class SpriteFrame {
+
+    private final BufferedImage image;
+    private final HitMask mask;
+    private final HitMask flippedMask;
+
+    private SpriteFrame(BufferedImage image, HitMask mask, HitMask flippedMask) {
+        this.image = image;
+        this.mask = mask;
+        this.flippedMask = flippedMask;
+    }
+
+    /**
+     * Associe une image chargée à ses masques de collision.
+     *
+     * @param image image chargée (peut être {@code null})
+     * @param w     largeur d'affichage
+     * @param h     hauteur d'affichage
+     * @return l'image et ses masques, ou {@code null} si l'image est absente
+     */
+    public static SpriteFrame of(BufferedImage image, int w, int h) {
+        if (image == null) return null;
+        return new SpriteFrame(image, HitMask.of(image, w, h, false), HitMask.of(image, w, h, true));
+    }
+
+    /** @return image à dessiner */
+    public BufferedImage getImage() { return image; }
+
+    /**
+     * @param flipX {@code true} si l'image est dessinée retournée
+     * @return masque de collision dans l'orientation demandée
+     */
+    public HitMask getHitMask(boolean flipX) {
+        return flipX ? flippedMask : mask;
+    }
+}
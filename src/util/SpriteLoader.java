@@ -5,6 +5,8 @@ import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.InputStream;
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Utilitaire permettant de charger des sprites depuis différents emplacements.
@@ -23,6 +25,9 @@ import java.io.IOException;
  */
 public class SpriteLoader {
 
+    /** Images déjà chargées par {@link #loadShared(String)}, par chemin. */
+    private static final Map<String, BufferedImage> SHARED = new HashMap<>();
+
     /**
      * Charge une image depuis un chemin donné.
      * <p>
@@ -51,4 +56,21 @@ public class SpriteLoader {
             return null;
         }
     }
+
+    /**
+     * Charge une image une seule fois et la partage entre tous les appelants.
+     * <p>
+     * L'image retournée ne doit pas être modifiée. Un échec de chargement
+     * est également mémorisé (la console n'est avertie qu'une fois).
+     * </p>
+     *
+     * @param path Chemin du sprite
+     * @return L'image partagée, ou <code>null</code> si elle est introuvable.
+     */
+    public static synchronized BufferedImage loadShared(String path) {
+        if (SHARED.containsKey(path)) return SHARED.get(path);
+        BufferedImage img = load(path);
+        SHARED.put(path, img);
+        return img;
+    }
 }
@@ -0,0 +1,22 @@
+package src.world;
+
+/**
+ * Contrat commun à tout objet participant aux tests de collision.
+ *
+ * <p>Chaque corps déclare :</p>
+ * <ul>
+ *     <li>une <b>catégorie</b> : le ou les calques auxquels il appartient ;</li>
+ *     <li>un <b>masque</b> : les calques avec lesquels il accepte d'entrer en collision.</li>
+ * </ul>
+ *
+ * <p>Les valeurs sont des bitmasks construits à partir des constantes
+ * de {@link CollisionLayer}.</p>
+ */
+public interface Collidable {
+
+    /** @return bitmask des calques auxquels appartient ce corps */
+    int getCollisionCategory();
+
+    /** @return bitmask des calques avec lesquels ce corps peut entrer en collision */
+    int getCollisionMask();
+}
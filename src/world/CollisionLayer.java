@@ -0,0 +1,95 @@
+package src.world;
+
+/**
+ * Calques de collision (catégories) utilisés par tous les corps du jeu.
+ *
+ * <p>Chaque corps possède une catégorie et un masque (voir {@link Collidable}).
+ * Deux corps ne sont testés géométriquement que si la catégorie de chacun
+ * figure dans le masque de l'autre. Le filtre est un simple ET binaire,
+ * effectué avant tout test de rectangle : les paires incompatibles
+ * (ex : balle ennemie / ennemi) sont écartées sans aucun calcul.</p>
+ *
+ * <p>Activer une nouvelle interaction (ennemi / ennemi, balle / balle,
+ * bonus / ennemi...) revient donc à modifier un masque, sans ajouter
+ * de nouvelle boucle de collision.</p>
+ */
+public final class CollisionLayer {
+
+    /** Aucun calque : le corps ne collisionne avec rien. */
+    public static final int NONE = 0;
+
+    /** Joueur. */
+    public static final int PLAYER = 1;
+
+    /** Ennemis (Enemy01, Enemy02, Enemy03). */
+    public static final int ENEMY = 1 << 1;
+
+    /** Projectiles tirés par les ennemis. */
+    public static final int ENEMY_BULLET = 1 << 2;
+
+    /** Projectiles tirés par le joueur (AK47). */
+    public static final int PLAYER_BULLET = 1 << 3;
+
+    /** Bonus et items ramassables. */
+    public static final int PICKUP = 1 << 4;
+
+    /** Plateformes du décor. */
+    public static final int PLATFORM = 1 << 5;
+
+    /** Tous les calques. */
+    public static final int ALL = ~0;
+
+    /** Masque par défaut du joueur. */
+    public static final int PLAYER_MASK = ENEMY | ENEMY_BULLET | PICKUP | PLATFORM;
+
+    /** Masque par défaut des ennemis (séparation ennemi / ennemi incluse). */
+    public static final int ENEMY_MASK = PLAYER | ENEMY | PLAYER_BULLET | PLATFORM;
+
+    /** Masque par défaut des projectiles ennemis. */
+    public static final int ENEMY_BULLET_MASK = PLAYER | PLATFORM;
+
+    /** Masque par défaut des projectiles du joueur. */
+    public static final int PLAYER_BULLET_MASK = ENEMY;
+
+    /** Masque par défaut des bonus et items. */
+    public static final int PICKUP_MASK = PLAYER;
+
+    private CollisionLayer() { }
+
+    /**
+     * Indique si deux corps décrits par leurs bitmasks doivent être testés.
+     *
+     * @param categoryA catégorie du corps A
+     * @param maskA     masque du corps A
+     * @param categoryB catégorie du corps B
+     * @param maskB     masque du corps B
+     * @return {@code true} si chacun accepte la catégorie de l'autre
+     */
+    public static boolean canCollide(int categoryA, int maskA, int categoryB, int maskB) {
+        return (categoryA & maskB) != 0 && (categoryB & maskA) != 0;
+    }
+
+    /**
+     * Indique si deux corps doivent être testés.
+     *
+     * @param a premier corps
+     * @param b second corps
+     * @return {@code true} si la paire passe le filtre de calques
+     */
+    public static boolean canCollide(Collidable a, Collidable b) {
+        return canCollide(a.getCollisionCategory(), a.getCollisionMask(),
+                b.getCollisionCategory(), b.getCollisionMask());
+    }
+
+    /**
+     * Indique si un masque accepte au moins un des calques donnés.
+     * Sert de pré-filtre avant de parcourir une liste entière de corps.
+     *
+     * @param mask   masque du corps testé
+     * @param layers union des catégories présentes dans la liste
+     * @return {@code true} si au moins une paire peut passer le filtre
+     */
+    public static boolean accepts(int mask, int layers) {
+        return (mask & layers) != 0;
+    }
+}
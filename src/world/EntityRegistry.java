@@ -0,0 +1,188 @@
+package src.world;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Registre d'entités adressées par des <b>handles générationnels</b>.
+ *
+ * <p>Un handle ({@code long}) combine un emplacement (32 bits de poids faible)
+ * et la génération de cet emplacement (32 bits de poids fort). Lorsqu'une
+ * entité est retirée, la génération de son emplacement est incrémentée :
+ * tout handle conservé vers elle devient <i>périmé</i> et
+ * {@link #get(long)} renvoie {@code null} au lieu d'un objet mort ou
+ * d'une autre entité ayant réutilisé l'emplacement.</p>
+ *
+ * <p>Les entités vivantes sont rangées de façon contiguë dans
+ * {@link #getDense()}, parcourue directement par les gestionnaires.
+ * L'ajout, le retrait (swap-remove) et la résolution d'un handle sont
+ * en O(1) ; le retrait ne conserve pas l'ordre de la liste.</p>
+ *
+ * <p>Non thread-safe.</p>
+ *
+ * @param <T> type des entités enregistrées
+ */
+public class EntityRegistry<T extends EntityRegistry.Member> {
+
+    /** Handle invalide (jamais attribué : les générations commencent à 1). */
+    public static final long NO_HANDLE = 0L;
+
+    /**
+     * Entité pouvant être enregistrée : elle mémorise son handle, ce qui
+     * permet de la retirer en O(1) à partir de sa seule référence.
+     */
+    public interface Member {
+
+        /** @return handle attribué par le registre ({@link #NO_HANDLE} sinon) */
+        long getEntityHandle();
+
+        /** @param handle handle attribué par le registre */
+        void setEntityHandle(long handle);
+    }
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    /** Entités vivantes, contiguës. */
+    private final ArrayList<T> dense = new ArrayList<>();
+
+    /** Emplacement de chaque entité de {@link #dense}. */
+    private int[] denseToSlot = new int[INITIAL_CAPACITY];
+
+    /** Indice dans {@link #dense} de l'entité occupant chaque emplacement (-1 si libre). */
+    private int[] slotToDense = new int[INITIAL_CAPACITY];
+
+    /** Génération courante de chaque emplacement. */
+    private int[] generation = new int[INITIAL_CAPACITY];
+
+    /** Pile des emplacements libres. */
+    private int[] freeSlots = new int[INITIAL_CAPACITY];
+    private int freeCount = 0;
+
+    /** Nombre d'emplacements déjà utilisés au moins une fois. */
+    private int slotCount = 0;
+
+    /**
+     * Enregistre une entité.
+     *
+     * @param e entité à ajouter (ne doit pas déjà être enregistrée)
+     * @return handle de l'entité
+     */
+    public long add(T e) {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (slotCount == generation.length) grow();
+            slot = slotCount++;
+            generation[slot] = 1;
+        }
+
+        int index = dense.size();
+        dense.add(e);
+        if (index >= denseToSlot.length) {
+            denseToSlot = Arrays.copyOf(denseToSlot, denseToSlot.length * 2);
+        }
+        denseToSlot[index] = slot;
+        slotToDense[slot] = index;
+
+        long handle = pack(slot, generation[slot]);
+        e.setEntityHandle(handle);
+        return handle;
+    }
+
+    /**
+     * Retire une entité en O(1) (la dernière entité prend sa place).
+     *
+     * @param e entité à retirer
+     * @return {@code true} si l'entité était enregistrée
+     */
+    public boolean remove(T e) {
+        long handle = e.getEntityHandle();
+        if (get(handle) != e) return false;
+        removeAt(slotToDense[slot(handle)]);
+        return true;
+    }
+
+    /**
+     * Retire l'entité occupant un indice de {@link #getDense()} en O(1).
+     * L'entité en dernière position vient occuper cet indice.
+     *
+     * @param index indice dans la liste dense
+     * @return l'entité retirée
+     */
+    public T removeAt(int index) {
+        int last = dense.size() - 1;
+        T removed = dense.get(index);
+        int slot = denseToSlot[index];
+
+        if (index != last) {
+            T moved = dense.get(last);
+            int movedSlot = denseToSlot[last];
+            dense.set(index, moved);
+            denseToSlot[index] = movedSlot;
+            slotToDense[movedSlot] = index;
+        }
+        dense.remove(last);
+
+        // Invalide tous les handles vers cet emplacement
+        slotToDense[slot] = -1;
+        generation[slot]++;
+        if (generation[slot] == 0) generation[slot] = 1;
+        freeSlots[freeCount++] = slot;
+
+        removed.setEntityHandle(NO_HANDLE);
+        return removed;
+    }
+
+    /**
+     * Résout un handle.
+     *
+     * @param handle handle à résoudre
+     * @return l'entité, ou {@code null} si le handle est périmé ou invalide
+     */
+    public T get(long handle) {
+        int slot = slot(handle);
+        if (slot < 0 || slot >= slotCount) return null;
+        if (generation[slot] != (int) (handle >>> 32)) return null;
+        int index = slotToDense[slot];
+        return (index >= 0) ? dense.get(index) : null;
+    }
+
+    /**
+     * @param handle handle à tester
+     * @return {@code true} si le handle désigne encore une entité enregistrée
+     */
+    public boolean isValid(long handle) {
+        return get(handle) != null;
+    }
+
+    /**
+     * Retourne la liste contiguë des entités enregistrées. Elle ne doit
+     * être modifiée qu'à travers le registre.
+     *
+     * @return entités vivantes
+     */
+    public ArrayList<T> getDense() {
+        return dense;
+    }
+
+    /** @return nombre d'entités enregistrées */
+    public int size() {
+        return dense.size();
+    }
+
+    private void grow() {
+        int n = generation.length * 2;
+        generation = Arrays.copyOf(generation, n);
+        slotToDense = Arrays.copyOf(slotToDense, n);
+        freeSlots = Arrays.copyOf(freeSlots, n);
+    }
+
+    private static long pack(int slot, int gen) {
+        return ((long) gen << 32) | (slot & 0xFFFFFFFFL);
+    }
+
+    private static int slot(long handle) {
+        return (int) handle;
+    }
+}
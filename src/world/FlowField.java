@@ -0,0 +1,159 @@
+package src.world;
+
+import src.core.Constants;
+
+import java.util.Arrays;
+
+/**
+ * Champ de directions grossier vers le joueur, partagé par toute la horde.
+ *
+ * <p>Chaque surface du {@link NavGraph} est découpée en colonnes de
+ * {@link #CELL_SIZE} pixels : une cellule est un couple (surface, colonne).
+ * Pour chaque profil de navigation ({@link NavGraph.Profile}) et chaque
+ * cellule, le champ indique le sens de marche (-1 / +1) qui rapproche du
+ * joueur en tenant compte des plateformes : depuis une autre surface que
+ * celle du joueur, la direction mène au point d'appel du prochain lien du
+ * graphe plutôt que tout droit vers le joueur.</p>
+ *
+ * <p>Le champ n'est recalculé que lorsque le joueur change de cellule ou
+ * de surface ({@link #update}) ; chaque ennemi lit ensuite sa direction
+ * en un accès tableau ({@link #getDirection}). La valeur {@link #FINE}
+ * signale une cellule contenant le but (joueur ou point d'appel) : l'ennemi
+ * compare alors directement sa position à celle du but.</p>
+ *
+ * <p>Entre deux mises à jour le champ n'est que lu : il peut être consulté
+ * pendant la phase de décision parallèle des ennemis.</p>
+ */
+public class FlowField {
+
+    /** Taille d'une cellule (en pixels). */
+    public static final int CELL_SIZE = 40;
+
+    /** Le but est dans la cellule : se diriger d'après sa position exacte. */
+    public static final int FINE = 0;
+
+    private final NavGraph nav;
+
+    private final int cols;
+
+    /** Nombre de surfaces couvertes par le champ. */
+    private int nodes;
+
+    /** Directions par profil ({@code [profil][cellule]}). */
+    private byte[][] directions = new byte[0][];
+
+    /** Cellule et surface du joueur lors du dernier calcul. */
+    private int targetCell = -1;
+    private int targetNode = -1;
+    private double targetX;
+
+    /** Nombre de recalculs du champ (statistiques). */
+    private int recomputeCount;
+
+    /**
+     * Construit le champ au-dessus d'un graphe de navigation.
+     *
+     * @param nav graphe de navigation du niveau
+     */
+    public FlowField(NavGraph nav) {
+        this.nav = nav;
+        this.cols = (Constants.WINDOW_WIDTH + CELL_SIZE - 1) / CELL_SIZE;
+        rebuild();
+    }
+
+    /**
+     * Redimensionne le champ pour les surfaces du graphe (à appeler après
+     * {@link NavGraph#rebuild()}). Le champ sera recalculé à la prochaine
+     * mise à jour.
+     */
+    public void rebuild() {
+        nodes = nav.getNodeCount();
+        directions = new byte[0][];
+        targetCell = -1;
+    }
+
+    /**
+     * Met à jour le champ pour la position du joueur. Le calcul n'est refait
+     * que si le joueur a changé de cellule ou de surface, ou si un nouveau
+     * profil est apparu.
+     *
+     * @param centerX    centre X du joueur
+     * @param targetNode surface du joueur ({@link NavGraph#getTargetNode()})
+     * @return {@code true} si le champ a été recalculé
+     */
+    public boolean update(double centerX, int targetNode) {
+        int cell = (targetNode < 0) ? -1 : targetNode * cols + column(centerX);
+        int profileCount = nav.getProfileCount();
+        if (cell == targetCell && targetNode == this.targetNode && profileCount == directions.length) {
+            return false;
+        }
+
+        targetCell = cell;
+        this.targetNode = targetNode;
+        targetX = centerX;
+
+        if (directions.length != profileCount) {
+            byte[][] grown = new byte[profileCount][];
+            for (int i = 0; i < profileCount; i++) {
+                grown[i] = (i < directions.length) ? directions[i] : new byte[nodes * cols];
+            }
+            directions = grown;
+        }
+        for (int i = 0; i < profileCount; i++) {
+            compute(nav.getProfile(i), directions[i]);
+        }
+        recomputeCount++;
+        return true;
+    }
+
+    private void compute(NavGraph.Profile profile, byte[] out) {
+        double halfWidth = profile.getWidth() / 2.0;
+        for (int node = 0; node < nodes; node++) {
+            NavGraph.Link link = profile.nextLink(node, targetNode);
+            int base = node * cols;
+
+            if (link != null && link.getType() == NavGraph.DROP) {
+                Arrays.fill(out, base, base + cols, (byte) link.getDirection());
+                continue;
+            }
+            double goal = (link != null) ? link.getTakeoffX() + halfWidth : targetX;
+            for (int col = 0; col < cols; col++) {
+                out[base + col] = towards(goal, (col + 0.5) * CELL_SIZE);
+            }
+        }
+    }
+
+    private static byte towards(double goal, double cx) {
+        double dx = goal - cx;
+        if (Math.abs(dx) < CELL_SIZE / 2.0) return FINE;
+        return (byte) ((dx < 0) ? -1 : 1);
+    }
+
+    private int column(double x) {
+        int col = (int) (x / CELL_SIZE);
+        if (col < 0) return 0;
+        return Math.min(col, cols - 1);
+    }
+
+    /**
+     * Direction à suivre pour un profil, sur une surface et à une position données.
+     *
+     * @param profile profil de navigation de l'ennemi
+     * @param node    surface sous l'ennemi (voir {@link NavGraph#locate})
+     * @param centerX centre X de l'ennemi
+     * @return -1, +1, ou {@link #FINE} (but dans la cellule, ennemi en l'air
+     *         ou champ pas encore calculé)
+     */
+    public int getDirection(NavGraph.Profile profile, int node, double centerX) {
+        int id = profile.getId();
+        byte[][] dirs = directions;
+        if (node < 0 || node >= nodes || id >= dirs.length) return FINE;
+        return dirs[id][node * cols + column(centerX)];
+    }
+
+    /** @return nombre de colonnes par surface */
+    public int getColumns() { return cols; }
+
+    /** @return nombre de recalculs du champ depuis la création */
+    public int getRecomputeCount() { return recomputeCount; }
+}
@@ -13,12 +13,42 @@ import java.util.ArrayList;
  * </p>
  */
 public class Level {
-    /** Liste de toutes les entités vivantes (joueur, ennemis, etc.) présentes dans le niveau. */
-    private final ArrayList<src.entities.LivingEntity> entities = new ArrayList<>();
+    /**
+     * Registre unique de toutes les entités vivantes gérées par le niveau
+     * (ennemis de tous les archétypes). C'est le seul stockage des ennemis :
+     * le {@code WaveManager} et le {@code Game} parcourent sa liste dense,
+     * et toute référence conservée d'une frame à l'autre passe par un handle
+     * (voir {@link #getEntity(long)}).
+     */
+    private final EntityRegistry<src.entities.LivingEntity> entities = new EntityRegistry<>();
+
+    /** Nombre d'entités présentes par calque de collision (un compteur par bit). */
+    private final int[] layerCounts = new int[32];
+
+    /** Union des calques de collision des entités présentes. */
+    private int entityLayers = CollisionLayer.NONE;
 
     /** Liste de toutes les plateformes présentes dans le niveau. */
     private final ArrayList<Platform> platforms = new ArrayList<>();
 
+    /** Broadphase des plateformes (construite une fois les plateformes posées). */
+    private final PlatformBroadphase broadphase;
+
+    /** Monde physique simulant le joueur et les ennemis. */
+    private final PhysicsWorld physicsWorld;
+
+    /** Graphe de navigation des plateformes (chemins des ennemis). */
+    private final NavGraph navGraph;
+
+    /** Champ de directions vers le joueur, partagé par tous les ennemis. */
+    private final FlowField flowField;
+
+    /** Lignes de vue vers le joueur (tirs des ennemis à distance). */
+    private final LineOfSight lineOfSight;
+
+    /** État du joueur capturé une fois par tick pour l'IA des ennemis. */
+    private final WorldSnapshot snapshot = new WorldSnapshot();
+
     /**
      * Construit le niveau en ajoutant toutes les plateformes prédéfinies
      * à leurs positions respectives.
@@ -52,6 +82,12 @@ public class Level {
         platforms.add(new Platform(980, 260, 280, 25));
         platforms.add(new Platform(1040, 295, 220, 25));
         platforms.add(new Platform(1100, 330, 160, 25));
+
+        broadphase = new PlatformBroadphase(platforms);
+        physicsWorld = new PhysicsWorld(broadphase);
+        navGraph = new NavGraph(broadphase);
+        flowField = new FlowField(navGraph);
+        lineOfSight = new LineOfSight(broadphase);
     }
 
     /**
@@ -63,19 +99,158 @@ public class Level {
         return platforms;
     }
 
-    /** Retourne la liste des entités vivantes du niveau. */
+    /**
+     * Ajoute une plateforme au niveau et met à jour les collisions
+     * (les corps au repos sont réveillés).
+     *
+     * @param p plateforme à ajouter
+     */
+    public void addPlatform(Platform p) {
+        platforms.add(p);
+        onPlatformsChanged();
+    }
+
+    /**
+     * Retire une plateforme du niveau et met à jour les collisions
+     * (les corps au repos sont réveillés).
+     *
+     * @param p plateforme à retirer
+     */
+    public void removePlatform(Platform p) {
+        if (platforms.remove(p)) {
+            onPlatformsChanged();
+        }
+    }
+
+    private void onPlatformsChanged() {
+        broadphase.rebuild(platforms);
+        physicsWorld.onPlatformsChanged();
+        navGraph.rebuild();
+        flowField.rebuild();
+        lineOfSight.invalidate();
+    }
+
+    /** @return broadphase des plateformes du niveau */
+    public PlatformBroadphase getBroadphase() {
+        return broadphase;
+    }
+
+    /** @return monde physique du niveau */
+    public PhysicsWorld getPhysicsWorld() {
+        return physicsWorld;
+    }
+
+    /** @return graphe de navigation du niveau */
+    public NavGraph getNavGraph() {
+        return navGraph;
+    }
+
+    /** @return champ de directions vers le joueur */
+    public FlowField getFlowField() {
+        return flowField;
+    }
+
+    /** @return lignes de vue vers le joueur */
+    public LineOfSight getLineOfSight() {
+        return lineOfSight;
+    }
+
+    /**
+     * @return photographie du joueur pour le tick courant (capturée par le
+     *         {@code WaveManager} avant la mise à jour des ennemis)
+     */
+    public WorldSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Retourne la liste contiguë des entités vivantes du niveau.
+     * Elle ne doit être modifiée que via {@link #addEntity} et
+     * {@link #removeEntity} ; son ordre change lors des retraits.
+     */
     public ArrayList<src.entities.LivingEntity> getEntities() {
-        return entities;
+        return entities.getDense();
     }
 
-    /** Ajoute une entité vivante au niveau. */
-    public void addEntity(src.entities.LivingEntity e) {
-        entities.add(e);
+    /**
+     * Ajoute une entité vivante au niveau (et l'enregistre dans le monde physique).
+     *
+     * @param e entité à ajouter
+     * @return handle de l'entité
+     */
+    public long addEntity(src.entities.LivingEntity e) {
+        long handle = entities.add(e);
+        countLayers(e.getCollisionCategory(), 1);
+        physicsWorld.addBody(e, 0);
+        return handle;
     }
 
-    /** Retire une entité vivante du niveau. */
+    /** Retire une entité vivante du niveau (et du monde physique) en O(1). */
     public void removeEntity(src.entities.LivingEntity e) {
-        entities.remove(e);
+        if (entities.remove(e)) {
+            countLayers(e.getCollisionCategory(), -1);
+        }
+        physicsWorld.removeBody(e);
+    }
+
+    /**
+     * Résout un handle d'entité.
+     *
+     * @param handle handle obtenu à l'ajout (ou via {@code getEntityHandle()})
+     * @return l'entité, ou {@code null} si elle a été retirée depuis
+     */
+    public src.entities.LivingEntity getEntity(long handle) {
+        return entities.get(handle);
+    }
+
+    /**
+     * Retire toutes les entités mortes du niveau. Chaque retrait est en O(1)
+     * (swap-remove), un nettoyage massif reste donc linéaire.
+     *
+     * @return nombre d'entités retirées
+     */
+    public int removeDeadEntities() {
+        ArrayList<src.entities.LivingEntity> dense = entities.getDense();
+        int removed = 0;
+        // Parcours à rebours : l'entité déplacée dans le trou a déjà été vue
+        for (int i = dense.size() - 1; i >= 0; i--) {
+            src.entities.LivingEntity e = dense.get(i);
+            if (e.isDead()) {
+                entities.removeAt(i);
+                countLayers(e.getCollisionCategory(), -1);
+                physicsWorld.removeBody(e);
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Retourne l'union des calques de collision des entités du niveau.
+     * Permet d'écarter une liste entière d'un seul ET binaire
+     * (voir {@link CollisionLayer#accepts(int, int)}).
+     *
+     * @return bitmask des calques présents
+     */
+    public int getEntityLayers() {
+        return entityLayers;
+    }
+
+    /**
+     * Met à jour les compteurs par calque et l'union des calques présents.
+     *
+     * @param category catégorie de l'entité ajoutée ou retirée
+     * @param delta    +1 à l'ajout, -1 au retrait
+     */
+    private void countLayers(int category, int delta) {
+        int bits = category;
+        while (bits != 0) {
+            int bit = Integer.numberOfTrailingZeros(bits);
+            layerCounts[bit] += delta;
+            if (layerCounts[bit] > 0) entityLayers |= (1 << bit);
+            else entityLayers &= ~(1 << bit);
+            bits &= bits - 1;
+        }
     }
 
     /**
@@ -0,0 +1,119 @@
+package src.world;
+
+import src.core.Constants;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lignes de vue entre les ennemis et le joueur, à travers les plateformes.
+ *
+ * <p>Le niveau est découpé en cellules de {@link #CELL_SIZE} pixels. La
+ * visibilité est calculée entre le centre de la cellule de l'ennemi et
+ * celui de la cellule du joueur ({@link PlatformBroadphase#segmentHitsAny}),
+ * puis mémorisée pour ce couple de cellules : tant que le joueur reste dans
+ * sa cellule, les ennemis d'une même cellule partagent un seul lancer de
+ * rayon. Le cache est invalidé lorsque le joueur change de cellule
+ * ({@link #update}) ou que les plateformes changent ({@link #invalidate}).</p>
+ *
+ * <p>Les cellules sont assez petites pour que leur centre reste au-dessus
+ * de la surface sur laquelle se tient l'entité. Le résultat ne dépend que
+ * des cellules : il est le même quel que soit l'ennemi qui l'a calculé.</p>
+ *
+ * <p>{@link #canSee} peut être appelée pendant la phase de décision
+ * parallèle : chaque entrée du cache tient dans un seul {@code int}
+ * (génération et visibilité), une entrée d'une génération précédente est
+ * simplement recalculée.</p>
+ */
+public class LineOfSight {
+
+    /** Taille d'une cellule (en pixels). */
+    public static final int CELL_SIZE = 16;
+
+    private final PlatformBroadphase broadphase;
+    private final int cols, rows;
+
+    /** Visibilité par cellule d'ennemi : {@code (génération << 1) | visible}. */
+    private final int[] cache;
+
+    /** Génération courante du cache (0 : jamais calculé). */
+    private int generation = 1;
+
+    /** Cellule du joueur et centre de cette cellule. */
+    private int playerCell = -1;
+    private double eyeX, eyeY;
+
+    /** Nombre de rayons réellement lancés (statistiques). */
+    private final LongAdder raycasts = new LongAdder();
+
+    /**
+     * @param broadphase broadphase des plateformes du niveau
+     */
+    public LineOfSight(PlatformBroadphase broadphase) {
+        this.broadphase = broadphase;
+        this.cols = (Constants.WINDOW_WIDTH + CELL_SIZE - 1) / CELL_SIZE;
+        this.rows = (Constants.WINDOW_HEIGHT + CELL_SIZE - 1) / CELL_SIZE;
+        this.cache = new int[cols * rows];
+    }
+
+    /**
+     * Place le joueur pour le tick courant. Le cache n'est vidé que si le
+     * joueur a changé de cellule. À appeler sur le thread du jeu, avant la
+     * mise à jour des ennemis.
+     *
+     * @param playerCenterX centre X du joueur
+     * @param playerCenterY centre Y du joueur
+     */
+    public void update(double playerCenterX, double playerCenterY) {
+        int cell = cellOf(playerCenterX, playerCenterY);
+        if (cell == playerCell) return;
+
+        playerCell = cell;
+        eyeX = (cell % cols + 0.5) * CELL_SIZE;
+        eyeY = (cell / cols + 0.5) * CELL_SIZE;
+        nextGeneration();
+    }
+
+    /** Vide le cache (à appeler quand les plateformes changent). */
+    public void invalidate() {
+        nextGeneration();
+    }
+
+    private void nextGeneration() {
+        if (++generation >= (1 << 30)) {
+            Arrays.fill(cache, 0);
+            generation = 1;
+        }
+    }
+
+    /**
+     * Indique si le joueur est visible depuis un point (sans plateforme
+     * entre les deux).
+     *
+     * @param x position X de l'observateur
+     * @param y position Y de l'observateur
+     * @return {@code true} si aucune plateforme ne coupe la ligne de vue
+     */
+    public boolean canSee(double x, double y) {
+        int cell = cellOf(x, y);
+        int entry = cache[cell];
+        if ((entry >>> 1) == generation) return (entry & 1) != 0;
+
+        double fromX = (cell % cols + 0.5) * CELL_SIZE;
+        double fromY = (cell / cols + 0.5) * CELL_SIZE;
+        boolean visible = !broadphase.segmentHitsAny(fromX, fromY, eyeX, eyeY);
+        raycasts.increment();
+
+        cache[cell] = (generation << 1) | (visible ? 1 : 0);
+        return visible;
+    }
+
+    private int cellOf(double x, double y) {
+        int c = Math.max(0, Math.min(cols - 1, (int) Math.floor(x / CELL_SIZE)));
+        int r = Math.max(0, Math.min(rows - 1, (int) Math.floor(y / CELL_SIZE)));
+        return r * cols + c;
+    }
+
+    /** @return nombre de rayons lancés depuis la création */
+    public long getRaycastCount() { return raycasts.sum(); }
+}
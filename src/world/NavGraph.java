@@ -0,0 +1,527 @@
+package src.world;
+
+import src.core.Constants;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Graphe de navigation des plateformes, construit une fois par {@link Level}.
+ *
+ * <p><b>Nœuds</b> : les portions de dessus de plateforme sur lesquelles un
+ * corps peut se tenir (une plateforme recouverte de trop près par une autre
+ * est découpée ou ignorée).</p>
+ *
+ * <p><b>Liens</b> : pour chaque profil de saut ({@link Profile} : impulsion,
+ * vitesse de course, taille du corps), les trajectoires de marche, de saut
+ * et de chute sont simulées avec la même gravité que le {@link PhysicsWorld}
+ * ({@link Constants#GRAVITY}, murs et plafonds résolus de la même façon)
+ * depuis plusieurs points d'appel de chaque nœud. Un lien n'est gardé que si
+ * la trajectoire atterrit sur un autre nœud, et y atterrit encore avec un
+ * léger décalage du point d'appel (tolérance de l'IA).</p>
+ *
+ * <p>Pour chaque profil, une table des prochains sauts entre toutes les
+ * paires de nœuds est précalculée : trouver le lien à suivre vers la surface
+ * du joueur coûte O(1) par ennemi et par frame. La surface du joueur est
+ * elle-même mise en cache une fois par frame ({@link #trackTarget}).</p>
+ *
+ * <p>Après construction, le graphe n'est plus que lu : il peut être
+ * consulté pendant la phase de décision parallèle des ennemis.</p>
+ */
+public class NavGraph {
+
+    /** Le lien se parcourt en marchant (surfaces contiguës de même hauteur). */
+    public static final int WALK = 0;
+
+    /** Le lien demande un saut au point d'appel. */
+    public static final int JUMP = 1;
+
+    /** Le lien consiste à marcher au-delà du bord et se laisser tomber. */
+    public static final int DROP = 2;
+
+    /** Hauteur libre minimale au-dessus d'une surface pour en faire un nœud. */
+    public static final double MIN_HEADROOM = 40.0;
+
+    /** Largeur minimale d'un nœud (en pixels). */
+    private static final double MIN_NODE_WIDTH = 8.0;
+
+    /** Espacement des points d'appel testés le long d'un nœud. */
+    private static final double TAKEOFF_SPACING = 24.0;
+
+    /** Pas et durée maximale des trajectoires simulées. */
+    private static final double SIM_DT = 1.0 / 120.0;
+    private static final double SIM_MAX_TIME = 3.0;
+
+    private final PlatformBroadphase broadphase;
+
+    /** Nœuds (structure de tableaux) : bornes, hauteur de la surface, plateforme support. */
+    private double[] nodeLeft, nodeRight, nodeY;
+    private int[] nodePlatform;
+    private int nodeCount;
+
+    /** Nœuds de chaque plateforme, triés de gauche à droite. */
+    private int[][] platformNodes;
+
+    /** Un mur (plateforme) prolonge le nœud à gauche / à droite. */
+    private boolean[] wallLeft, wallRight;
+
+    /** Profils de saut déjà calculés, par clé. */
+    private final Map<String, Profile> profiles = new HashMap<>();
+
+    /** Mêmes profils, par identifiant (ordre de création). */
+    private final ArrayList<Profile> profileList = new ArrayList<>();
+
+    /** Surface sur laquelle se trouvait la cible au dernier contact avec le sol. */
+    private int targetNode = -1;
+
+    /** Tableau de travail de la broadphase (construction uniquement). */
+    private int[] tmp;
+
+    /**
+     * Construit le graphe à partir des plateformes indexées.
+     *
+     * @param broadphase broadphase des plateformes du niveau
+     */
+    public NavGraph(PlatformBroadphase broadphase) {
+        this.broadphase = broadphase;
+        rebuild();
+    }
+
+    /**
+     * Recalcule les nœuds et les liens de tous les profils existants
+     * (à appeler quand les plateformes changent).
+     */
+    public synchronized void rebuild() {
+        tmp = new int[broadphase.size()];
+        buildNodes();
+        for (Profile p : profiles.values()) p.build();
+        targetNode = -1;
+    }
+
+    // ===== NŒUDS =============================================================
+
+    private void buildNodes() {
+        int platforms = broadphase.size();
+        ArrayList<double[]> nodes = new ArrayList<>();
+
+        for (int p = 0; p < platforms; p++) {
+            double top = broadphase.getY(p);
+            ArrayList<double[]> free = new ArrayList<>();
+            free.add(new double[] { broadphase.getX(p), broadphase.getX(p) + broadphase.getWidth(p) });
+
+            // Retire les portions recouvertes par une plateforme trop proche
+            for (int q = 0; q < platforms; q++) {
+                if (q == p) continue;
+                double qy = broadphase.getY(q);
+                double qBottom = qy + broadphase.getHeight(q);
+                if (qBottom <= top - MIN_HEADROOM || qy >= top) continue;
+                subtract(free, broadphase.getX(q), broadphase.getX(q) + broadphase.getWidth(q));
+            }
+
+            for (double[] seg : free) {
+                if (seg[1] - seg[0] >= MIN_NODE_WIDTH) {
+                    nodes.add(new double[] { seg[0], seg[1], top, p });
+                }
+            }
+        }
+
+        nodeCount = nodes.size();
+        nodeLeft = new double[nodeCount];
+        nodeRight = new double[nodeCount];
+        nodeY = new double[nodeCount];
+        nodePlatform = new int[nodeCount];
+        wallLeft = new boolean[nodeCount];
+        wallRight = new boolean[nodeCount];
+
+        int[] perPlatform = new int[platforms];
+        for (int i = 0; i < nodeCount; i++) {
+            double[] n = nodes.get(i);
+            nodeLeft[i] = n[0];
+            nodeRight[i] = n[1];
+            nodeY[i] = n[2];
+            nodePlatform[i] = (int) n[3];
+            perPlatform[nodePlatform[i]]++;
+
+            // Une plateforme occupe le couloir juste après le bord ?
+            wallLeft[i] = broadphase.overlapsAny(nodeLeft[i] - 2, nodeY[i] - MIN_HEADROOM, 1, MIN_HEADROOM - 1, tmp);
+            wallRight[i] = broadphase.overlapsAny(nodeRight[i] + 1, nodeY[i] - MIN_HEADROOM, 1, MIN_HEADROOM - 1, tmp);
+        }
+
+        platformNodes = new int[platforms][];
+        for (int p = 0; p < platforms; p++) platformNodes[p] = new int[perPlatform[p]];
+        int[] fill = new int[platforms];
+        for (int i = 0; i < nodeCount; i++) {
+            int p = nodePlatform[i];
+            platformNodes[p][fill[p]++] = i;
+        }
+    }
+
+    /** Retire l'intervalle [from, to) d'une liste de segments libres. */
+    private static void subtract(ArrayList<double[]> free, double from, double to) {
+        for (int i = free.size() - 1; i >= 0; i--) {
+            double[] seg = free.get(i);
+            if (to <= seg[0] || from >= seg[1]) continue;
+            free.remove(i);
+            if (seg[0] < from) free.add(new double[] { seg[0], from });
+            if (to < seg[1]) free.add(new double[] { to, seg[1] });
+        }
+        free.sort((a, b) -> Double.compare(a[0], b[0]));
+    }
+
+    /**
+     * Retrouve le nœud sur lequel repose un corps.
+     *
+     * @param groundPlatform plateforme sous le corps (voir {@link PhysicsWorld#getGroundPlatform}), ou -1
+     * @param x              position X du corps
+     * @param w              largeur du corps
+     * @return indice du nœud, ou -1 si le corps est en l'air
+     */
+    public int locate(int groundPlatform, double x, double w) {
+        if (groundPlatform < 0 || groundPlatform >= platformNodes.length) return -1;
+        int[] candidates = platformNodes[groundPlatform];
+        if (candidates.length == 0) return -1;
+
+        double cx = x + w / 2.0;
+        int best = candidates[0];
+        double bestGap = Double.MAX_VALUE;
+        for (int k = 0; k < candidates.length; k++) {
+            int n = candidates[k];
+            double gap = Math.max(0, Math.max(nodeLeft[n] - cx, cx - nodeRight[n]));
+            if (gap < bestGap) {
+                bestGap = gap;
+                best = n;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Met à jour la surface de la cible (à appeler une fois par frame, avant
+     * la mise à jour des ennemis). En l'air, la dernière surface est conservée.
+     *
+     * @param groundPlatform plateforme sous la cible, ou -1
+     * @param x              position X de la cible
+     * @param w              largeur de la cible
+     */
+    public void trackTarget(int groundPlatform, double x, double w) {
+        int node = locate(groundPlatform, x, w);
+        if (node >= 0) targetNode = node;
+    }
+
+    /** @return surface de la cible au dernier contact avec le sol, ou -1 */
+    public int getTargetNode() { return targetNode; }
+
+    // ===== PROFILS ===========================================================
+
+    /**
+     * Retourne (et calcule si besoin) le profil de navigation d'un type de corps.
+     * Les profils identiques sont partagés.
+     *
+     * @param jumpForce impulsion de saut (unités de l'entité, négative vers le haut)
+     * @param moveSpeed vitesse de déplacement (unités de l'entité)
+     * @param width     largeur du corps
+     * @param height    hauteur du corps
+     * @return profil partagé
+     */
+    public synchronized Profile getProfile(double jumpForce, double moveSpeed, double width, double height) {
+        String key = jumpForce + "/" + moveSpeed + "/" + width + "/" + height;
+        Profile p = profiles.get(key);
+        if (p == null) {
+            p = new Profile(profileList.size(), -jumpForce * 60, Math.abs(moveSpeed) * 60, width, height);
+            p.build();
+            profiles.put(key, p);
+            profileList.add(p);
+        }
+        return p;
+    }
+
+    /**
+     * Simule une trajectoire avec la même résolution que le
+     * {@link PhysicsWorld} : gravité, arrêt contre les murs, plafonds.
+     * La vitesse horizontale voulue est maintenue (comme le fait l'IA).
+     *
+     * @return nœud d'atterrissage, ou -1 si le corps sort de l'écran, ne
+     *         retombe pas à temps ou atterrit hors d'un nœud
+     */
+    private int simulate(double x, double feet, double vx, double vy, double w, double h, double[] time) {
+        double g = Constants.GRAVITY * 60;
+        for (double t = 0; t < SIM_MAX_TIME; t += SIM_DT) {
+            vy += g * SIM_DT;
+
+            x += vx * SIM_DT;
+            if (x < 0 || x + w > Constants.WINDOW_WIDTH) return -1;
+            int n = broadphase.query(x, w, tmp);
+            for (int k = 0; k < n; k++) {
+                int p = tmp[k];
+                if (!broadphase.intersects(p, x, feet - h, w, h)) continue;
+                if (vx > 0) x = broadphase.getX(p) - w;
+                else if (vx < 0) x = broadphase.getX(p) + broadphase.getWidth(p);
+            }
+
+            double prevFeet = feet;
+            feet += vy * SIM_DT;
+            if (feet - h > Constants.WINDOW_HEIGHT) return -1;
+
+            n = broadphase.query(x, w, tmp);
+            for (int k = 0; k < n; k++) {
+                int p = tmp[k];
+                if (!broadphase.intersects(p, x, feet - h, w, h)) continue;
+                if (vy > 0 && prevFeet <= broadphase.getY(p)) {
+                    time[0] = t + SIM_DT;
+                    return locate(p, x, w);
+                }
+                if (vy < 0) {
+                    feet = broadphase.getY(p) + broadphase.getHeight(p) + h;
+                    vy = 0;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Lien orienté entre deux nœuds pour un profil donné.
+     */
+    public static final class Link {
+        private final int from, to, type, direction;
+        private final double takeoffX, cost;
+
+        Link(int from, int to, int type, int direction, double takeoffX, double cost) {
+            this.from = from;
+            this.to = to;
+            this.type = type;
+            this.direction = direction;
+            this.takeoffX = takeoffX;
+            this.cost = cost;
+        }
+
+        /** @return nœud de départ */
+        public int getFrom() { return from; }
+
+        /** @return nœud d'arrivée */
+        public int getTo() { return to; }
+
+        /** @return {@link #WALK}, {@link #JUMP} ou {@link #DROP} */
+        public int getType() { return type; }
+
+        /** @return sens du déplacement pendant le lien (-1 ou +1) */
+        public int getDirection() { return direction; }
+
+        /** @return position X (bord gauche du corps) du point d'appel */
+        public double getTakeoffX() { return takeoffX; }
+
+        /** @return coût estimé (secondes) */
+        public double getCost() { return cost; }
+    }
+
+    /**
+     * Liens et table des prochains sauts pour un type de corps.
+     */
+    public final class Profile {
+        private final int id;
+        private final double jumpSpeed, runSpeed, width, height;
+
+        /** Meilleur lien direct entre deux nœuds ({@code from * n + to}). */
+        private Link[] links;
+
+        /** Prochain nœud sur le plus court chemin, ou -1 ({@code from * n + to}). */
+        private int[] next;
+
+        /** Coût du plus court chemin ({@code from * n + to}). */
+        private double[] dist;
+
+        private int linkCount;
+        private int n;
+
+        Profile(int id, double jumpSpeed, double runSpeed, double width, double height) {
+            this.id = id;
+            this.jumpSpeed = jumpSpeed;
+            this.runSpeed = runSpeed;
+            this.width = width;
+            this.height = height;
+        }
+
+        private void build() {
+            n = nodeCount;
+            links = new Link[n * n];
+            linkCount = 0;
+            double[] time = new double[1];
+
+            for (int a = 0; a < n; a++) {
+                double left = nodeLeft[a];
+                double right = nodeRight[a];
+                double y = nodeY[a];
+                double center = (left + right) / 2.0;
+
+                // Chutes (et marche vers une surface contiguë) depuis chaque bord
+                for (int dir = -1; dir <= 1; dir += 2) {
+                    double x0 = (dir > 0) ? right : left - width;
+                    int b = stableLanding(x0, y, dir, 0, time);
+                    if (b >= 0 && b != a) {
+                        int type = (Math.abs(nodeY[b] - y) < 1) ? WALK : DROP;
+                        offer(new Link(a, b, type, dir, x0, walkTime(center, x0) + time[0]));
+                    }
+                }
+
+                // Sauts depuis des points d'appel répartis sur le nœud
+                if (jumpSpeed <= 0) continue;
+                double minX = left;
+                double maxX = Math.max(left, right - width);
+                for (double x0 = minX; x0 <= maxX + 0.5; x0 += TAKEOFF_SPACING) {
+                    double tx = Math.min(x0, maxX);
+                    for (int dir = -1; dir <= 1; dir += 2) {
+                        int b = stableLanding(tx, y, dir, -jumpSpeed, time);
+                        if (b >= 0 && b != a) {
+                            offer(new Link(a, b, JUMP, dir, tx, walkTime(center, tx) + time[0]));
+                        }
+                    }
+                }
+            }
+
+            computeNextHops();
+        }
+
+        /**
+         * Atterrissage commun au point d'appel et à un point légèrement
+         * décalé dans le sens du mouvement (tolérance de l'IA).
+         */
+        private int stableLanding(double x0, double feet, int dir, double vy, double[] time) {
+            double vx = dir * runSpeed;
+            int b = simulate(x0, feet, vx, vy, width, height, time);
+            if (b < 0) return -1;
+            double t = time[0];
+            double shift = (dir == 0) ? 0 : dir * getTakeoffTolerance();
+            double[] other = new double[1];
+            if (shift != 0 && simulate(x0 + shift, feet, vx, vy, width, height, other) != b) return -1;
+            time[0] = t;
+            return b;
+        }
+
+        private double walkTime(double from, double to) {
+            return (runSpeed > 0) ? Math.abs(to - from) / runSpeed : 0;
+        }
+
+        private void offer(Link link) {
+            int k = link.from * n + link.to;
+            if (links[k] == null) linkCount++;
+            if (links[k] == null || link.cost < links[k].cost) links[k] = link;
+        }
+
+        /** Floyd–Warshall sur les coûts des liens (quelques dizaines de nœuds). */
+        private void computeNextHops() {
+            next = new int[n * n];
+            dist = new double[n * n];
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    int k = i * n + j;
+                    if (i == j) {
+                        dist[k] = 0;
+                        next[k] = j;
+                    } else if (links[k] != null) {
+                        dist[k] = links[k].cost;
+                        next[k] = j;
+                    } else {
+                        dist[k] = Double.POSITIVE_INFINITY;
+                        next[k] = -1;
+                    }
+                }
+            }
+            for (int m = 0; m < n; m++) {
+                for (int i = 0; i < n; i++) {
+                    double im = dist[i * n + m];
+                    if (im == Double.POSITIVE_INFINITY) continue;
+                    for (int j = 0; j < n; j++) {
+                        double d = im + dist[m * n + j];
+                        if (d < dist[i * n + j]) {
+                            dist[i * n + j] = d;
+                            next[i * n + j] = next[i * n + m];
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * Lien à emprunter pour aller d'un nœud vers un autre.
+         *
+         * @param from nœud courant
+         * @param to   nœud visé
+         * @return premier lien du plus court chemin, ou {@code null} si les
+         *         nœuds sont identiques, invalides ou non reliés
+         */
+        public Link nextLink(int from, int to) {
+            if (from < 0 || to < 0 || from >= n || to >= n || from == to) return null;
+            int hop = next[from * n + to];
+            return (hop < 0) ? null : links[from * n + hop];
+        }
+
+        /**
+         * @param from nœud de départ
+         * @param to   nœud d'arrivée
+         * @return {@code true} si un chemin existe
+         */
+        public boolean isReachable(int from, int to) {
+            if (from < 0 || to < 0 || from >= n || to >= n) return false;
+            return from == to || next[from * n + to] >= 0;
+        }
+
+        /**
+         * @param from nœud de départ
+         * @param to   nœud d'arrivée
+         * @return coût du plus court chemin (secondes), infini si inaccessible
+         */
+        public double getPathCost(int from, int to) {
+            if (from < 0 || to < 0 || from >= n || to >= n) return Double.POSITIVE_INFINITY;
+            return dist[from * n + to];
+        }
+
+        /** @return distance (pixels) à laquelle un point d'appel est considéré atteint */
+        public double getTakeoffTolerance() {
+            return Math.max(6.0, runSpeed / Constants.TARGET_FPS);
+        }
+
+        /** @return nombre de liens directs du profil */
+        public int getLinkCount() { return linkCount; }
+
+        /** @return identifiant du profil (0 pour le premier créé, puis 1, 2...) */
+        public int getId() { return id; }
+
+        /** @return largeur du corps du profil */
+        public double getWidth() { return width; }
+    }
+
+    // ===== ACCÈS =============================================================
+
+    /** @return nombre de profils calculés */
+    public synchronized int getProfileCount() { return profileList.size(); }
+
+    /**
+     * @param id identifiant du profil
+     * @return profil correspondant
+     */
+    public synchronized Profile getProfile(int id) { return profileList.get(id); }
+
+    /** @return nombre de nœuds */
+    public int getNodeCount() { return nodeCount; }
+
+    /** @return bord gauche du nœud */
+    public double getNodeLeft(int node) { return nodeLeft[node]; }
+
+    /** @return bord droit du nœud */
+    public double getNodeRight(int node) { return nodeRight[node]; }
+
+    /** @return hauteur (Y) de la surface du nœud */
+    public double getNodeY(int node) { return nodeY[node]; }
+
+    /**
+     * Indique si une plateforme bloque le passage au bout du nœud.
+     *
+     * @param node      nœud
+     * @param direction -1 pour le bord gauche, +1 pour le bord droit
+     * @return {@code true} si un mur prolonge le nœud de ce côté
+     */
+    public boolean hasWall(int node, int direction) {
+        return direction < 0 ? wallLeft[node] : wallRight[node];
+    }
+}
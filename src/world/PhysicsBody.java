@@ -0,0 +1,52 @@
+package src.world;
+
+/**
+ * Corps dynamique simulé par le {@link PhysicsWorld}.
+ *
+ * <p>Avant chaque pas, le monde lit la position et la vitesse du corps
+ * (éventuellement modifiées par l'input ou l'IA). Après intégration et
+ * résolution des collisions, il renvoie le nouvel état via
+ * {@link #onPhysicsStep(double, double, double, double, int)}.</p>
+ */
+public interface PhysicsBody extends Collidable {
+
+    /** @return position X (en pixels) */
+    double getX();
+
+    /** @return position Y (en pixels) */
+    double getY();
+
+    /** @return largeur (en pixels) */
+    double getWidth();
+
+    /** @return hauteur (en pixels) */
+    double getHeight();
+
+    /** @return vitesse horizontale (pixels/s) */
+    double getVx();
+
+    /** @return vitesse verticale (pixels/s) */
+    double getVy();
+
+    /** @return indice du corps dans le {@link PhysicsWorld}, ou -1 */
+    int getBodyIndex();
+
+    /**
+     * Mémorise l'indice attribué par le {@link PhysicsWorld}
+     * (il change lors d'un retrait par échange).
+     *
+     * @param index nouvel indice, ou -1 si le corps est retiré
+     */
+    void setBodyIndex(int index);
+
+    /**
+     * Reçoit l'état du corps après un pas de simulation.
+     *
+     * @param x        nouvelle position X
+     * @param y        nouvelle position Y
+     * @param vx       nouvelle vitesse horizontale
+     * @param vy       nouvelle vitesse verticale
+     * @param contacts contacts détectés (bits {@code PhysicsWorld.CONTACT_*})
+     */
+    void onPhysicsStep(double x, double y, double vx, double vy, int contacts);
+}
@@ -0,0 +1,446 @@
+package src.world;
+
+import src.core.Constants;
+
+import java.util.Arrays;
+
+/**
+ * Monde physique unique simulant tous les corps dynamiques (joueur, ennemis).
+ *
+ * <p>L'état des corps est stocké dans des tableaux primitifs parallèles
+ * (position, vitesse, taille, calque, drapeaux). Un pas de simulation
+ * enchaîne, dans une seule boucle :</p>
+ * <ul>
+ *     <li>la gravité ;</li>
+ *     <li>l'intégration horizontale puis la résolution contre les plateformes ;</li>
+ *     <li>l'intégration verticale puis la résolution (sol / plafond) ;</li>
+ *     <li>le maintien à l'écran pour les corps qui le demandent.</li>
+ * </ul>
+ *
+ * <p>Un {@code dt} supérieur à {@link #getMaxStep()}, ou qui ferait parcourir
+ * à un corps plus de {@link Constants#PHYSICS_MAX_TRAVEL} pixels, est découpé
+ * en sous-pas bornés, dans la limite de {@link #getMaxSubsteps()} sous-pas
+ * par frame : le temps excédentaire est abandonné, de sorte qu'aucun sous-pas
+ * ne dépasse ni la durée ni la distance maximales. Des compteurs indiquent à quelle
+ * fréquence le découpage et l'écrêtage se produisent.</p>
+ *
+ * <p>Un corps posé au sol et immobile depuis {@link Constants#PHYSICS_SLEEP_DELAY}
+ * secondes passe <b>au repos</b> : il n'est plus intégré ni résolu tant que rien
+ * ne le réveille (vitesse modifiée par l'IA ou l'input, poussée de séparation,
+ * déplacement externe, ou modification des plateformes via {@link #wakeAll()}).</p>
+ *
+ * <p>Les plateformes candidates sont fournies par la {@link PlatformBroadphase}.
+ * Les corps dont la catégorie est gelée (voir {@link #setFrozenLayers(int)})
+ * ne sont pas simulés, ce qui remplace le {@code dt = 0} du Time Freeze.</p>
+ */
+public class PhysicsWorld {
+
+    /** Le corps reste dans les limites de la fenêtre (joueur). */
+    public static final int FLAG_CLAMP_TO_SCREEN = 1;
+
+    /** Contact avec le sol lors du dernier pas. */
+    public static final int CONTACT_GROUND = 1;
+
+    /** Contact avec un plafond lors du dernier pas. */
+    public static final int CONTACT_CEILING = 1 << 1;
+
+    /** Contact avec un mur lors du dernier pas. */
+    public static final int CONTACT_WALL = 1 << 2;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    /** Broadphase des plateformes du niveau. */
+    private final PlatformBroadphase broadphase;
+
+    /** Tableau de travail pour les requêtes de broadphase. */
+    private int[] candidates;
+
+    // ----- État des corps (structure de tableaux) -----
+    private PhysicsBody[] owners = new PhysicsBody[INITIAL_CAPACITY];
+    private double[] x = new double[INITIAL_CAPACITY];
+    private double[] y = new double[INITIAL_CAPACITY];
+    private double[] vx = new double[INITIAL_CAPACITY];
+    private double[] vy = new double[INITIAL_CAPACITY];
+    private double[] w = new double[INITIAL_CAPACITY];
+    private double[] h = new double[INITIAL_CAPACITY];
+    private int[] category = new int[INITIAL_CAPACITY];
+    private int[] flags = new int[INITIAL_CAPACITY];
+    private int[] contacts = new int[INITIAL_CAPACITY];
+    private int[] groundPlatform = new int[INITIAL_CAPACITY];
+    private boolean[] resting = new boolean[INITIAL_CAPACITY];
+    private double[] restTimer = new double[INITIAL_CAPACITY];
+
+    /** Nombre de corps actifs. */
+    private int count = 0;
+
+    /** Calques non simulés (gel du temps). */
+    private int frozenLayers = CollisionLayer.NONE;
+
+    /** Durée maximale d'un sous-pas (en secondes). */
+    private double maxStep = Constants.PHYSICS_MAX_STEP;
+
+    /** Nombre maximal de sous-pas par appel à {@link #step(double)}. */
+    private int maxSubsteps = Constants.PHYSICS_MAX_SUBSTEPS;
+
+    /** Nombre de frames ayant nécessité plusieurs sous-pas. */
+    private long substeppedFrames = 0;
+
+    /** Nombre de frames dont une partie du temps a été abandonnée. */
+    private long clampedFrames = 0;
+
+    /** Nombre total de sous-pas exécutés. */
+    private long totalSubsteps = 0;
+
+    /**
+     * Crée le monde physique d'un niveau.
+     *
+     * @param broadphase broadphase des plateformes du niveau
+     */
+    public PhysicsWorld(PlatformBroadphase broadphase) {
+        this.broadphase = broadphase;
+        this.candidates = new int[Math.max(1, broadphase.size())];
+    }
+
+    /**
+     * Ajoute un corps dynamique au monde.
+     *
+     * @param body  corps à simuler
+     * @param bodyFlags drapeaux {@code FLAG_*}
+     */
+    public void addBody(PhysicsBody body, int bodyFlags) {
+        if (body.getBodyIndex() >= 0) return;
+        if (count == owners.length) grow();
+
+        int i = count++;
+        owners[i] = body;
+        flags[i] = bodyFlags;
+        contacts[i] = 0;
+        groundPlatform[i] = -1;
+        resting[i] = false;
+        restTimer[i] = 0;
+        body.setBodyIndex(i);
+    }
+
+    /**
+     * Retire un corps du monde en O(1) (le dernier corps prend sa place).
+     *
+     * @param body corps à retirer
+     */
+    public void removeBody(PhysicsBody body) {
+        int i = body.getBodyIndex();
+        if (i < 0 || i >= count || owners[i] != body) return;
+
+        int last = --count;
+        if (i != last) {
+            owners[i] = owners[last];
+            x[i] = x[last];
+            y[i] = y[last];
+            vx[i] = vx[last];
+            vy[i] = vy[last];
+            w[i] = w[last];
+            h[i] = h[last];
+            category[i] = category[last];
+            flags[i] = flags[last];
+            contacts[i] = contacts[last];
+            groundPlatform[i] = groundPlatform[last];
+            resting[i] = resting[last];
+            restTimer[i] = restTimer[last];
+            owners[i].setBodyIndex(i);
+        }
+        owners[last] = null;
+        body.setBodyIndex(-1);
+    }
+
+    private void grow() {
+        int n = owners.length * 2;
+        owners = Arrays.copyOf(owners, n);
+        x = Arrays.copyOf(x, n);
+        y = Arrays.copyOf(y, n);
+        vx = Arrays.copyOf(vx, n);
+        vy = Arrays.copyOf(vy, n);
+        w = Arrays.copyOf(w, n);
+        h = Arrays.copyOf(h, n);
+        category = Arrays.copyOf(category, n);
+        flags = Arrays.copyOf(flags, n);
+        contacts = Arrays.copyOf(contacts, n);
+        groundPlatform = Arrays.copyOf(groundPlatform, n);
+        resting = Arrays.copyOf(resting, n);
+        restTimer = Arrays.copyOf(restTimer, n);
+    }
+
+    /**
+     * Doit être appelée après une reconstruction de la broadphase :
+     * redimensionne le tableau de travail et réveille tous les corps.
+     */
+    public void onPlatformsChanged() {
+        if (candidates.length < broadphase.size()) {
+            candidates = new int[broadphase.size()];
+        }
+        wakeAll();
+    }
+
+    /**
+     * Réveille tous les corps au repos (à appeler lorsque les plateformes changent).
+     */
+    public void wakeAll() {
+        for (int i = 0; i < count; i++) {
+            resting[i] = false;
+            restTimer[i] = 0;
+        }
+    }
+
+    /**
+     * Définit les calques dont les corps ne sont pas simulés
+     * (ex : {@link CollisionLayer#ENEMY} pendant un Time Freeze).
+     *
+     * @param layers bitmask des calques gelés
+     */
+    public void setFrozenLayers(int layers) {
+        this.frozenLayers = layers;
+    }
+
+    /**
+     * Configure le découpage en sous-pas.
+     *
+     * @param maxStep     durée maximale d'un sous-pas (en secondes, &gt; 0)
+     * @param maxSubsteps nombre maximal de sous-pas par frame (&ge; 1)
+     */
+    public void setSubstepping(double maxStep, int maxSubsteps) {
+        if (maxStep <= 0 || maxSubsteps < 1) {
+            throw new IllegalArgumentException("maxStep > 0 et maxSubsteps >= 1 requis");
+        }
+        this.maxStep = maxStep;
+        this.maxSubsteps = maxSubsteps;
+    }
+
+    /**
+     * Avance la simulation de {@code dt} secondes pour tous les corps.
+     * Le pas est découpé en sous-pas de durée au plus {@link #getMaxStep()}.
+     *
+     * @param dt temps écoulé (en secondes)
+     */
+    public void step(double dt) {
+        if (dt <= 0) return;
+
+        double maxSpeed = gather();
+
+        int steps = (int) Math.ceil(dt / maxStep);
+        int travelSteps = (int) Math.ceil(maxSpeed * dt / Constants.PHYSICS_MAX_TRAVEL);
+        if (travelSteps > steps) steps = travelSteps;
+        if (steps > maxSubsteps) {
+            steps = maxSubsteps;
+            // Temps simulable sans dépasser ni la durée ni la distance d'un sous-pas
+            double budget = maxStep * maxSubsteps;
+            if (maxSpeed > 0) budget = Math.min(budget, maxSubsteps * Constants.PHYSICS_MAX_TRAVEL / maxSpeed);
+            if (dt > budget) {
+                dt = budget;
+                clampedFrames++;
+            }
+        }
+        if (steps > 1) substeppedFrames++;
+        totalSubsteps += steps;
+
+        double h = dt / steps;
+
+        for (int s = 0; s < steps; s++) {
+            integrate(h);
+        }
+        scatter();
+    }
+
+    /**
+     * Recopie l'état courant des entités dans les tableaux
+     * (l'input et l'IA ont pu modifier les vitesses).
+     *
+     * @return plus grande composante de vitesse parmi les corps simulés
+     */
+    private double gather() {
+        double maxSpeed = 0;
+        for (int i = 0; i < count; i++) {
+            PhysicsBody b = owners[i];
+
+            if (resting[i]) {
+                // Réveil : vitesse donnée par l'IA / poussée, ou déplacement externe
+                if (Math.abs(b.getVx()) > Constants.PHYSICS_SLEEP_SPEED || b.getVy() != 0
+                        || b.getX() != x[i] || b.getY() != y[i]) {
+                    resting[i] = false;
+                    restTimer[i] = 0;
+                }
+            }
+
+            x[i] = b.getX();
+            y[i] = b.getY();
+            vx[i] = b.getVx();
+            vy[i] = b.getVy();
+            w[i] = b.getWidth();
+            h[i] = b.getHeight();
+            category[i] = b.getCollisionCategory();
+            if ((category[i] & frozenLayers) == 0) {
+                maxSpeed = Math.max(maxSpeed, Math.max(Math.abs(vx[i]), Math.abs(vy[i])));
+            }
+        }
+        return maxSpeed;
+    }
+
+    /**
+     * Boucle principale : gravité, intégration et résolution des collisions.
+     *
+     * @param dt pas de temps (en secondes)
+     */
+    private void integrate(double dt) {
+        double gravity = Constants.GRAVITY * 60 * dt;
+
+        for (int i = 0; i < count; i++) {
+            if (resting[i] || (category[i] & frozenLayers) != 0) continue;
+
+            contacts[i] = 0;
+            vy[i] += gravity;
+
+            x[i] += vx[i] * dt;
+            resolveHorizontal(i);
+
+            y[i] += vy[i] * dt;
+            resolveVertical(i);
+
+            if ((flags[i] & FLAG_CLAMP_TO_SCREEN) != 0) clampToScreen(i);
+
+            updateRest(i, dt);
+        }
+    }
+
+    /**
+     * Fait passer le corps {@code i} au repos s'il est posé au sol
+     * et quasiment immobile depuis assez longtemps.
+     */
+    private void updateRest(int i, double dt) {
+        boolean still = (contacts[i] & CONTACT_GROUND) != 0
+                && vy[i] == 0
+                && Math.abs(vx[i]) <= Constants.PHYSICS_SLEEP_SPEED;
+
+        if (!still) {
+            restTimer[i] = 0;
+            return;
+        }
+
+        restTimer[i] += dt;
+        if (restTimer[i] >= Constants.PHYSICS_SLEEP_DELAY) {
+            resting[i] = true;
+            vx[i] = 0;
+        }
+    }
+
+    /**
+     * Résout les collisions horizontales du corps {@code i} (s'arrête contre un mur).
+     */
+    private void resolveHorizontal(int i) {
+        int n = broadphase.query(x[i], w[i], candidates);
+        for (int k = 0; k < n; k++) {
+            int p = candidates[k];
+            if (broadphase.intersects(p, x[i], y[i], w[i], h[i])) {
+                if (vx[i] > 0) x[i] = broadphase.getX(p) - w[i];
+                else if (vx[i] < 0) x[i] = broadphase.getX(p) + broadphase.getWidth(p);
+                vx[i] = 0;
+                contacts[i] |= CONTACT_WALL;
+            }
+        }
+    }
+
+    /**
+     * Résout les collisions verticales du corps {@code i} (sol, plafond).
+     */
+    private void resolveVertical(int i) {
+        groundPlatform[i] = -1;
+        int n = broadphase.query(x[i], w[i], candidates);
+        for (int k = 0; k < n; k++) {
+            int p = candidates[k];
+            if (broadphase.intersects(p, x[i], y[i], w[i], h[i])) {
+                if (vy[i] > 0) {
+                    y[i] = broadphase.getY(p) - h[i];
+                    vy[i] = 0;
+                    contacts[i] |= CONTACT_GROUND;
+                    groundPlatform[i] = p;
+                } else if (vy[i] < 0) {
+                    y[i] = broadphase.getY(p) + broadphase.getHeight(p);
+                    vy[i] = 0;
+                    contacts[i] |= CONTACT_CEILING;
+                }
+            }
+        }
+    }
+
+    /**
+     * Maintient le corps {@code i} dans les limites de la fenêtre.
+     */
+    private void clampToScreen(int i) {
+        if (x[i] < 0) x[i] = 0;
+        if (x[i] + w[i] > Constants.WINDOW_WIDTH) x[i] = Constants.WINDOW_WIDTH - w[i];
+
+        if (y[i] < 0) {
+            y[i] = 0;
+            vy[i] = 0;
+        }
+        if (y[i] + h[i] > Constants.WINDOW_HEIGHT) {
+            y[i] = Constants.WINDOW_HEIGHT - h[i];
+            vy[i] = 0;
+            contacts[i] |= CONTACT_GROUND;
+        }
+    }
+
+    /**
+     * Renvoie le nouvel état à chaque entité (position, vitesse, contacts).
+     */
+    private void scatter() {
+        for (int i = 0; i < count; i++) {
+            if ((category[i] & frozenLayers) != 0) continue;
+            owners[i].onPhysicsStep(x[i], y[i], vx[i], vy[i], contacts[i]);
+        }
+    }
+
+    /** @return durée maximale d'un sous-pas (en secondes) */
+    public double getMaxStep() { return maxStep; }
+
+    /** @return nombre maximal de sous-pas par frame */
+    public int getMaxSubsteps() { return maxSubsteps; }
+
+    /** @return nombre de frames découpées en plusieurs sous-pas */
+    public long getSubsteppedFrames() { return substeppedFrames; }
+
+    /** @return nombre de frames dont une partie du temps a été abandonnée */
+    public long getClampedFrames() { return clampedFrames; }
+
+    /** @return nombre total de sous-pas exécutés */
+    public long getTotalSubsteps() { return totalSubsteps; }
+
+    /** @return nombre de corps actuellement au repos */
+    public int getRestingBodyCount() {
+        int n = 0;
+        for (int i = 0; i < count; i++) {
+            if (resting[i]) n++;
+        }
+        return n;
+    }
+
+    /**
+     * @param body corps interrogé
+     * @return {@code true} si le corps est au repos
+     */
+    public boolean isResting(PhysicsBody body) {
+        int i = body.getBodyIndex();
+        return i >= 0 && i < count && resting[i];
+    }
+
+    /** @return nombre de corps simulés */
+    public int getBodyCount() { return count; }
+
+    /**
+     * @param body corps interrogé
+     * @return indice de la plateforme sous le corps, ou -1 s'il est en l'air
+     */
+    public int getGroundPlatform(PhysicsBody body) {
+        int i = body.getBodyIndex();
+        return (i >= 0 && i < count) ? groundPlatform[i] : -1;
+    }
+
+    /** @return broadphase des plateformes utilisée par le monde */
+    public PlatformBroadphase getBroadphase() { return broadphase; }
+}
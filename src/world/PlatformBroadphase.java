@@ -0,0 +1,242 @@
+package src.world;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Phase large (broadphase) des collisions contre les plateformes.
+ *
+ * <p>Les plateformes sont recopiées dans des tableaux primitifs et rangées
+ * par colonnes verticales de {@link #CELL_SIZE} pixels. Une requête ne teste
+ * donc que les plateformes des colonnes couvertes par le rectangle demandé,
+ * au lieu de parcourir toute la liste du niveau.</p>
+ *
+ * <p>Les indices retournés sont triés par ordre croissant : la résolution
+ * des collisions se fait ainsi dans le même ordre que la liste d'origine
+ * de {@link Level#getPlatforms()}.</p>
+ */
+public class PlatformBroadphase {
+
+    /** Largeur d'une colonne de la grille (en pixels). */
+    public static final int CELL_SIZE = 64;
+
+    /** Coordonnées des plateformes (structure de tableaux). */
+    private double[] px, py, pw, ph;
+
+    /** Nombre de plateformes indexées. */
+    private int count;
+
+    /** Indices de plateformes par colonne. */
+    private int[][] columns;
+
+    /** Marqueurs anti-doublon (une plateforme peut couvrir plusieurs colonnes). */
+    private int[] stamps;
+    private int stamp = 0;
+
+    /**
+     * Construit la broadphase à partir des plateformes du niveau.
+     *
+     * @param platforms plateformes à indexer
+     */
+    public PlatformBroadphase(List<Platform> platforms) {
+        rebuild(platforms);
+    }
+
+    /**
+     * Reconstruit entièrement l'index (à appeler si les plateformes changent).
+     *
+     * @param platforms plateformes à indexer
+     */
+    public void rebuild(List<Platform> platforms) {
+        count = platforms.size();
+        px = new double[count];
+        py = new double[count];
+        pw = new double[count];
+        ph = new double[count];
+        stamps = new int[count];
+
+        double maxX = 0;
+        for (int i = 0; i < count; i++) {
+            Platform p = platforms.get(i);
+            px[i] = p.x;
+            py[i] = p.y;
+            pw[i] = p.width;
+            ph[i] = p.height;
+            maxX = Math.max(maxX, p.x + p.width);
+        }
+
+        int columnCount = Math.max(1, (int) Math.ceil(maxX / CELL_SIZE) + 1);
+        int[] sizes = new int[columnCount];
+        for (int i = 0; i < count; i++) {
+            int c0 = column(px[i], columnCount);
+            int c1 = column(px[i] + pw[i], columnCount);
+            for (int c = c0; c <= c1; c++) sizes[c]++;
+        }
+
+        columns = new int[columnCount][];
+        for (int c = 0; c < columnCount; c++) columns[c] = new int[sizes[c]];
+
+        int[] fill = new int[columnCount];
+        for (int i = 0; i < count; i++) {
+            int c0 = column(px[i], columnCount);
+            int c1 = column(px[i] + pw[i], columnCount);
+            for (int c = c0; c <= c1; c++) columns[c][fill[c]++] = i;
+        }
+    }
+
+    private static int column(double x, int columnCount) {
+        int c = (int) Math.floor(x / CELL_SIZE);
+        if (c < 0) return 0;
+        return Math.min(c, columnCount - 1);
+    }
+
+    /**
+     * Récupère les plateformes candidates pour un rectangle donné.
+     *
+     * @param x   position X du rectangle
+     * @param w   largeur du rectangle
+     * @param out tableau recevant les indices (taille &ge; {@link #size()})
+     * @return nombre d'indices écrits dans {@code out}, triés par ordre croissant
+     */
+    public int query(double x, double w, int[] out) {
+        int columnCount = columns.length;
+        int c0 = column(x, columnCount);
+        int c1 = column(x + w, columnCount);
+
+        if (++stamp == Integer.MAX_VALUE) {
+            Arrays.fill(stamps, 0);
+            stamp = 1;
+        }
+
+        int n = 0;
+        for (int c = c0; c <= c1; c++) {
+            int[] col = columns[c];
+            for (int k = 0; k < col.length; k++) {
+                int i = col[k];
+                if (stamps[i] == stamp) continue;
+                stamps[i] = stamp;
+
+                // Insertion triée (quelques éléments au plus)
+                int j = n++;
+                while (j > 0 && out[j - 1] > i) {
+                    out[j] = out[j - 1];
+                    j--;
+                }
+                out[j] = i;
+            }
+        }
+        return n;
+    }
+
+    /**
+     * Teste le chevauchement entre un rectangle et une plateforme indexée.
+     * Même convention que {@link Platform#intersects(double, double, double, double)}.
+     *
+     * @param i indice de la plateforme
+     * @param x position X du rectangle
+     * @param y position Y du rectangle
+     * @param w largeur du rectangle
+     * @param h hauteur du rectangle
+     * @return {@code true} si les deux rectangles se chevauchent
+     */
+    public boolean intersects(int i, double x, double y, double w, double h) {
+        return x < px[i] + pw[i] && x + w > px[i]
+                && y < py[i] + ph[i] && y + h > py[i];
+    }
+
+    /**
+     * Indique si un rectangle chevauche au moins une plateforme.
+     *
+     * @param x   position X
+     * @param y   position Y
+     * @param w   largeur
+     * @param h   hauteur
+     * @param tmp tableau de travail (taille &ge; {@link #size()})
+     * @return {@code true} en cas de chevauchement
+     */
+    public boolean overlapsAny(double x, double y, double w, double h, int[] tmp) {
+        int n = query(x, w, tmp);
+        for (int k = 0; k < n; k++) {
+            if (intersects(tmp[k], x, y, w, h)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Indique si un segment traverse au moins une plateforme (ligne de vue).
+     *
+     * <p>Contrairement à {@link #query}, ne modifie aucun état : peut être
+     * appelée depuis plusieurs threads (une plateforme couvrant plusieurs
+     * colonnes est simplement testée plusieurs fois).</p>
+     *
+     * @param x0 X de départ
+     * @param y0 Y de départ
+     * @param x1 X d'arrivée
+     * @param y1 Y d'arrivée
+     * @return {@code true} si le segment coupe une plateforme
+     */
+    public boolean segmentHitsAny(double x0, double y0, double x1, double y1) {
+        int columnCount = columns.length;
+        int c0 = column(Math.min(x0, x1), columnCount);
+        int c1 = column(Math.max(x0, x1), columnCount);
+
+        for (int c = c0; c <= c1; c++) {
+            int[] col = columns[c];
+            for (int k = 0; k < col.length; k++) {
+                if (segmentIntersects(col[k], x0, y0, x1, y1)) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Teste un segment contre une plateforme (méthode des dalles, bords exclus
+     * comme pour {@link #intersects}).
+     *
+     * @param i  indice de la plateforme
+     * @param x0 X de départ
+     * @param y0 Y de départ
+     * @param x1 X d'arrivée
+     * @param y1 Y d'arrivée
+     * @return {@code true} si le segment entre dans la plateforme
+     */
+    public boolean segmentIntersects(int i, double x0, double y0, double x1, double y1) {
+        double tMin = 0, tMax = 1;
+
+        double dx = x1 - x0;
+        if (dx == 0) {
+            if (x0 <= px[i] || x0 >= px[i] + pw[i]) return false;
+        } else {
+            double t1 = (px[i] - x0) / dx;
+            double t2 = (px[i] + pw[i] - x0) / dx;
+            tMin = Math.max(tMin, Math.min(t1, t2));
+            tMax = Math.min(tMax, Math.max(t1, t2));
+            if (tMin >= tMax) return false;
+        }
+
+        double dy = y1 - y0;
+        if (dy == 0) {
+            return y0 > py[i] && y0 < py[i] + ph[i];
+        }
+        double t1 = (py[i] - y0) / dy;
+        double t2 = (py[i] + ph[i] - y0) / dy;
+        tMin = Math.max(tMin, Math.min(t1, t2));
+        tMax = Math.min(tMax, Math.max(t1, t2));
+        return tMin < tMax;
+    }
+
+    /** @return nombre de plateformes indexées */
+    public int size() { return count; }
+
+    /** @return position X de la plateforme {@code i} */
+    public double getX(int i) { return px[i]; }
+
+    /** @return position Y de la plateforme {@code i} */
+    public double getY(int i) { return py[i]; }
+
+    /** @return largeur de la plateforme {@code i} */
+    public double getWidth(int i) { return pw[i]; }
+
+    /** @return hauteur de la plateforme {@code i} */
+    public double getHeight(int i) { return ph[i]; }
+}
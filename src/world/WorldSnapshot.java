@@ -0,0 +1,112 @@
+package src.world;
+
+import src.entities.LivingEntity;
+
+/**
+ * Photographie du monde prise une fois par tick, avant la mise à jour des
+ * ennemis : position, boîte et vitesse du joueur, état du gel du temps.
+ *
+ * <p>L'IA lit ces valeurs au lieu d'interroger le joueur à travers ses
+ * accesseurs, et compare les distances au carré ({@link #distanceSq},
+ * {@link #isWithin}) plutôt que de calculer des racines. Entre deux
+ * captures la photographie n'est que lue : elle peut être consultée
+ * pendant la phase de décision parallèle des ennemis.</p>
+ *
+ * <p>La capture ({@link #capture}) est faite par le {@code WaveManager}
+ * sur le thread du jeu.</p>
+ */
+public class WorldSnapshot {
+
+    private double playerX, playerY;
+    private double playerWidth, playerHeight;
+    private double playerCenterX, playerCenterY;
+    private double playerVx, playerVy;
+    private boolean frozen;
+
+    /** Nombre de captures depuis la création. */
+    private long tick;
+
+    /**
+     * Capture l'état du joueur pour le tick courant.
+     *
+     * @param player joueur
+     * @param frozen {@code true} si le temps est gelé
+     */
+    public void capture(LivingEntity player, boolean frozen) {
+        playerX = player.getX();
+        playerY = player.getY();
+        playerWidth = player.getWidth();
+        playerHeight = player.getHeight();
+        playerCenterX = playerX + playerWidth / 2.0;
+        playerCenterY = playerY + playerHeight / 2.0;
+        playerVx = player.getVx();
+        playerVy = player.getVy();
+        this.frozen = frozen;
+        tick++;
+    }
+
+    /**
+     * @param x position X
+     * @param y position Y
+     * @return carré de la distance entre ce point et le centre du joueur
+     */
+    public double distanceSq(double x, double y) {
+        double dx = playerCenterX - x;
+        double dy = playerCenterY - y;
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * @param x     position X
+     * @param y     position Y
+     * @param range portée en pixels
+     * @return {@code true} si le centre du joueur est à moins de {@code range} du point
+     */
+    public boolean isWithin(double x, double y, double range) {
+        return distanceSq(x, y) <= range * range;
+    }
+
+    /**
+     * Test AABB contre la boîte du joueur.
+     *
+     * @param x position X du rectangle
+     * @param y position Y du rectangle
+     * @param w largeur
+     * @param h hauteur
+     * @return {@code true} si le rectangle chevauche le joueur
+     */
+    public boolean overlapsPlayer(double x, double y, double w, double h) {
+        return x < playerX + playerWidth && x + w > playerX
+                && y < playerY + playerHeight && y + h > playerY;
+    }
+
+    /** @return position X du joueur */
+    public double getPlayerX() { return playerX; }
+
+    /** @return position Y du joueur */
+    public double getPlayerY() { return playerY; }
+
+    /** @return largeur du joueur */
+    public double getPlayerWidth() { return playerWidth; }
+
+    /** @return hauteur du joueur */
+    public double getPlayerHeight() { return playerHeight; }
+
+    /** @return centre X du joueur */
+    public double getPlayerCenterX() { return playerCenterX; }
+
+    /** @return centre Y du joueur */
+    public double getPlayerCenterY() { return playerCenterY; }
+
+    /** @return vitesse horizontale du joueur (px/s) */
+    public double getPlayerVx() { return playerVx; }
+
+    /** @return vitesse verticale du joueur (px/s) */
+    public double getPlayerVy() { return playerVy; }
+
+    /** @return {@code true} si le temps était gelé lors de la capture */
+    public boolean isFrozen() { return frozen; }
+
+    /** @return nombre de captures depuis la création */
+    public long getTick() { return tick; }
+}
@@ -0,0 +1,121 @@
+import src.core.AiScheduler;
+import src.core.ProjectileManager;
+import src.core.TimeFreezeManager;
+import src.entities.Enemy;
+import src.entities.EnemyArchetypes;
+import src.entities.EnemyType;
+import src.entities.Player;
+import src.input.KeyboardInput;
+import src.world.Level;
+
+public class AiSchedulerTest {
+
+    @Test
+    void farEnemiesThinkEveryFourthTickStaggered() {
+        Level level = horde(40);
+        AiScheduler scheduler = new AiScheduler();
+
+        int total = 0;
+        for (int t = 0; t < 8; t++) {
+            scheduler.schedule(level.getEntities());
+            assertTrue(scheduler.getTierCount(AiScheduler.TIER_FAR) == 40);
+            // Décisions réparties : 10 par tick plutôt que 40 d'un coup
+            assertTrue(scheduler.getThinkCount() == 10);
+            total += scheduler.getThinkCount();
+        }
+        assertTrue(total == 80);
+    }
+
+    @Test
+    void budgetBoundsDecisionsPerTick() {
+        Level level = horde(40);
+        AiScheduler scheduler = new AiScheduler(4);
+
+        int total = 0;
+        for (int t = 0; t < 20; t++) {
+            scheduler.schedule(level.getEntities());
+            assertTrue(scheduler.getThinkCount() <= 4);
+            total += scheduler.getThinkCount();
+        }
+        // Le budget est utilisé en entier : aucun ennemi n'est oublié
+        assertTrue(total == 80);
+    }
+
+    @Test
+    void activeTierKeepsOnlyTheNearestCandidates() {
+        Level level = new Level();
+        Player player = new Player(20, 600, new KeyboardInput(), level);
+        ProjectileManager projectiles = new ProjectileManager(level, player, new TimeFreezeManager());
+        for (int i = 0; i < 20; i++) {
+            EnemyType.ENEMY01.create(EnemyArchetypes.get(EnemyType.ENEMY01), 40 + i * 10, 600,
+                    level, player, projectiles);
+        }
+        for (int t = 0; t < 60; t++) level.getPhysicsWorld().step(1.0 / 60);
+        level.getSnapshot().capture(player, false);
+
+        AiScheduler scheduler = new AiScheduler(4);
+        scheduler.setActiveSlots(5);
+        scheduler.schedule(level.getEntities());
+
+        // Tous à portée de charge : 5 décident d'office, le reste passe par le budget
+        assertTrue(scheduler.getTierCount(AiScheduler.TIER_ACTIVE) == 5);
+        assertTrue(scheduler.getTierCount(AiScheduler.TIER_NEAR) == 15);
+        assertTrue(scheduler.getThinkCount() <= 5 + 4);
+        int nearest = -1;
+        for (int i = 0; i < level.getEntities().size(); i++) {
+            if (level.getEntities().get(i) instanceof Enemy) { nearest = i; break; }
+        }
+        assertTrue(scheduler.isDue(nearest));
+    }
+
+    @Test
+    void airborneEnemiesThinkEveryTickWithoutASlot() {
+        Level level = new Level();
+        Player player = new Player(20, 600, new KeyboardInput(), level);
+        ProjectileManager projectiles = new ProjectileManager(level, player, new TimeFreezeManager());
+        for (int i = 0; i < 10; i++) {
+            EnemyType.ENEMY01.create(EnemyArchetypes.get(EnemyType.ENEMY01), 1000 + i * 20, 100,
+                    level, player, projectiles);
+        }
+        level.getPhysicsWorld().step(1.0 / 60);
+        level.getSnapshot().capture(player, false);
+
+        AiScheduler scheduler = new AiScheduler(4);
+        scheduler.setActiveSlots(0);
+        scheduler.schedule(level.getEntities());
+
+        // En chute, loin du joueur : la réception ne doit pas attendre
+        assertTrue(scheduler.getTierCount(AiScheduler.TIER_ACTIVE) == 10);
+    }
+
+    @Test
+    void disabledSchedulerRunsEveryEnemy() {
+        Level level = horde(12);
+        AiScheduler scheduler = new AiScheduler();
+        scheduler.setEnabled(false);
+
+        scheduler.schedule(level.getEntities());
+        assertTrue(scheduler.getTierCount(AiScheduler.TIER_ACTIVE) == 12);
+        for (int i = 0; i < 12; i++) assertTrue(scheduler.isDue(i));
+    }
+
+    /** Ennemis posés au sol, loin du joueur. */
+    private static Level horde(int count) {
+        Level level = new Level();
+        Player player = new Player(20, 600, new KeyboardInput(), level);
+        ProjectileManager projectiles = new ProjectileManager(level, player, new TimeFreezeManager());
+        for (int i = 0; i < count; i++) {
+            EnemyType.ENEMY01.create(EnemyArchetypes.get(EnemyType.ENEMY01), 1000 + (i % 4) * 50, 600,
+                    level, player, projectiles);
+        }
+        for (int t = 0; t < 60; t++) level.getPhysicsWorld().step(1.0 / 60);
+        level.getSnapshot().capture(player, false);
+        return level;
+    }
+
+    private void assertTrue(boolean condition) {
+        if (!condition) {
+            throw new AssertionError("expected true");
+        }
+    }
+}
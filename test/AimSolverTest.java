@@ -0,0 +1,51 @@
+import src.entities.EnemyArchetypes;
+import src.entities.EnemyType;
+import src.util.AimSolver;
+
+public class AimSolverTest {
+
+    @Test
+    void stationaryTargetIsHitAfterDistanceOverSpeed() {
+        double t = AimSolver.interceptTime(300, 400, 0, 0, 500);
+        assertTrue(Math.abs(t - 1.0) < 1e-9);
+    }
+
+    @Test
+    void interceptPointIsReachedByBullet() {
+        double dx = 200, dy = -50, vx = 180, vy = 0, speed = 400;
+        double t = AimSolver.interceptTime(dx, dy, vx, vy, speed);
+        assertTrue(t > 0);
+
+        // La balle parcourt exactement la distance jusqu'au point d'interception
+        double ix = dx + vx * t;
+        double iy = dy + vy * t;
+        assertTrue(Math.abs(Math.sqrt(ix * ix + iy * iy) - speed * t) < 1e-6);
+    }
+
+    @Test
+    void fasterTargetRunningAwayCannotBeIntercepted() {
+        assertTrue(AimSolver.interceptTime(200, 0, 600, 0, 400) == AimSolver.NO_SOLUTION);
+        // Même vitesse que la balle, en s'éloignant : pas de solution non plus
+        assertTrue(AimSolver.interceptTime(200, 0, 400, 0, 400) == AimSolver.NO_SOLUTION);
+        // Même vitesse, en se rapprochant : rencontre à mi-chemin
+        assertTrue(Math.abs(AimSolver.interceptTime(200, 0, -400, 0, 400) - 0.25) < 1e-9);
+    }
+
+    @Test
+    void distantInterceptFallsBackToCurrentPosition() {
+        assertTrue(AimSolver.interceptTime(2000, 0, 0, 0, 400) == AimSolver.NO_SOLUTION);
+    }
+
+    @Test
+    void rangedArchetypesLeadTheirShots() {
+        assertTrue(EnemyArchetypes.get(EnemyType.ENEMY01).getAimLead() == 0);
+        assertTrue(EnemyArchetypes.get(EnemyType.ENEMY02).getAimLead() > 0);
+        assertTrue(EnemyArchetypes.get(EnemyType.ENEMY03).getAimLead() > 0);
+    }
+
+    private void assertTrue(boolean condition) {
+        if (!condition) {
+            throw new AssertionError("expected true");
+        }
+    }
+}
@@ -0,0 +1,96 @@
+import src.core.AttackCoordinator;
+import src.core.EnemyUpdater;
+import src.core.ProjectileManager;
+import src.core.SoundManager;
+import src.core.TimeFreezeManager;
+import src.entities.Enemy;
+import src.entities.EnemyArchetypes;
+import src.entities.EnemyState;
+import src.entities.EnemyType;
+import src.entities.LivingEntity;
+import src.entities.Player;
+import src.input.KeyboardInput;
+import src.world.Level;
+
+public class AttackCoordinatorTest {
+
+    static {
+        // Les tirs et coups des ennemis ne lancent aucun son pendant les tests
+        SoundManager.setMuted(true);
+    }
+
+    @Test
+    void tokensAreBoundedPerTarget() {
+        Level level = new Level();
+        crowd(level, 10);
+        AttackCoordinator coordinator = new AttackCoordinator(3);
+
+        coordinator.update(level.getEntities());
+        assertTrue(coordinator.getGrantedCount() == 3);
+        assertTrue(coordinator.getWaitingCount() == 7);
+    }
+
+    @Test
+    void onlyTokenHoldersCharge() {
+        Level level = new Level();
+        Player player = crowd(level, 10);
+        EnemyUpdater updater = new EnemyUpdater();
+        updater.setParallel(false);
+
+        for (int t = 0; t < 90; t++) {
+            level.getSnapshot().capture(player, false);
+            updater.update(level.getEntities(), 1.0 / 60);
+            level.getPhysicsWorld().step(1.0 / 60);
+
+            int attacking = 0;
+            for (LivingEntity e : level.getEntities()) {
+                EnemyState s = ((Enemy) e).getState();
+                if (s == EnemyState.CHARGING || s == EnemyState.CHASING || s == EnemyState.ATTACKING) {
+                    assertTrue(((Enemy) e).hasAttackToken());
+                    attacking++;
+                }
+            }
+            assertTrue(attacking <= AttackCoordinator.DEFAULT_TOKENS_PER_TARGET);
+        }
+    }
+
+    @Test
+    void releasedTokenGoesToTheLongestWaiter() {
+        Level level = new Level();
+        crowd(level, 4);
+        AttackCoordinator coordinator = new AttackCoordinator(1);
+
+        coordinator.update(level.getEntities());
+        coordinator.update(level.getEntities());
+        Enemy holder = null;
+        for (LivingEntity e : level.getEntities()) {
+            if (((Enemy) e).hasAttackToken()) holder = (Enemy) e;
+        }
+        assertTrue(holder != null);
+
+        // Le détenteur s'éloigne : son jeton passe à un autre demandeur
+        holder.onPhysicsStep(holder.getX() + 900, holder.getY(), 0, 0, 0);
+        coordinator.update(level.getEntities());
+        assertTrue(!holder.hasAttackToken());
+        assertTrue(coordinator.getGrantedCount() == 1);
+    }
+
+    /** Joueur au sol entouré d'Enemy01 à portée de charge. */
+    private static Player crowd(Level level, int count) {
+        Player player = new Player(600, 600, new KeyboardInput(), level);
+        ProjectileManager projectiles = new ProjectileManager(level, player, new TimeFreezeManager());
+        for (int i = 0; i < count; i++) {
+            double x = 600 + ((i % 2 == 0) ? -1 : 1) * (60 + 8 * i);
+            EnemyType.ENEMY01.create(EnemyArchetypes.get(EnemyType.ENEMY01), x, 600, level, player, projectiles);
+        }
+        for (int t = 0; t < 60; t++) level.getPhysicsWorld().step(1.0 / 60);
+        level.getSnapshot().capture(player, false);
+        return player;
+    }
+
+    private void assertTrue(boolean condition) {
+        if (!condition) {
+            throw new AssertionError("expected true");
+        }
+    }
+}
@@ -0,0 +1,47 @@
+import src.entities.Ak47Bullet;
+import src.entities.Bullet;
+import src.world.CollisionLayer;
+import src.world.Level;
+
+public class CollisionLayerTest {
+
+    @Test
+    void enemyBulletOnlyHitsPlayerAndPlatforms() {
+        Bullet bullet = new Bullet(0, 0, 0, 0, 1, new Level());
+
+        assertTrue(CollisionLayer.canCollide(bullet.getCollisionCategory(), bullet.getCollisionMask(),
+                CollisionLayer.PLAYER, CollisionLayer.PLAYER_MASK));
+        assertFalse(CollisionLayer.canCollide(bullet.getCollisionCategory(), bullet.getCollisionMask(),
+                CollisionLayer.ENEMY, CollisionLayer.ENEMY_MASK));
+    }
+
+    @Test
+    void filterIsSymmetric() {
+        Ak47Bullet bullet = new Ak47Bullet(0, 0, 0, 0, 2);
+
+        // Le masque de la balle accepte les ennemis, mais pas l'inverse
+        assertFalse(CollisionLayer.canCollide(bullet.getCollisionCategory(), bullet.getCollisionMask(),
+                CollisionLayer.ENEMY, CollisionLayer.PLAYER));
+        assertTrue(CollisionLayer.canCollide(bullet.getCollisionCategory(), bullet.getCollisionMask(),
+                CollisionLayer.ENEMY, CollisionLayer.ENEMY_MASK));
+    }
+
+    @Test
+    void platformLayerCanBeDisabledAsData() {
+        Level level = new Level();
+        Bullet bullet = new Bullet(10, 690, 0, 0, 1, level);
+        bullet.setCollisionMask(CollisionLayer.PLAYER);
+
+        bullet.update(0.1);
+
+        assertTrue(bullet.isAlive());
+    }
+
+    private void assertTrue(boolean value) {
+        if (!value) throw new AssertionError("expected true");
+    }
+
+    private void assertFalse(boolean value) {
+        if (value) throw new AssertionError("expected false");
+    }
+}
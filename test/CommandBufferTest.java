@@ -0,0 +1,52 @@
+import src.core.CommandBuffer;
+import src.core.Pickup;
+import src.core.PickupManager;
+import src.core.ProjectileManager;
+import src.core.TimeFreezeManager;
+import src.core.WaveManager;
+import src.entities.Player;
+import src.input.KeyboardInput;
+import src.world.Level;
+
+public class CommandBufferTest {
+
+    private final Level level = new Level();
+    private final Player player = new Player(20, 600, new KeyboardInput(), level);
+    private final TimeFreezeManager freeze = new TimeFreezeManager();
+    private final ProjectileManager projectiles = new ProjectileManager(level, player, freeze);
+    private final WaveManager waves = new WaveManager(level, player, projectiles, freeze);
+
+    @Test
+    void everyPickupTypeIsApplied() {
+        PickupManager pickups = new PickupManager(player);
+        CommandBuffer commands = new CommandBuffer();
+        commands.spawnPickup(Pickup.PickupType.HEART, 100, 100, 0);
+        commands.spawnPickup(Pickup.PickupType.SHIELD, 200, 100, 15);
+        commands.spawnPickup(Pickup.PickupType.SPEED, 300, 100, 15);
+
+        assertTrue(commands.apply(level, waves, projectiles, pickups) == 3);
+        assertTrue(pickups.getHealthPool().getInUse() == 1);
+        assertTrue(pickups.getShieldPool().getInUse() == 1);
+        assertTrue(pickups.getSpeedPool().getInUse() == 1);
+    }
+
+    @Test
+    void pendingPickupsWithoutManagerAreKept() {
+        CommandBuffer commands = new CommandBuffer();
+        commands.spawnPickup(Pickup.PickupType.SHIELD, 200, 100, 15);
+
+        try {
+            commands.apply(level, waves, projectiles, null);
+            throw new AssertionError("bonus perdu sans erreur");
+        } catch (IllegalStateException expected) {
+            // attendu
+        }
+        assertTrue(commands.getPendingCount() == 1);
+    }
+
+    private void assertTrue(boolean condition) {
+        if (!condition) {
+            throw new AssertionError("expected true");
+        }
+    }
+}
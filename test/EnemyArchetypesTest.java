@@ -0,0 +1,47 @@
+import java.io.StringReader;
+
+import src.entities.EnemyArchetype;
+import src.entities.EnemyArchetypes;
+import src.entities.EnemyType;
+
+public class EnemyArchetypesTest {
+
+    @Test
+    void defaultArchetypesMatchOriginalTuning() throws Exception {
+        EnemyArchetypes.load(new StringReader(""));
+
+        EnemyArchetype e02 = EnemyArchetypes.get(EnemyType.ENEMY02);
+        assertEquals(1, e02.getMaxHealth());
+        assertEquals(350.0, e02.getShootRange());
+        assertEquals(0.40, e02.getSpeedDropChance());
+
+        EnemyArchetypes.load();
+    }
+
+    @Test
+    void newSectionInheritsFromItsBehavior() throws Exception {
+        EnemyArchetypes.load(new StringReader(
+                "[ELITE]\n"
+                + "behavior = ENEMY01\n"
+                + "# plus résistant\n"
+                + "health = 9\n"));
+
+        EnemyArchetype elite = EnemyArchetypes.get("ELITE");
+        assertTrue(elite.getBehavior() == EnemyType.ENEMY01);
+        assertEquals(9, elite.getMaxHealth());
+        assertEquals(200.0, elite.getChargeRange());
+        assertEquals(3, EnemyArchetypes.get(EnemyType.ENEMY01).getMaxHealth());
+
+        EnemyArchetypes.load();
+    }
+
+    private void assertTrue(boolean value) {
+        if (!value) throw new AssertionError("expected true");
+    }
+
+    private void assertEquals(double expected, double actual) {
+        if (Math.abs(expected - actual) > 1e-9) {
+            throw new AssertionError("expected " + expected + " but was " + actual);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+import java.util.concurrent.ForkJoinPool;
+
+import src.core.EnemyUpdater;
+import src.core.ProjectileManager;
+import src.core.SoundManager;
+import src.core.TimeFreezeManager;
+import src.entities.EnemyArchetypes;
+import src.entities.EnemyType;
+import src.entities.LivingEntity;
+import src.entities.Player;
+import src.input.KeyboardInput;
+import src.world.Level;
+
+public class EnemyUpdaterTest {
+
+    static {
+        // Les tirs et coups des ennemis ne lancent aucun son pendant les tests
+        SoundManager.setMuted(true);
+    }
+
+    @Test
+    void parallelThinkMatchesSerialRun() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            EnemyUpdater serial = new EnemyUpdater(pool, 8);
+            serial.setParallel(false);
+            EnemyUpdater parallel = new EnemyUpdater(pool, 8);
+            parallel.setParallel(true);
+
+            assertEquals(simulate(serial), simulate(parallel));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /** Fait tourner une petite horde et renvoie l'empreinte de l'état final. */
+    private String simulate(EnemyUpdater updater) {
+        Level level = new Level();
+        Player player = new Player(615, 200, new KeyboardInput(), level);
+        ProjectileManager projectiles = new ProjectileManager(level, player, new TimeFreezeManager());
+
+        for (int i = 0; i < 72; i++) {
+            EnemyType type = (i % 9 == 0) ? EnemyType.ENEMY02 : (i % 9 == 4) ? EnemyType.ENEMY03 : EnemyType.ENEMY01;
+            type.create(EnemyArchetypes.get(type), 40 + (i * 97) % 1180, 80 + (i * 53) % 500,
+                    level, player, projectiles);
+        }
+
+        double dt = 1.0 / 60;
+        for (int t = 0; t < 120; t++) {
+            level.getSnapshot().capture(player, false);
+            updater.update(level.getEntities(), dt);
+            level.getPhysicsWorld().step(dt);
+            projectiles.update(dt);
+        }
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(player.isDead()).append('|').append(projectiles.getStore().contentHash());
+        for (LivingEntity e : level.getEntities()) {
+            sb.append('|').append(e.getX()).append(',').append(e.getY())
+              .append(',').append(e.getVx()).append(',').append(e.getVy());
+        }
+        return sb.toString();
+    }
+
+    private void assertEquals(String expected, String actual) {
+        if (!expected.equals(actual)) {
+            throw new AssertionError("parallel run diverged from serial run");
+        }
+    }
+}
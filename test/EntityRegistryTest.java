@@ -0,0 +1,64 @@
+import src.world.EntityRegistry;
+
+public class EntityRegistryTest {
+
+    /** Entité minimale pour les tests. */
+    private static final class Dummy implements EntityRegistry.Member {
+        private long handle = EntityRegistry.NO_HANDLE;
+        @Override public long getEntityHandle() { return handle; }
+        @Override public void setEntityHandle(long h) { handle = h; }
+    }
+
+    @Test
+    void removedEntityHandleBecomesStale() {
+        EntityRegistry<Dummy> registry = new EntityRegistry<>();
+        Dummy a = new Dummy();
+        long handle = registry.add(a);
+
+        registry.remove(a);
+        Dummy b = new Dummy();
+        registry.add(b); // réutilise l'emplacement de a
+
+        assertTrue(registry.get(handle) == null);
+        assertTrue(registry.get(b.getEntityHandle()) == b);
+    }
+
+    @Test
+    void removeSwapsLastEntityIntoHole() {
+        EntityRegistry<Dummy> registry = new EntityRegistry<>();
+        Dummy a = new Dummy();
+        Dummy b = new Dummy();
+        Dummy c = new Dummy();
+        registry.add(a);
+        registry.add(b);
+        long hc = registry.add(c);
+
+        registry.remove(a);
+
+        assertTrue(registry.size() == 2);
+        assertTrue(registry.getDense().get(0) == c);
+        assertTrue(registry.get(hc) == c);
+    }
+
+    @Test
+    void manyEntitiesSurviveMassRemoval() {
+        EntityRegistry<Dummy> registry = new EntityRegistry<>();
+        Dummy[] all = new Dummy[500];
+        for (int i = 0; i < all.length; i++) {
+            all[i] = new Dummy();
+            registry.add(all[i]);
+        }
+        for (int i = 0; i < all.length; i += 2) {
+            registry.remove(all[i]);
+        }
+
+        assertTrue(registry.size() == 250);
+        for (int i = 1; i < all.length; i += 2) {
+            assertTrue(registry.get(all[i].getEntityHandle()) == all[i]);
+        }
+    }
+
+    private void assertTrue(boolean value) {
+        if (!value) throw new AssertionError("expected true");
+    }
+}
@@ -0,0 +1,71 @@
+import src.entities.EnemyArchetype;
+import src.entities.EnemyArchetypes;
+import src.entities.EnemyType;
+import src.world.FlowField;
+import src.world.Level;
+import src.world.NavGraph;
+
+public class FlowFieldTest {
+
+    @Test
+    void fieldIsRecomputedOnlyWhenThePlayerChangesCell() {
+        Level level = new Level();
+        NavGraph nav = level.getNavGraph();
+        FlowField field = level.getFlowField();
+        profile(nav, EnemyType.ENEMY03);
+        int ground = nav.locate(0, 600, 60);
+
+        assertTrue(field.update(610, ground));
+        assertTrue(!field.update(615, ground));
+        assertTrue(field.update(610 + FlowField.CELL_SIZE, ground));
+        assertTrue(field.getRecomputeCount() == 2);
+    }
+
+    @Test
+    void directionsPointTowardsThePlayerOnTheSameSurface() {
+        Level level = new Level();
+        NavGraph nav = level.getNavGraph();
+        FlowField field = level.getFlowField();
+        NavGraph.Profile profile = profile(nav, EnemyType.ENEMY03);
+        int ground = nav.locate(0, 600, 60);
+
+        field.update(610, ground);
+        assertTrue(field.getDirection(profile, ground, 100) == 1);
+        assertTrue(field.getDirection(profile, ground, 1100) == -1);
+        assertTrue(field.getDirection(profile, ground, 610) == FlowField.FINE);
+        assertTrue(field.getDirection(profile, -1, 100) == FlowField.FINE);
+    }
+
+    @Test
+    void directionsLeadToTheNextLinkFromAnotherSurface() {
+        Level level = new Level();
+        NavGraph nav = level.getNavGraph();
+        FlowField field = level.getFlowField();
+        NavGraph.Profile profile = profile(nav, EnemyType.ENEMY03);
+        int ground = nav.locate(0, 600, 60);
+        int target = -1;
+        for (int i = 0; i < nav.getNodeCount(); i++) {
+            if (i != ground && profile.isReachable(ground, i)) target = i;
+        }
+        assertTrue(target >= 0);
+
+        double targetX = (nav.getNodeLeft(target) + nav.getNodeRight(target)) / 2;
+        field.update(targetX, target);
+        NavGraph.Link link = profile.nextLink(ground, target);
+        double goal = link.getTakeoffX() + profile.getWidth() / 2.0;
+        double far = (goal < 640) ? goal + 200 : goal - 200;
+        int expected = (goal < far) ? -1 : 1;
+        assertTrue(field.getDirection(profile, ground, far) == expected);
+    }
+
+    private static NavGraph.Profile profile(NavGraph nav, EnemyType type) {
+        EnemyArchetype a = EnemyArchetypes.get(type);
+        return nav.getProfile(a.getJumpForce(), a.getMoveSpeed(), a.getWidth(), a.getHeight());
+    }
+
+    private void assertTrue(boolean condition) {
+        if (!condition) {
+            throw new AssertionError("expected true");
+        }
+    }
+}
@@ -0,0 +1,58 @@
+import java.awt.image.BufferedImage;
+
+import src.util.HitMask;
+import src.util.SpriteFrame;
+
+public class HitMaskTest {
+
+    /** Image 100x10 transparente, sauf une colonne pleine à droite. */
+    private BufferedImage rightColumnImage() {
+        BufferedImage img = new BufferedImage(100, 10, BufferedImage.TYPE_INT_ARGB);
+        for (int y = 0; y < 10; y++) img.setRGB(99, y, 0xFF000000);
+        return img;
+    }
+
+    @Test
+    void transparentPaddingDoesNotHit() {
+        HitMask mask = HitMask.fromAlpha(rightColumnImage(), 100, 10, false);
+
+        assertFalse(mask.overlapsRect(0, 0, 10, 0, 10, 10));
+        assertTrue(mask.overlapsRect(0, 0, 95, 0, 10, 10));
+    }
+
+    @Test
+    void flippedMaskMirrorsColumns() {
+        HitMask mask = HitMask.fromAlpha(rightColumnImage(), 100, 10, true);
+
+        assertTrue(mask.overlapsRect(0, 0, 0, 0, 1, 10));
+        assertFalse(mask.overlapsRect(0, 0, 95, 0, 10, 10));
+    }
+
+    @Test
+    void masksOverlapAcrossWordBoundaries() {
+        HitMask a = HitMask.fromAlpha(rightColumnImage(), 100, 10, false);
+        HitMask b = HitMask.fromAlpha(rightColumnImage(), 100, 10, true);
+
+        // Colonne pleine de A en x=99, colonne pleine de B à sa position X
+        assertFalse(a.overlaps(0, 0, b, 30, 0));
+        assertTrue(a.overlaps(0, 0, b, 99, 5));
+    }
+
+    @Test
+    void spriteFrameStoresBothOrientations() {
+        SpriteFrame frame = SpriteFrame.of(rightColumnImage(), 100, 10);
+
+        assertTrue(frame.getHitMask(false) == frame.getHitMask(false));
+        assertTrue(frame.getHitMask(false).overlapsRect(0, 0, 95, 0, 10, 10));
+        assertTrue(frame.getHitMask(true).overlapsRect(0, 0, 0, 0, 1, 10));
+        assertTrue(SpriteFrame.of(null, 100, 10) == null);
+    }
+
+    private void assertTrue(boolean value) {
+        if (!value) throw new AssertionError("expected true");
+    }
+
+    private void assertFalse(boolean value) {
+        if (value) throw new AssertionError("expected false");
+    }
+}
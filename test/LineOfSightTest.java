@@ -0,0 +1,55 @@
+import src.world.Level;
+import src.world.LineOfSight;
+import src.world.Platform;
+
+public class LineOfSightTest {
+
+    @Test
+    void platformsBlockTheLineOfSight() {
+        Level level = new Level();
+        LineOfSight los = level.getLineOfSight();
+
+        // Joueur sous la plateforme centrale (500..700, y 445..470)
+        los.update(600, 650);
+        assertTrue(los.canSee(300, 650));
+        assertTrue(!los.canSee(600, 400));
+    }
+
+    @Test
+    void resultsAreCachedPerCellPair() {
+        Level level = new Level();
+        LineOfSight los = level.getLineOfSight();
+
+        los.update(600, 650);
+        los.canSee(300, 650);
+        long rays = los.getRaycastCount();
+
+        // Même cellule d'ennemi, joueur déplacé dans sa cellule : pas de nouveau rayon
+        los.update(601, 651);
+        assertTrue(los.canSee(301, 651));
+        assertTrue(los.getRaycastCount() == rays);
+
+        // Le joueur change de cellule : le couple est recalculé
+        los.update(600 + LineOfSight.CELL_SIZE, 650);
+        los.canSee(300, 650);
+        assertTrue(los.getRaycastCount() == rays + 1);
+    }
+
+    @Test
+    void platformChangesInvalidateTheCache() {
+        Level level = new Level();
+        LineOfSight los = level.getLineOfSight();
+
+        los.update(600, 650);
+        assertTrue(los.canSee(300, 650));
+
+        level.addPlatform(new Platform(440, 600, 20, 120));
+        assertTrue(!los.canSee(300, 650));
+    }
+
+    private void assertTrue(boolean condition) {
+        if (!condition) {
+            throw new AssertionError("expected true");
+        }
+    }
+}
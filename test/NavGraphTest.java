@@ -0,0 +1,68 @@
+import src.entities.EnemyArchetype;
+import src.entities.EnemyArchetypes;
+import src.entities.EnemyType;
+import src.world.Level;
+import src.world.NavGraph;
+
+public class NavGraphTest {
+
+    @Test
+    void coveredShelvesAreNotNodes() {
+        NavGraph nav = new Level().getNavGraph();
+
+        // Sol, étagère haute de chaque côté, et les cinq plateformes centrales
+        assertTrue(nav.getNodeCount() == 8);
+        for (int i = 0; i < nav.getNodeCount(); i++) {
+            assertTrue(nav.getNodeRight(i) - nav.getNodeLeft(i) >= 8);
+        }
+    }
+
+    @Test
+    void jumpLinksRespectTheArchetypeJumpHeight() {
+        Level level = new Level();
+        NavGraph nav = level.getNavGraph();
+        int ground = nav.locate(0, 600, 60);
+        int rightShelf = nodeAt(nav, 1100, 225);
+
+        // Enemy01 saute trop bas pour quitter le sol, Enemy02 atteint l'étagère
+        NavGraph.Profile melee = profile(nav, EnemyType.ENEMY01);
+        NavGraph.Profile ranged = profile(nav, EnemyType.ENEMY02);
+        assertTrue(!melee.isReachable(ground, rightShelf));
+        assertTrue(ranged.isReachable(ground, rightShelf));
+    }
+
+    @Test
+    void followingNextLinksReachesTheTarget() {
+        NavGraph nav = new Level().getNavGraph();
+        NavGraph.Profile profile = profile(nav, EnemyType.ENEMY03);
+
+        for (int from = 0; from < nav.getNodeCount(); from++) {
+            for (int to = 0; to < nav.getNodeCount(); to++) {
+                if (!profile.isReachable(from, to)) continue;
+                int node = from;
+                for (int hops = 0; node != to; hops++) {
+                    assertTrue(hops < nav.getNodeCount());
+                    node = profile.nextLink(node, to).getTo();
+                }
+            }
+        }
+    }
+
+    private static NavGraph.Profile profile(NavGraph nav, EnemyType type) {
+        EnemyArchetype a = EnemyArchetypes.get(type);
+        return nav.getProfile(a.getJumpForce(), a.getMoveSpeed(), a.getWidth(), a.getHeight());
+    }
+
+    private static int nodeAt(NavGraph nav, double x, double y) {
+        for (int i = 0; i < nav.getNodeCount(); i++) {
+            if (nav.getNodeY(i) == y && nav.getNodeLeft(i) <= x && x <= nav.getNodeRight(i)) return i;
+        }
+        throw new AssertionError("no node at " + x + "," + y);
+    }
+
+    private void assertTrue(boolean condition) {
+        if (!condition) {
+            throw new AssertionError("expected true");
+        }
+    }
+}
@@ -0,0 +1,80 @@
+import src.core.ItemType;
+import src.entities.Ak47Bullet;
+import src.items.ItemPickup;
+import src.util.ObjectPool;
+
+public class ObjectPoolTest {
+
+    @Test
+    void releasedObjectIsReusedAndReset() {
+        ObjectPool<Ak47Bullet> pool = new ObjectPool<>(() -> new Ak47Bullet(0, 0, 0, 0, 0), 4);
+
+        Ak47Bullet first = pool.acquire().init(10, 10, 300, 0, 2);
+        first.kill();
+        pool.release(first);
+
+        Ak47Bullet second = pool.acquire();
+
+        assertTrue(second == first);
+        assertTrue(second.isAlive());
+        assertEquals(1, pool.getHits());
+        assertEquals(1, pool.getMisses());
+    }
+
+    @Test
+    void highWaterTracksPeakUsage() {
+        ObjectPool<Ak47Bullet> pool = new ObjectPool<>(() -> new Ak47Bullet(0, 0, 0, 0, 0), 4);
+
+        Ak47Bullet a = pool.acquire();
+        Ak47Bullet b = pool.acquire();
+        Ak47Bullet c = pool.acquire();
+        pool.release(a);
+        pool.release(b);
+        pool.acquire();
+
+        assertEquals(3, pool.getHighWater());
+        assertEquals(2, pool.getInUse());
+        assertEquals(1, pool.getFreeCount());
+        assertTrue(c.isAlive());
+    }
+
+    @Test
+    void poolIsBounded() {
+        ObjectPool<Ak47Bullet> pool = new ObjectPool<>(() -> new Ak47Bullet(0, 0, 0, 0, 0), 1);
+
+        Ak47Bullet a = pool.acquire();
+        Ak47Bullet b = pool.acquire();
+        pool.release(a);
+        pool.release(b);
+
+        assertEquals(1, pool.getFreeCount());
+        assertEquals(1, pool.getDiscarded());
+    }
+
+    @Test
+    void recycledItemPickupTakesItsNewType() {
+        ObjectPool<ItemPickup> pool = new ObjectPool<>(() -> new ItemPickup(0, 0, ItemType.TIMER), 4);
+
+        ItemPickup timer = pool.acquire().init(10, 10, ItemType.TIMER);
+        timer.update(15.0);
+        timer.kill();
+        pool.release(timer);
+
+        ItemPickup ak = pool.acquire().init(20, 20, ItemType.AK47);
+        ak.update(30.0);
+
+        assertTrue(ak == timer);
+        assertTrue(ak.getType() == ItemType.AK47);
+        assertTrue(ak.isAlive());
+    }
+
+    private void assertTrue(boolean value) {
+        if (!value) throw new AssertionError("expected true");
+    }
+
+    private void assertEquals(long expected, long actual) {
+        if (expected != actual) {
+            throw new AssertionError("expected " + expected + " but was " + actual);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+import src.entities.Player;
+import src.input.KeyboardInput;
+import src.world.Level;
+import src.world.PhysicsWorld;
+import src.world.Platform;
+
+public class PhysicsWorldTest {
+
+    @Test
+    void largeStepDoesNotTunnelThroughPlatform() {
+        Level level = new Level();
+        // Au-dessus de la plateforme centrale (500, 480, 200x25), dessus à y = 445
+        Player player = new Player(575, 360, new KeyboardInput(), level);
+
+        level.getPhysicsWorld().step(0.15);
+
+        assertTrue(player.getY() + player.getHeight() <= 445.0 + 1e-6);
+        assertTrue(player.isOnGround());
+    }
+
+    @Test
+    void hitchIsSplitAndClampedToBudget() {
+        Level level = new Level();
+        new Player(575, 300, new KeyboardInput(), level);
+        PhysicsWorld world = level.getPhysicsWorld();
+
+        world.step(1.0);
+
+        assertEquals(1, world.getSubsteppedFrames());
+        assertEquals(1, world.getClampedFrames());
+        assertEquals(world.getMaxSubsteps(), world.getTotalSubsteps());
+    }
+
+    @Test
+    void fastBodyBeyondSubstepCapDoesNotTunnel() {
+        Level level = new Level();
+        PhysicsWorld world = level.getPhysicsWorld();
+        // Pieds 5 px au-dessus de la plateforme (285, 350, 200x25), en chute très
+        // rapide : 8 sous-pas de 1/60 s feraient sauter le corps par-dessus
+        Platform platform = level.getPlatforms().get(4);
+        double top = platform.y;
+        Player player = new Player(platform.x + 50, 0, new KeyboardInput(), level);
+        player.onPhysicsStep(platform.x + 50, top - 5 - player.getHeight(), 0, 60_000, 0);
+
+        world.step(1 / 60.0);
+
+        assertEquals(1, world.getClampedFrames());
+        assertTrue(player.getY() + player.getHeight() <= top + 1e-6);
+        assertTrue(player.isOnGround());
+    }
+
+    @Test
+    void groundedBodyRestsAndWakesWhenPlatformRemoved() {
+        Level level = new Level();
+        Player player = new Player(575, 360, new KeyboardInput(), level);
+        PhysicsWorld world = level.getPhysicsWorld();
+
+        for (int i = 0; i < 30; i++) world.step(1 / 60.0);
+        assertTrue(world.isResting(player));
+
+        level.removePlatform(level.getPlatforms().get(6));
+        assertFalse(world.isResting(player));
+
+        world.step(1 / 60.0);
+        assertFalse(player.isOnGround());
+    }
+
+    private void assertFalse(boolean value) {
+        if (value) throw new AssertionError("expected false");
+    }
+
+    private void assertEquals(long expected, long actual) {
+        if (expected != actual) throw new AssertionError("expected " + expected + " but was " + actual);
+    }
+
+    private void assertTrue(boolean value) {
+        if (!value) throw new AssertionError("expected true");
+    }
+}
@@ -0,0 +1,80 @@
+import java.nio.ByteBuffer;
+
+import src.core.ProjectileStore;
+
+public class ProjectileStoreTest {
+
+    @Test
+    void integrateMovesAllProjectiles() {
+        ProjectileStore store = new ProjectileStore();
+        store.add(0, 0, 100, 0, 10, 10, 1, 4, 1);
+        store.add(50, 50, 0, -200, 10, 10, 1, 4, 1);
+
+        store.integrate(0.5);
+
+        assertEquals(50.0, store.getX(0));
+        assertEquals(-50.0, store.getY(1));
+    }
+
+    @Test
+    void compactSwapRemovesOffscreenProjectiles() {
+        ProjectileStore store = new ProjectileStore();
+        store.add(-20, 10, 0, 0, 10, 10, 1, 4, 1);   // sorti à gauche
+        store.add(100, 10, 0, 0, 10, 10, 2, 4, 1);
+        store.add(10, 900, 0, 0, 10, 10, 3, 4, 1);   // sorti en bas
+        store.add(200, 10, 0, 0, 10, 10, 4, 4, 1);
+
+        store.cullOutside(800, 600);
+        store.compact();
+
+        assertEquals(2, store.size());
+        assertEquals(6, store.getDamage(0) + store.getDamage(1));
+    }
+
+    @Test
+    void storeGrowsPastInitialCapacity() {
+        ProjectileStore store = new ProjectileStore();
+        for (int i = 0; i < 1000; i++) {
+            store.add(i, 0, 0, 0, 1, 1, i, 4, 1);
+        }
+
+        assertEquals(1000, store.size());
+        assertEquals(999, store.getDamage(999));
+    }
+
+    @Test
+    void stateRoundTripsThroughBulkCopy() {
+        ProjectileStore store = new ProjectileStore();
+        for (int i = 0; i < 300; i++) {
+            store.add(i, 2 * i, 10, -10, 10, 10, i % 7, 4, 1);
+        }
+        ByteBuffer snapshot = ByteBuffer.allocateDirect(store.serializedSize());
+        store.writeTo(snapshot);
+        snapshot.flip();
+
+        ProjectileStore copy = new ProjectileStore();
+        copy.readFrom(snapshot);
+
+        assertEquals(300, copy.size());
+        assertEquals(598.0, copy.getY(299));
+        assertEquals(store.contentHash(), copy.contentHash());
+    }
+
+    @Test
+    void flagOverlappingMarksOnlyNearProjectiles() {
+        ProjectileStore store = new ProjectileStore();
+        store.add(95, 95, 0, 0, 10, 10, 1, 4, 1);    // chevauche le coin
+        store.add(300, 100, 0, 0, 10, 10, 1, 4, 1);  // loin
+
+        store.flagOverlapping(100, 100, 50, 50);
+
+        assertEquals(1, store.isNear(0) ? 1 : 0);
+        assertEquals(0, store.isNear(1) ? 1 : 0);
+    }
+
+    private void assertEquals(double expected, double actual) {
+        if (Math.abs(expected - actual) > 1e-9) {
+            throw new AssertionError("expected " + expected + " but was " + actual);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+import java.io.StringReader;
+
+import src.core.ProjectileManager;
+import src.core.SoundManager;
+import src.core.SpawnDirector;
+import src.core.TimeFreezeManager;
+import src.core.WaveManager;
+import src.core.WaveScripts;
+import src.entities.Player;
+import src.input.KeyboardInput;
+import src.world.Level;
+
+public class SpawnDirectorTest {
+
+    static {
+        // Les tirs et coups des ennemis ne lancent aucun son pendant les tests
+        SoundManager.setMuted(true);
+    }
+
+    @Test
+    void budgetIsSpentOverTheWaveAndGrows() throws Exception {
+        WaveManager waves = endless("cap = 500\n");
+
+        SpawnDirector director = waves.getSpawnDirector();
+        assertTrue(director != null && waves.getCurrentWaveNumber() == 2);
+        assertTrue(director.getBudget() == 12);
+
+        // Moitié de la vague : environ la moitié du budget
+        for (int t = 0; t < 300; t++) waves.update(1.0 / 60);
+        assertTrue(director.getSpent() <= 6 && director.getSpent() >= 2);
+
+        for (int t = 0; t < 299; t++) waves.update(1.0 / 60);
+        assertTrue(director.getSpent() >= 8 && director.getSpent() <= 12);
+
+        waves.goToNextWave();
+        assertTrue(waves.getCurrentWaveNumber() == 3);
+        assertTrue(director.getBudget() == 24);
+        assertTrue(waves.getEnemies().size() == director.getSpawnedCount());
+
+        WaveScripts.load();
+    }
+
+    @Test
+    void liveEntityCapIsNeverExceeded() throws Exception {
+        WaveManager waves = endless("cap = 5\n");
+
+        for (int t = 0; t < 1200; t++) {
+            waves.update(1.0 / 60);
+            assertTrue(waves.getEnemies().size() <= 5);
+        }
+        assertTrue(waves.getEnemies().size() == 5);
+        assertTrue(waves.getSpawnDirector().isCapped());
+
+        WaveScripts.load();
+    }
+
+    @Test
+    void capCountsOnlyLiveEnemies() throws Exception {
+        WaveManager waves = endless("cap = 5\n");
+        // Au milieu de la deuxième vague : crédit disponible, plafond atteint
+        for (int t = 0; t < 900; t++) waves.update(1.0 / 60);
+        assertTrue(waves.getEnemies().size() == 5);
+
+        // Un ennemi tué libère sa place dès le tick où il est encore dans la liste
+        waves.getEnemies().get(0).takeDamage(1000);
+        waves.update(1.0 / 60);
+        assertTrue(!waves.getSpawnDirector().isCapped());
+        assertTrue(waves.getEnemies().size() == 5);
+
+        WaveScripts.load();
+    }
+
+    /** Une courte vague scriptée vide, puis le mode sans fin. */
+    private WaveManager endless(String cap) throws Exception {
+        WaveScripts.load(new StringReader(
+                "[points]\ndefault = 550 350\n"
+                + "[wave]\nduration = 0.01\n"
+                + "[endless]\nduration = 10\nbudget = 12\ngrowth = 2\n" + cap
+                + "spawn = ENEMY01 cost 1\nspawn = ENEMY03 cost 4\n"));
+        Level level = new Level();
+        Player player = new Player(20, 600, new KeyboardInput(), level);
+        TimeFreezeManager freeze = new TimeFreezeManager();
+        WaveManager waves = new WaveManager(level, player,
+                new ProjectileManager(level, player, freeze), freeze);
+        waves.update(0.02);
+        return waves;
+    }
+
+    private void assertTrue(boolean condition) {
+        if (!condition) {
+            throw new AssertionError("expected true");
+        }
+    }
+}
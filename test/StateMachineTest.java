@@ -0,0 +1,83 @@
+import src.core.ProjectileManager;
+import src.core.TimeFreezeManager;
+import src.entities.Enemy;
+import src.entities.EnemyArchetype;
+import src.entities.EnemyArchetypes;
+import src.entities.EnemyState;
+import src.entities.EnemyType;
+import src.entities.Player;
+import src.entities.StateMachine;
+import src.input.KeyboardInput;
+import src.world.Level;
+
+public class StateMachineTest {
+
+    private static final double DT = 1.0 / 60;
+
+    @Test
+    void chargeTimerIsManagedByTheMachine() {
+        Enemy enemy = grounded(EnemyType.ENEMY01, 150);
+        enemy.setAttackToken(true);
+        double duration = enemy.getArchetype().getChargeDuration();
+
+        enemy.think(DT);
+        assertTrue(enemy.getState() == EnemyState.CHARGING);
+        assertTrue(enemy.getStateTime() == 0);
+
+        int ticks = 0;
+        while (enemy.getState() == EnemyState.CHARGING && ticks < 600) {
+            enemy.think(DT);
+            ticks++;
+        }
+        assertTrue(enemy.getState() == EnemyState.CHASING);
+        assertTrue(Math.abs(ticks * DT - duration) <= DT * 1.5);
+    }
+
+    @Test
+    void occupancyAndTransitionsAreCounted() {
+        Enemy enemy = grounded(EnemyType.ENEMY01, 150);
+        enemy.setAttackToken(true);
+        StateMachine<?> machine = enemy.getStateMachine();
+        machine.resetStatistics();
+
+        for (int t = 0; t < 10; t++) enemy.think(DT);
+
+        long total = 0;
+        for (EnemyState s : EnemyState.values()) total += machine.getOccupancy(s);
+        assertTrue(total == 10);
+        assertTrue(machine.getOccupancy(EnemyState.IDLE) == 1);
+        assertTrue(machine.getTransitionCount(EnemyState.IDLE, EnemyState.CHARGING) == 1);
+    }
+
+    @Test
+    void rangedEnemyPicksStateFromDistance() {
+        Enemy far = grounded(EnemyType.ENEMY02, 600);
+        far.think(DT);
+        assertTrue(far.getState() == EnemyState.CHASING);
+
+        EnemyArchetype a = EnemyArchetypes.get(EnemyType.ENEMY02);
+        Enemy near = grounded(EnemyType.ENEMY02, (a.getFleeRange() + a.getShootRange()) / 2);
+        near.think(DT);
+        assertTrue(near.getState() == EnemyState.SHOOTING);
+    }
+
+    /** Ennemi posé au sol à {@code distance} pixels à droite du joueur. */
+    private static Enemy grounded(EnemyType type, double distance) {
+        Level level = new Level();
+        Player player = new Player(100, 600, new KeyboardInput(), level);
+        ProjectileManager projectiles = new ProjectileManager(level, player, new TimeFreezeManager());
+        EnemyArchetype a = EnemyArchetypes.get(type);
+        Enemy e = type.create(a, player.getCenterX() + distance - a.getWidth() / 2, 600,
+                level, player, projectiles);
+        for (int t = 0; t < 60; t++) level.getPhysicsWorld().step(DT);
+        level.getSnapshot().capture(player, false);
+        level.getLineOfSight().update(player.getCenterX(), player.getCenterY());
+        return e;
+    }
+
+    private void assertTrue(boolean condition) {
+        if (!condition) {
+            throw new AssertionError("expected true");
+        }
+    }
+}
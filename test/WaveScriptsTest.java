@@ -0,0 +1,112 @@
+import java.io.StringReader;
+import java.util.List;
+
+import src.core.ProjectileManager;
+import src.core.SoundManager;
+import src.core.TimeFreezeManager;
+import src.core.WaveManager;
+import src.core.WaveScript;
+import src.core.WaveScripts;
+import src.entities.EnemyArchetypes;
+import src.entities.EnemyType;
+import src.entities.Player;
+import src.input.KeyboardInput;
+import src.world.Level;
+
+public class WaveScriptsTest {
+
+    static {
+        // Les tirs et coups des ennemis ne lancent aucun son pendant les tests
+        SoundManager.setMuted(true);
+    }
+
+    @Test
+    void defaultFileMatchesOriginalWaves() {
+        WaveScripts.load();
+
+        assertTrue(WaveScripts.getAll().size() == 3);
+        WaveScript third = WaveScripts.getAll().get(2);
+        assertTrue(third.getDuration() == 120);
+        assertTrue(third.getGroupCount() == 3);
+        assertTrue(third.getArchetype(2) == EnemyArchetypes.get(EnemyType.ENEMY03));
+        assertTrue(third.getPeriod(2) == 14.0);
+        assertTrue(third.getPointCount(0) == 8);
+    }
+
+    @Test
+    void groupOptionsAreParsed() throws Exception {
+        WaveScripts.load(new StringReader(
+                "[wave]\n"
+                + "duration = 30\n"
+                + "cap = 10\n"
+                + "spawn = ENEMY02 every 2 after 5 count 3 cap 4 at corners\n"
+                + "[points]\n"
+                + "default = 0 0\n"
+                + "corners = 20 100, 1220 100\n"));
+
+        WaveScript wave = WaveScripts.getAll().get(0);
+        assertTrue(wave.getCap() == 10);
+        assertTrue(wave.getStart(0) == 5);
+        assertTrue(wave.getCount(0) == 3);
+        assertTrue(wave.getCap(0) == 4);
+        assertTrue(wave.getPointCount(0) == 2);
+        assertTrue(wave.getPointX(0, 1) == 1220);
+
+        WaveScripts.load();
+    }
+
+    @Test
+    void invalidScriptIsRejected() throws Exception {
+        try {
+            WaveScripts.load(new StringReader(
+                    "[points]\ndefault = 0 0\n[wave]\nduration = 10\nspawn = INCONNU every 1\n"));
+            throw new AssertionError("archétype inconnu accepté");
+        } catch (IllegalArgumentException expected) {
+            // attendu
+        } finally {
+            WaveScripts.load();
+        }
+    }
+
+    @Test
+    void runnerSpawnsByScheduleAndRespectsCap() throws Exception {
+        WaveScripts.load(new StringReader(
+                "[points]\ndefault = 550 350\n"
+                + "[wave]\nduration = 10\nspawn = ENEMY01 every 1 count 2 cap 5\n"));
+        Level level = new Level();
+        Player player = new Player(20, 600, new KeyboardInput(), level);
+        TimeFreezeManager freeze = new TimeFreezeManager();
+        WaveManager waves = new WaveManager(level, player,
+                new ProjectileManager(level, player, freeze), freeze);
+
+        waves.update(0.1);
+        assertTrue(level.getEntities().size() == 2);
+        waves.update(0.5);
+        assertTrue(level.getEntities().size() == 2);
+        for (int i = 0; i < 10; i++) waves.update(1.0);
+        assertTrue(level.getEntities().size() == 5);
+
+        WaveScripts.load();
+    }
+
+    @Test
+    void managerWithOwnScriptsLeavesRegistryUntouched() {
+        WaveScripts.load();
+        Level level = new Level();
+        Player player = new Player(20, 600, new KeyboardInput(), level);
+        TimeFreezeManager freeze = new TimeFreezeManager();
+        WaveManager waves = new WaveManager(level, player, new ProjectileManager(level, player, freeze),
+                freeze, List.of(WaveScript.empty(10)), null);
+
+        for (int i = 0; i < 5; i++) waves.update(1.0);
+        assertTrue(waves.getWaveCount() == 1);
+        assertTrue(level.getEntities().isEmpty());
+        assertTrue(WaveScripts.getAll().size() == 3);
+    }
+
+    private void assertTrue(boolean condition) {
+        if (!condition) {
+            throw new AssertionError("expected true");
+        }
+    }
+}
@@ -0,0 +1,44 @@
+import src.entities.Player;
+import src.input.KeyboardInput;
+import src.world.Level;
+import src.world.WorldSnapshot;
+
+public class WorldSnapshotTest {
+
+    @Test
+    void captureFreezesPlayerStateUntilNextTick() {
+        Level level = new Level();
+        Player player = new Player(100, 200, new KeyboardInput(), level);
+        WorldSnapshot snapshot = level.getSnapshot();
+
+        snapshot.capture(player, true);
+        double centerX = player.getCenterX();
+        player.onPhysicsStep(500, 200, 0, 0, 0);
+
+        assertTrue(snapshot.getPlayerCenterX() == centerX);
+        assertTrue(snapshot.isFrozen());
+        assertTrue(snapshot.getTick() == 1);
+    }
+
+    @Test
+    void rangeTestsUseSquaredDistance() {
+        Level level = new Level();
+        Player player = new Player(100, 200, new KeyboardInput(), level);
+        WorldSnapshot snapshot = level.getSnapshot();
+        snapshot.capture(player, false);
+
+        double cx = player.getCenterX();
+        double cy = player.getCenterY();
+        assertTrue(snapshot.distanceSq(cx + 30, cy + 40) == 2500);
+        assertTrue(snapshot.isWithin(cx + 30, cy + 40, 50));
+        assertTrue(!snapshot.isWithin(cx + 30, cy + 40, 49.9));
+        assertTrue(snapshot.overlapsPlayer(cx, cy, 1, 1));
+        assertTrue(!snapshot.overlapsPlayer(cx + 500, cy, 1, 1));
+    }
+
+    private void assertTrue(boolean condition) {
+        if (!condition) {
+            throw new AssertionError("expected true");
+        }
+    }
+}